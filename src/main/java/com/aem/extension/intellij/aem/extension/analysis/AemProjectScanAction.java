@@ -0,0 +1,69 @@
+package com.aem.extension.intellij.aem.extension.analysis;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileTypes.PlainTextFileType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.testFramework.LightVirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Project Scan Action.
+ * <p>
+ * Scans all modules by {@link AemProjectScanner} with cancellable progress and opens report of
+ * orphan components, Sling Models not used by HTL files and injected fields, which are never read.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemProjectScanAction extends AnAction {
+
+  private static final String ERROR_TITLE = "Cannot scan AEM project";
+  private static final String PROGRESS_TITLE = "Scanning AEM components and Sling Models";
+  private static final String REPORT_FILE_NAME = "AEM Scan Report.txt";
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void update(@NotNull AnActionEvent event) {
+    event.getPresentation().setEnabledAndVisible(event.getProject() != null);
+  }
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    if (project == null) {
+      return;
+    }
+    new Task.Backgroundable(project, PROGRESS_TITLE, true) {
+
+      private AemScanResult result;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(true);
+        result = AemProjectScanner.scan(project, indicator);
+      }
+
+      @Override
+      public void onSuccess() {
+        LightVirtualFile report = new LightVirtualFile(REPORT_FILE_NAME,
+            PlainTextFileType.INSTANCE, result.render());
+        report.setWritable(false);
+        FileEditorManager.getInstance(project).openFile(report, true);
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        Messages.showErrorDialog(project, error.getMessage(), ERROR_TITLE);
+      }
+    }.queue();
+  }
+}
@@ -0,0 +1,412 @@
+package com.aem.extension.intellij.aem.extension.analysis;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.AemClassIndex;
+import com.aem.extension.intellij.aem.extension.index.AemClassInfo;
+import com.aem.extension.intellij.aem.extension.index.ComponentIndex;
+import com.aem.extension.intellij.aem.extension.index.ComponentInfo;
+import com.aem.extension.intellij.aem.extension.index.DocViewReader;
+import com.aem.extension.intellij.aem.extension.index.DocViewValues;
+import com.aem.extension.intellij.aem.extension.index.HtlUseIndex;
+import com.aem.extension.intellij.aem.extension.usage.AemAnnotations;
+import com.aem.extension.intellij.aem.extension.usage.AemRole;
+import com.aem.extension.intellij.aem.extension.usage.FileImports;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassObjectAccessExpression;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AEM Project Scanner.
+ * <p>
+ * Scans content of all modules in parallel: each module is scanned by its own fork-join task.
+ * Files of module are listed first and scanned in small batches, each in its own cancellable
+ * non-blocking read action in smart mode, so a write action restarts only the current batch and
+ * the scan never holds read lock for long. Components, Sling Models and HTL uses are taken from
+ * plugin indexes; references by resource type are found by scanning text of '.content.xml' and
+ * HTL files, and by paths of nodes in policy mappings, which are streamed by
+ * {@link DocViewReader}. Sling Models are used by HTL files by their own names, by names of
+ * their adapters or by names of their super types.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemProjectScanner {
+
+  private static final Logger LOGGER = Logger.getInstance(AemProjectScanner.class);
+
+  private static final String FIELD_SEPARATOR = "#";
+  private static final String HTL_EXTENSION = "html";
+  private static final char PATH_SEPARATOR = '/';
+  private static final String POLICIES_SEGMENT = "/policies/";
+  private static final String CQ_POLICY = "cq:policy";
+  private static final String ADAPTERS_ATTRIBUTE = "adapters";
+  private static final int BATCH_SIZE = 50;
+  private static final Pattern XML_REFERENCE_PATTERN =
+      Pattern.compile("sling:resource(?:Super)?Type=\"([^\"]+)\"");
+  private static final Pattern ALLOWED_COMPONENTS_PATTERN =
+      Pattern.compile("\\scomponents=\"([^\"]*)\"");
+  private static final Pattern HTL_REFERENCE_PATTERN =
+      Pattern.compile("resource(?:Super)?Type\\s*=\\s*(['\"])([^'\"]+)\\1");
+
+  private AemProjectScanner() {
+  }
+
+  /**
+   * @param project current project;
+   * @param indicator progress indicator, which cancels scan;
+   * @return merged facts of all modules;
+   */
+  public static AemScanResult scan(Project project, ProgressIndicator indicator) {
+    Module[] modules = ModuleManager.getInstance(project).getModules();
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    try {
+      return pool.invoke(new ProjectTask(project, modules, indicator));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * @param project current project;
+   * @param module module to scan;
+   * @param indicator progress indicator, which cancels scan;
+   * @return facts of module;
+   */
+  private static AemScanResult scanModule(Project project, Module module,
+      ProgressIndicator indicator) {
+    List<VirtualFile> files = ReadAction.nonBlocking(() -> collectFiles(module))
+        .wrapProgress(indicator)
+        .executeSynchronously();
+    AemScanResult result = new AemScanResult();
+    for (int from = 0; from < files.size(); from += BATCH_SIZE) {
+      List<VirtualFile> batch = files.subList(from, Math.min(from + BATCH_SIZE, files.size()));
+      result.merge(ReadAction.nonBlocking(() -> scanFiles(project, batch))
+          .inSmartMode(project)
+          .wrapProgress(indicator)
+          .executeSynchronously());
+    }
+    return result;
+  }
+
+  /**
+   * @param module module to scan;
+   * @return content files of module, which are scanned;
+   */
+  private static List<VirtualFile> collectFiles(Module module) {
+    List<VirtualFile> files = new ArrayList<>();
+    if (module.isDisposed()) {
+      return files;
+    }
+    ModuleRootManager.getInstance(module).getFileIndex().iterateContent(file -> {
+      ProgressManager.checkCanceled();
+      if (!file.isDirectory() && (CONTENT_XML_FILE_NAME.equals(file.getName())
+          || HTL_EXTENSION.equals(file.getExtension())
+          || file.getFileType() == JavaFileType.INSTANCE)) {
+        files.add(file);
+      }
+      return true;
+    });
+    return files;
+  }
+
+  /**
+   * Facts are collected into new result, so restarted read action doesn't duplicate them;
+   * @param project current project;
+   * @param files batch of files to scan;
+   * @return facts of files;
+   */
+  private static AemScanResult scanFiles(Project project, List<VirtualFile> files) {
+    AemScanResult result = new AemScanResult();
+    for (VirtualFile file : files) {
+      ProgressManager.checkCanceled();
+      if (file.isValid()) {
+        scanFile(project, file, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param project current project;
+   * @param file file to scan;
+   * @param result facts of module;
+   */
+  private static void scanFile(Project project, VirtualFile file, AemScanResult result) {
+    if (CONTENT_XML_FILE_NAME.equals(file.getName())) {
+      scanContentXml(project, file, result);
+    } else if (HTL_EXTENSION.equals(file.getExtension())) {
+      scanHtl(project, file, result);
+    } else if (file.getFileType() == JavaFileType.INSTANCE) {
+      scanJava(project, file, result);
+    }
+  }
+
+  /**
+   * @param project current project;
+   * @param file '.content.xml' file;
+   * @param result facts of module;
+   */
+  private static void scanContentXml(Project project, VirtualFile file, AemScanResult result) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    Map<String, ComponentInfo> components = index.getFileData(ComponentIndex.NAME, file, project);
+    ComponentInfo component = components.get(ComponentIndex.COMPONENT_KEY);
+    if (component != null) {
+      result.addComponent(component.withResourceType(ComponentIndex.getResourceType(file)),
+          file.getPath());
+    }
+    CharSequence text = LoadTextUtil.loadText(file);
+    Matcher referenceMatcher = XML_REFERENCE_PATTERN.matcher(text);
+    while (referenceMatcher.find()) {
+      addReference(referenceMatcher.group(1), result);
+    }
+    Matcher allowedMatcher = ALLOWED_COMPONENTS_PATTERN.matcher(text);
+    while (allowedMatcher.find()) {
+      for (String reference : DocViewValues.getStrings(allowedMatcher.group(1))) {
+        result.addReference(ComponentIndex.normalizeResourceType(reference));
+      }
+    }
+    if (file.getPath().contains(POLICIES_SEGMENT)) {
+      scanPolicyMappings(file, result);
+    }
+  }
+
+  /**
+   * Policy mapping of component is a node with 'cq:policy' property, which path below the
+   * mapping root repeats resource type of component;
+   * @param file '.content.xml' file of policies;
+   * @param result facts of module;
+   */
+  private static void scanPolicyMappings(VirtualFile file, AemScanResult result) {
+    try (InputStream input = file.getInputStream()) {
+      DocViewReader.read(input, Set.of(CQ_POLICY), node -> {
+        if (node.getDepth() > 0 && node.hasProperty(CQ_POLICY)) {
+          String path = node.getPath();
+          result.addReference(path);
+          for (int i = path.indexOf(PATH_SEPARATOR); i >= 0;
+              i = path.indexOf(PATH_SEPARATOR, i + 1)) {
+            result.addReference(path.substring(i + 1));
+          }
+        }
+        return true;
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when reading policies [%s]", file.getPath()), e);
+    } catch (IllegalArgumentException e) {
+      LOGGER.debug(String.format("Malformed policies [%s] skipped", file.getPath()), e);
+    }
+  }
+
+  /**
+   * @param project current project;
+   * @param file HTL file;
+   * @param result facts of module;
+   */
+  private static void scanHtl(Project project, VirtualFile file, AemScanResult result) {
+    Map<String, Set<String>> uses =
+        FileBasedIndex.getInstance().getFileData(HtlUseIndex.NAME, file, project);
+    result.addUsedClasses(uses.keySet());
+    Matcher referenceMatcher = HTL_REFERENCE_PATTERN.matcher(LoadTextUtil.loadText(file));
+    while (referenceMatcher.find()) {
+      addReference(referenceMatcher.group(2), result);
+    }
+  }
+
+  /**
+   * Injected field is treated as read, if its class has any reference expression with its name,
+   * so fields are checked without resolve;
+   * @param project current project;
+   * @param file Java file;
+   * @param result facts of module;
+   */
+  private static void scanJava(Project project, VirtualFile file, AemScanResult result) {
+    Map<String, AemClassInfo> classInfos =
+        FileBasedIndex.getInstance().getFileData(AemClassIndex.NAME, file, project);
+    if (classInfos.isEmpty()) {
+      return;
+    }
+    PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return;
+    }
+    FileImports imports = FileImports.of((PsiJavaFile) psiFile);
+    for (PsiClass psiClass : PsiTreeUtil.findChildrenOfType(psiFile, PsiClass.class)) {
+      String qualifiedName = psiClass.getQualifiedName();
+      AemClassInfo classInfo = qualifiedName == null ? null : classInfos.get(qualifiedName);
+      if (classInfo == null) {
+        continue;
+      }
+      if (classInfo.getRole() == AemRole.SLING_MODEL) {
+        result.addModel(qualifiedName, getModelAliases(psiClass, imports), file.getPath());
+      }
+      for (String fieldName : classInfo.getInjectedFields()) {
+        PsiField field = psiClass.findFieldByName(fieldName, false);
+        if (field != null && field.hasModifierProperty(PsiModifier.PRIVATE)
+            && !isReferenced(psiClass, fieldName)) {
+          result.addUnreadField(qualifiedName + FIELD_SEPARATOR + fieldName, file.getPath());
+        }
+      }
+    }
+  }
+
+  /**
+   * HTL files may use model by name of its adapter, or by name of its super type, usually an
+   * interface, so all these names are aliases of model;
+   * @param psiClass class of Sling Model;
+   * @param imports imports of file;
+   * @return qualified names of adapters and super types of model;
+   */
+  private static Set<String> getModelAliases(PsiClass psiClass, FileImports imports) {
+    Set<String> aliases = new LinkedHashSet<>();
+    PsiAnnotation modelAnnotation = AemAnnotations.MODEL_FILTER.findAnnotation(psiClass, imports);
+    PsiAnnotationMemberValue adapters = modelAnnotation == null ? null
+        : modelAnnotation.findDeclaredAttributeValue(ADAPTERS_ATTRIBUTE);
+    if (adapters instanceof PsiArrayInitializerMemberValue) {
+      for (PsiAnnotationMemberValue adapter
+          : ((PsiArrayInitializerMemberValue) adapters).getInitializers()) {
+        addAdapter(adapter, aliases);
+      }
+    } else {
+      addAdapter(adapters, aliases);
+    }
+    Set<PsiClass> superClasses = new HashSet<>();
+    InheritanceUtil.getSuperClasses(psiClass, superClasses, true);
+    for (PsiClass superClass : superClasses) {
+      if (superClass.getQualifiedName() != null) {
+        aliases.add(superClass.getQualifiedName());
+      }
+    }
+    return aliases;
+  }
+
+  /**
+   * @param adapter value of 'adapters' attribute, may be null;
+   * @param aliases qualified names of adapters to fill;
+   */
+  private static void addAdapter(PsiAnnotationMemberValue adapter, Set<String> aliases) {
+    if (!(adapter instanceof PsiClassObjectAccessExpression)) {
+      return;
+    }
+    PsiClass adapterClass = PsiTypesUtil.getPsiClass(
+        ((PsiClassObjectAccessExpression) adapter).getOperand().getType());
+    if (adapterClass != null && adapterClass.getQualifiedName() != null) {
+      aliases.add(adapterClass.getQualifiedName());
+    }
+  }
+
+  /**
+   * @param psiClass class of field;
+   * @param fieldName name of field;
+   * @return true if class has reference expression with name of field;
+   */
+  private static boolean isReferenced(PsiClass psiClass, String fieldName) {
+    for (PsiReferenceExpression reference
+        : PsiTreeUtil.findChildrenOfType(psiClass, PsiReferenceExpression.class)) {
+      if (fieldName.equals(reference.getReferenceName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param reference raw resource type or 'group:' prefixed component group;
+   * @param result facts of module;
+   */
+  private static void addReference(String reference, AemScanResult result) {
+    result.addReference(ComponentIndex.normalizeResourceType(DocViewValues.getString(reference)));
+  }
+
+  /**
+   * Task, which forks one subtask per module and merges their results.
+   */
+  private static final class ProjectTask extends RecursiveTask<AemScanResult> {
+
+    private final Project project;
+    private final Module[] modules;
+    private final ProgressIndicator indicator;
+
+    private ProjectTask(Project project, Module[] modules, ProgressIndicator indicator) {
+      this.project = project;
+      this.modules = modules;
+      this.indicator = indicator;
+    }
+
+    /**
+     * @return merged facts of all modules;
+     */
+    @Override
+    protected AemScanResult compute() {
+      List<ModuleTask> tasks = new ArrayList<>();
+      for (Module module : modules) {
+        tasks.add(new ModuleTask(project, module, indicator));
+      }
+      AemScanResult result = new AemScanResult();
+      for (ModuleTask task : ForkJoinTask.invokeAll(tasks)) {
+        result.merge(task.join());
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Task, which scans one module.
+   */
+  private static final class ModuleTask extends RecursiveTask<AemScanResult> {
+
+    private final Project project;
+    private final Module module;
+    private final ProgressIndicator indicator;
+
+    private ModuleTask(Project project, Module module, ProgressIndicator indicator) {
+      this.project = project;
+      this.module = module;
+      this.indicator = indicator;
+    }
+
+    /**
+     * @return facts of module;
+     */
+    @Override
+    protected AemScanResult compute() {
+      return scanModule(project, module, indicator);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.aem.extension.intellij.aem.extension.analysis;
+
+import com.aem.extension.intellij.aem.extension.index.ComponentInfo;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * AEM Scan Result.
+ * <p>
+ * Facts, collected from one module by {@link AemProjectScanner}. Results of modules are merged
+ * first and compared afterwards, because a component or model of one module is usually referenced
+ * from another one.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemScanResult {
+
+  private static final String GROUP_PREFIX = "group:";
+  private static final String NEW_LINE = "\n";
+  private static final String NONE = "  none" + NEW_LINE;
+  private static final String REPORT_LINE_FORMAT = "  %s (%s)" + NEW_LINE;
+
+  private final Map<String, String> componentPaths = new TreeMap<>();
+  private final Map<String, String> componentGroups = new TreeMap<>();
+  private final Map<String, String> modelPaths = new TreeMap<>();
+  private final Map<String, Set<String>> modelAliases = new HashMap<>();
+  private final Map<String, String> unreadFieldPaths = new TreeMap<>();
+  private final Set<String> referencedResourceTypes = new HashSet<>();
+  private final Set<String> referencedGroups = new HashSet<>();
+  private final Set<String> usedClasses = new HashSet<>();
+
+  /**
+   * @param component info of component;
+   * @param path path of '.content.xml' file of component;
+   */
+  void addComponent(ComponentInfo component, String path) {
+    componentPaths.put(component.getResourceType(), path);
+    componentGroups.put(component.getResourceType(), component.getGroup());
+  }
+
+  /**
+   * @param qualifiedName qualified name of Sling Model;
+   * @param aliases qualified names of adapters and super types, by which model may be used;
+   * @param path path of Java file of model;
+   */
+  void addModel(String qualifiedName, Set<String> aliases, String path) {
+    modelPaths.put(qualifiedName, path);
+    modelAliases.put(qualifiedName, aliases);
+  }
+
+  /**
+   * @param field qualified name of class and name of field, joined with '#';
+   * @param path path of Java file of field;
+   */
+  void addUnreadField(String field, String path) {
+    unreadFieldPaths.put(field, path);
+  }
+
+  /**
+   * @param reference resource type, or 'group:' prefixed component group;
+   */
+  void addReference(String reference) {
+    if (reference.startsWith(GROUP_PREFIX)) {
+      referencedGroups.add(reference.substring(GROUP_PREFIX.length()).trim());
+    } else if (!reference.isEmpty()) {
+      referencedResourceTypes.add(reference);
+    }
+  }
+
+  /**
+   * @param classNames qualified names of classes, used by HTL file;
+   */
+  void addUsedClasses(Set<String> classNames) {
+    usedClasses.addAll(classNames);
+  }
+
+  /**
+   * @param other result of another module;
+   * @return this result with facts of another module;
+   */
+  AemScanResult merge(AemScanResult other) {
+    componentPaths.putAll(other.componentPaths);
+    componentGroups.putAll(other.componentGroups);
+    modelPaths.putAll(other.modelPaths);
+    modelAliases.putAll(other.modelAliases);
+    unreadFieldPaths.putAll(other.unreadFieldPaths);
+    referencedResourceTypes.addAll(other.referencedResourceTypes);
+    referencedGroups.addAll(other.referencedGroups);
+    usedClasses.addAll(other.usedClasses);
+    return this;
+  }
+
+  /**
+   * @return resource types of components, which aren't referenced by resource type or group, with
+   * paths of their files;
+   */
+  public Map<String, String> getOrphanComponents() {
+    Map<String, String> orphanComponents = new TreeMap<>();
+    componentPaths.forEach((resourceType, path) -> {
+      if (!referencedResourceTypes.contains(resourceType)
+          && !referencedGroups.contains(componentGroups.get(resourceType))) {
+        orphanComponents.put(resourceType, path);
+      }
+    });
+    return orphanComponents;
+  }
+
+  /**
+   * @return qualified names of Sling Models, which aren't used by HTL files by their names,
+   * adapters or super types, with paths of their files;
+   */
+  public Map<String, String> getUnusedModels() {
+    Map<String, String> unusedModels = new TreeMap<>();
+    modelPaths.forEach((qualifiedName, path) -> {
+      if (!usedClasses.contains(qualifiedName) && modelAliases.getOrDefault(qualifiedName,
+          Set.of()).stream().noneMatch(usedClasses::contains)) {
+        unusedModels.put(qualifiedName, path);
+      }
+    });
+    return unusedModels;
+  }
+
+  /**
+   * @return injected fields, which are never read, with paths of their files;
+   */
+  public Map<String, String> getUnreadFields() {
+    return unreadFieldPaths;
+  }
+
+  /**
+   * @return plain text report;
+   */
+  public String render() {
+    StringBuilder report = new StringBuilder();
+    appendSection(report, "Components not referenced by templates, policies or HTL files",
+        getOrphanComponents());
+    appendSection(report, "Sling Models not used by HTL files", getUnusedModels());
+    appendSection(report, "Injected fields never read", getUnreadFields());
+    return report.toString();
+  }
+
+  /**
+   * @param report report to fill;
+   * @param title title of section;
+   * @param paths paths of reported items by their names;
+   */
+  private static void appendSection(StringBuilder report, String title, Map<String, String> paths) {
+    report.append(title).append(" (").append(paths.size()).append("):").append(NEW_LINE);
+    if (paths.isEmpty()) {
+      report.append(NONE);
+    }
+    for (Map.Entry<String, String> entry : paths.entrySet()) {
+      report.append(String.format(REPORT_LINE_FORMAT, entry.getKey(), entry.getValue()));
+    }
+    report.append(NEW_LINE);
+  }
+}
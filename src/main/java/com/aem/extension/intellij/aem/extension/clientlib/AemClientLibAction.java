@@ -1,22 +1,23 @@
 package com.aem.extension.intellij.aem.extension.clientlib;
 
-import static com.aem.extension.intellij.aem.extension.component.AemComponentAction.CARRIAGE_RETURN;
-import static com.aem.extension.intellij.aem.extension.component.AemComponentAction.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.clientlib.AemClientLibDialogWrapper.CLIENT_LIB_EXISTS_VALIDATION_MESSAGE;
 import static com.aem.extension.intellij.aem.extension.component.AemComponentAction.DIALOG_EXIT_CODE;
-import static com.aem.extension.intellij.aem.extension.utils.FileContentFetcherUtil.getFileContentFromTemplate;
-import static io.netty.util.internal.StringUtil.EMPTY_STRING;
-
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CLIENT_LIBRARY;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner;
+import com.aem.extension.intellij.aem.extension.generation.ClientLibSpec;
+import com.aem.extension.intellij.aem.extension.utils.GeneratedFilesWriter;
+import com.aem.extension.intellij.aem.extension.utils.GenerationRunner;
+import com.intellij.ide.IdeView;
 import com.intellij.ide.actions.CreateElementActionBase;
-import com.intellij.ide.highlighter.custom.SyntaxTable;
-import com.intellij.lang.xml.XMLLanguage;
-import com.intellij.openapi.application.Application;
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.fileTypes.impl.AbstractFileType;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.DataContext;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileFactory;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 
@@ -29,27 +30,12 @@ import org.jetbrains.annotations.NotNull;
  */
 public class AemClientLibAction extends CreateElementActionBase {
 
-  public static final String CLIENT_LIBRARY = "clientLibrary";
-
   private static final String ACTION_NAME = "Create new client library";
   private static final String ERROR_TITLE = "Cannot create new client library";
-  private static final String CONTENT_XML_TEMPLATE_PATH = "templates/ClientLibContentTemplate.txt";
-  private static final String CLIENT_LIBRARY_CATEGORIES_SPECIFIER = "ClientLibsCategories";
-  private static final String CSS_DIRECTORY_NAME = "css";
-  private static final String CSS_FILE_NAME = "style.css";
-  private static final String CSS_TXT_FILE_NAME = "css.txt";
-  private static final String FILE_PATH_FORMAT_TEMPLATE = "%s/%s";
-  private static final String JS_DIRECTORY_NAME = "js";
-  private static final String JS_FILE_NAME = "script.js";
-  private static final String JS_TXT_FILE_NAME = "js.txt";
-  private static final String LESS_FILE_NAME = "style.less";
-
-  private Project currentProject;
-  private boolean generateCssFile;
-  private boolean generateLessFile;
-  private boolean generateJsFile;
 
   /**
+   * Files are prepared in background and created by one short write command, all request state is
+   * kept in the immutable client library specification;
    * @param project current project;
    * @param directory of AEM component;
    * @param elementsConsumer Psi elements;
@@ -57,34 +43,56 @@ public class AemClientLibAction extends CreateElementActionBase {
   @Override
   protected void invokeDialog(@NotNull Project project, @NotNull PsiDirectory directory,
       @NotNull Consumer<PsiElement[]> elementsConsumer) {
-    currentProject = project;
     var aemClientLibDialogWrapper = new AemClientLibDialogWrapper(directory);
 
     if (aemClientLibDialogWrapper.showAndGet()) {
-      String categories = aemClientLibDialogWrapper.getCategories();
-      generateCssFile = aemClientLibDialogWrapper.getGenerateCssFile();
-      generateLessFile = aemClientLibDialogWrapper.getGenerateLessFile();
-      generateJsFile = aemClientLibDialogWrapper.getGenerateJsFile();
-      create(categories, directory);
+      ClientLibSpec spec = new ClientLibSpec(aemClientLibDialogWrapper.getCategories(),
+          aemClientLibDialogWrapper.getGenerateCssFile(),
+          aemClientLibDialogWrapper.getGenerateLessFile(),
+          aemClientLibDialogWrapper.getGenerateJsFile());
       aemClientLibDialogWrapper.close(DIALOG_EXIT_CODE);
+      GenerationRunner.run(project, directory, ACTION_NAME, ERROR_TITLE,
+          AemClientLibAction::validate, () -> AemFilesPlanner.planClientLib(spec));
     }
   }
 
   /**
+   * Creates client library without style and script files, synchronously in one undoable command;
    * @param categories of component's client library;
    * @param directory of AEM component;
    * @return new PsiElement;
    */
   @Override
   protected PsiElement @NotNull [] create(@NotNull String categories, PsiDirectory directory) {
-    Application application = ApplicationManager.getApplication();
-    application.runWriteAction(() -> {
-      PsiDirectory clientLibDirectory = directory.createSubdirectory(CLIENT_LIBRARY);
-      generateRequiredFiles(categories, clientLibDirectory);
-    });
+    ClientLibSpec spec = new ClientLibSpec(categories, false, false, false);
+    WriteCommandAction.writeCommandAction(directory.getProject())
+        .withName(ACTION_NAME)
+        .run(() -> GeneratedFilesWriter.write(directory, AemFilesPlanner.planClientLib(spec)));
     return new PsiElement[0];
   }
 
+  /**
+   * Action is available only in client library locations of content packages, which are checked by
+   * cached content roots without file system scan;
+   * @param dataContext data context of action;
+   * @return true if one of selected directories is client library location;
+   */
+  @Override
+  protected boolean isAvailable(DataContext dataContext) {
+    Project project = CommonDataKeys.PROJECT.getData(dataContext);
+    IdeView view = LangDataKeys.IDE_VIEW.getData(dataContext);
+    if (project == null || view == null) {
+      return false;
+    }
+    ContentRootService contentRootService = ContentRootService.getInstance(project);
+    for (PsiDirectory directory : view.getDirectories()) {
+      if (contentRootService.isClientLibLocation(directory.getVirtualFile())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @return constant error title;
    */
@@ -104,71 +112,13 @@ public class AemClientLibAction extends CreateElementActionBase {
   }
 
   /**
-   * Method for generation under newly created directory;
-   * @param componentTitle title of AEM component, required for files generation;
-   * @param directory of client library;
+   * @param directory of AEM component;
+   * @return validation error message, or null if client library can be created;
    */
-  private void generateRequiredFiles(String componentTitle, PsiDirectory directory) {
-    PsiFileFactory factory = PsiFileFactory.getInstance(currentProject);
-
-    String contentXmlFileContent = getFileContentFromTemplate(CONTENT_XML_TEMPLATE_PATH)
-        .replace(CARRIAGE_RETURN, EMPTY_STRING)
-        .replace(CLIENT_LIBRARY_CATEGORIES_SPECIFIER, componentTitle);
-    PsiFile contentXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME, XMLLanguage.INSTANCE,
-        contentXmlFileContent);
-    directory.add(contentXmlFile);
-
-    if (generateCssFile) {
-      PsiDirectory cssDirectory = directory.createSubdirectory(CSS_DIRECTORY_NAME);
-      PsiFile cssFile = factory.createFileFromText(CSS_FILE_NAME,
-          new AbstractFileType(new SyntaxTable()), EMPTY_STRING);
-      cssDirectory.add(cssFile);
-
-      PsiFile cssTxtFile = factory.createFileFromText(CSS_TXT_FILE_NAME,
-          new AbstractFileType(new SyntaxTable()),
-          String.format(FILE_PATH_FORMAT_TEMPLATE, CSS_DIRECTORY_NAME, CSS_FILE_NAME));
-      directory.add(cssTxtFile);
-    }
-
-    if (generateLessFile) {
-      PsiDirectory cssDirectory = directory.findSubdirectory(CSS_DIRECTORY_NAME);
-      if (cssDirectory == null) {
-        cssDirectory = directory.createSubdirectory(CSS_DIRECTORY_NAME);
-        PsiFile lessFile = factory.createFileFromText(LESS_FILE_NAME,
-            new AbstractFileType(new SyntaxTable()), EMPTY_STRING);
-        cssDirectory.add(lessFile);
-
-        PsiFile cssTxtFile = factory.createFileFromText(CSS_TXT_FILE_NAME,
-            new AbstractFileType(new SyntaxTable()),
-            String.format(FILE_PATH_FORMAT_TEMPLATE, CSS_DIRECTORY_NAME, LESS_FILE_NAME));
-        directory.add(cssTxtFile);
-      } else {
-        PsiFile lessFile = factory.createFileFromText(LESS_FILE_NAME,
-            new AbstractFileType(new SyntaxTable()), EMPTY_STRING);
-        cssDirectory.add(lessFile);
-
-        PsiFile cssTxtFile = directory.findFile(CSS_TXT_FILE_NAME);
-        if (cssTxtFile != null) {
-          cssTxtFile.delete();
-          PsiFile newCssTxtFile = factory.createFileFromText(CSS_TXT_FILE_NAME,
-              new AbstractFileType(new SyntaxTable()),
-              CSS_DIRECTORY_NAME + "/" + CSS_FILE_NAME + "\n" + CSS_DIRECTORY_NAME + "/"
-                  + LESS_FILE_NAME);
-          directory.add(newCssTxtFile);
-        }
-      }
-    }
-
-    if (generateJsFile) {
-      PsiDirectory jsDirectory = directory.createSubdirectory(JS_DIRECTORY_NAME);
-      PsiFile jsFile = factory.createFileFromText(JS_FILE_NAME,
-          new AbstractFileType(new SyntaxTable()), EMPTY_STRING);
-      jsDirectory.add(jsFile);
-
-      PsiFile jsTxtFile = factory.createFileFromText(JS_TXT_FILE_NAME,
-          new AbstractFileType(new SyntaxTable()),
-          String.format(FILE_PATH_FORMAT_TEMPLATE, JS_DIRECTORY_NAME, JS_FILE_NAME));
-      directory.add(jsTxtFile);
+  private static String validate(PsiDirectory directory) {
+    if (directory.findSubdirectory(CLIENT_LIBRARY) != null) {
+      return CLIENT_LIB_EXISTS_VALIDATION_MESSAGE;
     }
+    return null;
   }
 }
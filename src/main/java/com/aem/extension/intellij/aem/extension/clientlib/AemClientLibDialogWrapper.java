@@ -1,23 +1,25 @@
 package com.aem.extension.intellij.aem.extension.clientlib;
 
-import static com.aem.extension.intellij.aem.extension.clientlib.AemClientLibAction.CLIENT_LIBRARY;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CLIENT_LIBRARY;
 import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.LEFT_AND_RIGHT_MARGIN;
 import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.TOP_AND_BOTTOM_MARGIN;
 
+import com.aem.extension.intellij.aem.extension.utils.AsyncValidator;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
 import com.intellij.psi.PsiDirectory;
+import com.intellij.ui.TextFieldWithAutoCompletion;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.JBUI.Borders;
 import com.twelvemonkeys.lang.StringUtil;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
+import java.util.Set;
 import javax.swing.JCheckBox;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
-import javax.swing.JTextField;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -32,27 +34,33 @@ public class AemClientLibDialogWrapper extends DialogWrapper {
 
   private static final String EMPTY_CATEGORIES_VALIDATION_MESSAGE = "Client lib categories can't be empty";
   private static final String CLIENT_LIB_DIALOG_TITLE = "Create new client library";
-  private static final String CLIENT_LIB_EXISTS_VALIDATION_MESSAGE = "Client library in current component already exists";
+  public static final String CLIENT_LIB_EXISTS_VALIDATION_MESSAGE = "Client library in current component already exists";
   private static final String GENERATE_CSS_FILE = "Generate css file";
   private static final String GENERATE_LESS_FILE = "Generate less file";
   private static final String GENERATE_JS_FILE = "Generate js file";
   private static final String CLIENT_LIBRARY_CATEGORIES = "Client library categories";
+  private static final String DUPLICATE_CATEGORY_VALIDATION_MESSAGE = "Category '%s' is already defined in %s";
+  private static final String CATEGORIES_SEPARATOR = ",";
 
   private static final int DIALOG_HEIGHT = 140;
   private static final int DIALOG_WIDTH = 400;
 
   private final PsiDirectory directory;
 
-  private JTextField categories;
+  private TextFieldWithAutoCompletion<String> categories;
   private JCheckBox generateCssFile;
   private JCheckBox generateLessFile;
   private JCheckBox generateJsFile;
+  private final AsyncValidator<String> categoriesValidator;
 
   protected AemClientLibDialogWrapper(PsiDirectory directory) {
     super(true);
     this.directory = directory;
     init();
     setTitle(CLIENT_LIB_DIALOG_TITLE);
+    categoriesValidator = new AsyncValidator<>(directory.getProject(), getDisposable(),
+        this::validateCategories);
+    initValidation();
   }
 
   /**
@@ -76,7 +84,8 @@ public class AemClientLibDialogWrapper extends DialogWrapper {
     constraints.gridy = 1;
     componentPanel.add(checkBoxPanel, constraints);
 
-    categories = new JTextField();
+    categories = new TextFieldWithAutoCompletion<>(directory.getProject(),
+        new ClientLibCategoryCompletionProvider(directory.getProject()), true, null);
 
     generateCssFile = new JCheckBox(GENERATE_CSS_FILE);
     generateLessFile = new JCheckBox(GENERATE_LESS_FILE);
@@ -109,7 +118,7 @@ public class AemClientLibDialogWrapper extends DialogWrapper {
 
   /**
    * Method for validation of specified client library categories;
-   * Also validate if client library of current AEM component already exists;
+   * Checks of existing client libraries run asynchronously, see {@link #validateCategories(String)};
    * @return Validation info if client library categories is not valid, or client library for this component already exists;
    */
   @Override
@@ -117,9 +126,40 @@ public class AemClientLibDialogWrapper extends DialogWrapper {
     if (StringUtil.isEmpty(categories.getText())) {
       return new ValidationInfo(EMPTY_CATEGORIES_VALIDATION_MESSAGE, categories);
     }
+    return categoriesValidator.validate(categories.getText());
+  }
+
+  /**
+   * Dialog is closed only when categories are checked against existing client libraries;
+   */
+  @Override
+  protected void doOKAction() {
+    categoriesValidator.runWhenValid(categories.getText(), super::doOKAction);
+  }
+
+  /**
+   * Validates, that client library of current AEM component doesn't exist yet, and warns if some
+   * category is already defined by another client library. Runs in background inside read action in
+   * smart mode;
+   * @param categoriesText comma-separated client library categories;
+   * @return Validation info if client library already exists or some category is already defined;
+   */
+  private ValidationInfo validateCategories(String categoriesText) {
+    if (!directory.isValid()) {
+      return null;
+    }
     if (directory.findSubdirectory(CLIENT_LIBRARY) != null) {
       return new ValidationInfo(CLIENT_LIB_EXISTS_VALIDATION_MESSAGE, categories);
     }
+    ClientLibGraph graph = ClientLibGraphService.getInstance(directory.getProject()).getGraph();
+    for (String category : categoriesText.split(CATEGORIES_SEPARATOR)) {
+      Set<String> definingPaths = graph.getDefiningPaths(category.trim());
+      if (!definingPaths.isEmpty()) {
+        return new ValidationInfo(String.format(DUPLICATE_CATEGORY_VALIDATION_MESSAGE,
+            category.trim(), definingPaths.iterator().next()), categories).asWarning()
+            .withOKEnabled();
+      }
+    }
     return null;
   }
 
@@ -0,0 +1,53 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import java.nio.file.Path;
+
+/**
+ * Client Library Bundle.
+ * <p>
+ * Immutable result of building one preview bundle of client library.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ClientLibBundle {
+
+  private final Path file;
+  private final long size;
+  private final int sourceCount;
+  private final boolean rebuilt;
+
+  ClientLibBundle(Path file, long size, int sourceCount, boolean rebuilt) {
+    this.file = file;
+    this.size = size;
+    this.sourceCount = sourceCount;
+    this.rebuilt = rebuilt;
+  }
+
+  /**
+   * @return path of bundle file;
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * @return size of bundle in bytes;
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return number of concatenated source files;
+   */
+  public int getSourceCount() {
+    return sourceCount;
+  }
+
+  /**
+   * @return true if bundle was written by the last build, false if it was up to date;
+   */
+  public boolean isRebuilt() {
+    return rebuilt;
+  }
+}
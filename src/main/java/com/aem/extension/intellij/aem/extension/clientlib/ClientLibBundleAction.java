@@ -0,0 +1,103 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CSS_TXT_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.JS_TXT_FILE_NAME;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Client Library Bundle Action.
+ * <p>
+ * Builds local preview of CSS and JS bundles of selected client library and reports their sizes.
+ * Bundles are rebuilt by {@link ClientLibBundleService}, when their sources change.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibBundleAction extends AnAction implements DumbAware {
+
+  public static final String NOTIFICATION_GROUP_ID = "AEM Extension";
+
+  private static final String BUNDLE_LINE_FORMAT = "%s: %s from %d files<br>";
+  private static final String ERROR_TITLE = "Cannot build client library bundle";
+  private static final String NO_SOURCES_MESSAGE = "Client library has no CSS or JS sources";
+  private static final String PROGRESS_TITLE = "Building client library bundle";
+  private static final String TITLE = "Client library bundle";
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void update(@NotNull AnActionEvent event) {
+    VirtualFile directory = event.getData(CommonDataKeys.VIRTUAL_FILE);
+    event.getPresentation().setEnabledAndVisible(event.getProject() != null && directory != null
+        && directory.isDirectory() && directory.isInLocalFileSystem()
+        && (directory.findChild(CSS_TXT_FILE_NAME) != null
+        || directory.findChild(JS_TXT_FILE_NAME) != null));
+  }
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    VirtualFile directory = event.getData(CommonDataKeys.VIRTUAL_FILE);
+    if (project == null || directory == null) {
+      return;
+    }
+    String clientLibPath = directory.getPath();
+    new Task.Backgroundable(project, PROGRESS_TITLE, true) {
+
+      private List<ClientLibBundle> bundles = List.of();
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        bundles = ClientLibBundleService.getInstance(project).preview(clientLibPath);
+      }
+
+      @Override
+      public void onSuccess() {
+        if (bundles.isEmpty()) {
+          notify(project, TITLE, NO_SOURCES_MESSAGE, NotificationType.WARNING);
+          return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (ClientLibBundle bundle : bundles) {
+          content.append(String.format(BUNDLE_LINE_FORMAT, bundle.getFile(),
+              StringUtil.formatFileSize(bundle.getSize()), bundle.getSourceCount()));
+        }
+        notify(project, TITLE, content.toString(), NotificationType.INFORMATION);
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        notify(project, ERROR_TITLE, String.valueOf(error.getMessage()), NotificationType.ERROR);
+      }
+    }.queue();
+  }
+
+  /**
+   * @param project current project;
+   * @param title title of notification;
+   * @param content content of notification;
+   * @param type type of notification;
+   */
+  private static void notify(Project project, String title, String content,
+      NotificationType type) {
+    NotificationGroupManager.getInstance().getNotificationGroup(NOTIFICATION_GROUP_ID)
+        .createNotification(title, content, type)
+        .notify(project);
+  }
+}
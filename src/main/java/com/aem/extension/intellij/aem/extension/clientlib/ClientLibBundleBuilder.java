@@ -0,0 +1,273 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CSS_TXT_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.JS_TXT_FILE_NAME;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Client Library Bundle Builder.
+ * <p>
+ * Builds local preview of CSS and JS bundles, which AEM serves for client library. Libraries
+ * embedded by client library go first, in embed order, then files listed in 'css.txt' and 'js.txt'
+ * of client library itself. Files are concatenated with {@link FileChannel#transferTo}, so their
+ * content isn't copied into Java heap. Builder remembers size and modification time of sources of
+ * each bundle and rewrites bundle only when they change. LESS files are added as they are, they
+ * aren't compiled.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ClientLibBundleBuilder {
+
+  private static final String BUNDLE_NAME_FORMAT = "%s-%08x.%s";
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+  private static final byte[] SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+  private final Path outputDirectory;
+  private final Map<Path, List<SourceStamp>> stampsByBundle = new HashMap<>();
+
+  /**
+   * @param outputDirectory directory for bundle files;
+   */
+  public ClientLibBundleBuilder(Path outputDirectory) {
+    this.outputDirectory = outputDirectory;
+  }
+
+  /**
+   * @param clientLibDirectory directory of client library;
+   * @param embedResolver resolver of embedded client libraries;
+   * @return CSS and JS bundles of client library, bundles without sources are skipped;
+   * @throws UncheckedIOException if manifest, source or bundle can't be read or written;
+   */
+  public synchronized List<ClientLibBundle> build(Path clientLibDirectory,
+      EmbedResolver embedResolver) {
+    List<Path> libraries = collectLibraries(clientLibDirectory, embedResolver);
+    List<ClientLibBundle> bundles = new ArrayList<>();
+    for (BundleKind kind : BundleKind.values()) {
+      List<Path> sources = new ArrayList<>();
+      for (Path library : libraries) {
+        sources.addAll(readManifest(library, kind));
+      }
+      if (!sources.isEmpty()) {
+        bundles.add(build(getBundleFile(clientLibDirectory, kind), sources));
+      }
+    }
+    return bundles;
+  }
+
+  /**
+   * @param clientLibDirectory directory of client library;
+   * @param embedResolver resolver of embedded client libraries;
+   * @return directories of all client libraries, which contribute to bundles of client library;
+   */
+  public static List<Path> collectLibraries(Path clientLibDirectory,
+      EmbedResolver embedResolver) {
+    Set<Path> libraries = new LinkedHashSet<>();
+    collectLibraries(clientLibDirectory.toAbsolutePath().normalize(), embedResolver,
+        new LinkedHashSet<>(), libraries);
+    return new ArrayList<>(libraries);
+  }
+
+  /**
+   * Embedded libraries are added before the library itself, cycles are cut;
+   * @param library directory of client library;
+   * @param embedResolver resolver of embedded client libraries;
+   * @param visiting libraries on the current embed path;
+   * @param libraries collected libraries;
+   */
+  private static void collectLibraries(Path library, EmbedResolver embedResolver,
+      Set<Path> visiting, Set<Path> libraries) {
+    if (libraries.contains(library) || !visiting.add(library)) {
+      return;
+    }
+    for (Path embeddedLibrary : embedResolver.resolve(library)) {
+      collectLibraries(embeddedLibrary.toAbsolutePath().normalize(), embedResolver, visiting,
+          libraries);
+    }
+    visiting.remove(library);
+    libraries.add(library);
+  }
+
+  /**
+   * @param bundleFile bundle file;
+   * @param sources files to concatenate;
+   * @return built or up to date bundle;
+   */
+  private ClientLibBundle build(Path bundleFile, List<Path> sources) {
+    try {
+      List<SourceStamp> stamps = new ArrayList<>(sources.size());
+      for (Path source : sources) {
+        stamps.add(SourceStamp.of(source));
+      }
+      if (stamps.equals(stampsByBundle.get(bundleFile)) && Files.isRegularFile(bundleFile)) {
+        return new ClientLibBundle(bundleFile, Files.size(bundleFile), sources.size(), false);
+      }
+      Files.createDirectories(bundleFile.getParent());
+      Path temporaryFile = bundleFile.resolveSibling(bundleFile.getFileName()
+          + TEMPORARY_FILE_SUFFIX);
+      long size = concatenate(sources, temporaryFile);
+      Files.move(temporaryFile, bundleFile, StandardCopyOption.REPLACE_EXISTING);
+      stampsByBundle.put(bundleFile, stamps);
+      return new ClientLibBundle(bundleFile, size, sources.size(), true);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when building client library bundle [%s]", bundleFile), e);
+    }
+  }
+
+  /**
+   * @param sources files to concatenate;
+   * @param target file to write;
+   * @return size of written file;
+   * @throws IOException if file can't be read or written;
+   */
+  private static long concatenate(List<Path> sources, Path target) throws IOException {
+    try (FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (int i = 0; i < sources.size(); i++) {
+        if (i > 0) {
+          ByteBuffer separator = ByteBuffer.wrap(SEPARATOR);
+          while (separator.hasRemaining()) {
+            output.write(separator);
+          }
+        }
+        try (FileChannel input = FileChannel.open(sources.get(i), StandardOpenOption.READ)) {
+          long size = input.size();
+          long position = 0;
+          while (position < size) {
+            position += input.transferTo(position, size - position, output);
+          }
+        }
+      }
+      return output.size();
+    }
+  }
+
+  /**
+   * @param library directory of client library;
+   * @param kind kind of bundle;
+   * @return existing files, listed in manifest of client library;
+   * @throws UncheckedIOException if manifest can't be read;
+   */
+  private static List<Path> readManifest(Path library, BundleKind kind) {
+    Path manifestFile = library.resolve(kind.manifestName);
+    if (!Files.isRegularFile(manifestFile)) {
+      return List.of();
+    }
+    try {
+      ClientLibManifest manifest =
+          ClientLibManifest.parse(Files.readString(manifestFile, StandardCharsets.UTF_8));
+      List<Path> sources = new ArrayList<>();
+      for (String entry : manifest.getEntries()) {
+        Path source = library.resolve(entry).normalize();
+        if (Files.isRegularFile(source)) {
+          sources.add(source);
+        }
+      }
+      return sources;
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when reading client library manifest [%s]", manifestFile), e);
+    }
+  }
+
+  /**
+   * Name of directory is usually 'clientlibs', so hash of its path keeps names unique;
+   * @param clientLibDirectory directory of client library;
+   * @param kind kind of bundle;
+   * @return bundle file in output directory;
+   */
+  private Path getBundleFile(Path clientLibDirectory, BundleKind kind) {
+    Path directory = clientLibDirectory.toAbsolutePath().normalize();
+    return outputDirectory.resolve(String.format(BUNDLE_NAME_FORMAT, directory.getFileName(),
+        directory.toString().hashCode(), kind.extension));
+  }
+
+  /**
+   * Resolver of client libraries, embedded by client library.
+   */
+  @FunctionalInterface
+  public interface EmbedResolver {
+
+    /**
+     * @param clientLibDirectory directory of client library;
+     * @return directories of client libraries, which it embeds, in embed order;
+     */
+    List<Path> resolve(Path clientLibDirectory);
+  }
+
+  /**
+   * Kind of bundle with its manifest file.
+   */
+  private enum BundleKind {
+    CSS(CSS_TXT_FILE_NAME, "css"),
+    JS(JS_TXT_FILE_NAME, "js");
+
+    private final String manifestName;
+    private final String extension;
+
+    BundleKind(String manifestName, String extension) {
+      this.manifestName = manifestName;
+      this.extension = extension;
+    }
+  }
+
+  /**
+   * Path, size and modification time of source file.
+   */
+  private static final class SourceStamp {
+
+    private final Path path;
+    private final long size;
+    private final long lastModified;
+
+    private SourceStamp(Path path, long size, long lastModified) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    /**
+     * @param source source file;
+     * @return stamp of file;
+     * @throws IOException if attributes of file can't be read;
+     */
+    private static SourceStamp of(Path source) throws IOException {
+      BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+      return new SourceStamp(source, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      SourceStamp that = (SourceStamp) o;
+      return size == that.size && lastModified == that.lastModified && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, size, lastModified);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Bundle Listener.
+ * <p>
+ * Reports paths of changed files to {@link ClientLibBundleService}, while it tracks previewed
+ * client libraries. Only paths of events are inspected here.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibBundleListener implements BulkFileListener {
+
+  private final Project project;
+
+  public ClientLibBundleListener(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param events applied file events;
+   */
+  @Override
+  public void after(@NotNull List<? extends VFileEvent> events) {
+    if (project.isDisposed()) {
+      return;
+    }
+    ClientLibBundleService bundleService = ClientLibBundleService.getInstance(project);
+    if (!bundleService.hasPreviews()) {
+      return;
+    }
+    Set<String> paths = new LinkedHashSet<>();
+    for (VFileEvent event : events) {
+      if (event instanceof VFileCopyEvent) {
+        VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+        paths.add(copyEvent.getNewParent().getPath() + '/' + copyEvent.getNewChildName());
+      } else if (event instanceof VFileMoveEvent) {
+        paths.add(((VFileMoveEvent) event).getOldPath());
+        paths.add(((VFileMoveEvent) event).getNewPath());
+      } else if (event instanceof VFilePropertyChangeEvent
+          && ((VFilePropertyChangeEvent) event).isRename()) {
+        paths.add(((VFilePropertyChangeEvent) event).getOldPath());
+        paths.add(((VFilePropertyChangeEvent) event).getNewPath());
+      } else {
+        paths.add(event.getPath());
+      }
+    }
+    bundleService.onFilesChanged(paths);
+  }
+}
@@ -0,0 +1,219 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.ClientLibInfo;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.util.Alarm;
+import com.intellij.util.ui.update.MergingUpdateQueue;
+import com.intellij.util.ui.update.Update;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Bundle Service.
+ * <p>
+ * Project service, which builds local previews of client library bundles by
+ * {@link ClientLibBundleBuilder}. Client libraries, which were previewed once, are tracked
+ * together with libraries they embed, and their bundles are rebuilt after quiet period, when
+ * files of these libraries change. Embedded libraries are resolved by {@link ClientLibGraph} in
+ * smart mode.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibBundleService implements Disposable {
+
+  private static final Logger LOGGER = Logger.getInstance(ClientLibBundleService.class);
+
+  private static final String BUNDLES_DIRECTORY_NAME = "aem-extension-bundles";
+  private static final int DEBOUNCE_DELAY_MS = 500;
+  private static final String QUEUE_NAME = "AEM client library bundles";
+  private static final char SEPARATOR = '/';
+
+  private final Project project;
+  private final ClientLibBundleBuilder builder;
+  private final MergingUpdateQueue queue;
+  private final Object lock = new Object();
+  private final Map<String, Set<String>> libraryPathsByPreview = new LinkedHashMap<>();
+
+  private Set<String> pendingPreviews = new LinkedHashSet<>();
+
+  public ClientLibBundleService(Project project) {
+    this.project = project;
+    this.builder = new ClientLibBundleBuilder(Path.of(PathManager.getSystemPath(),
+        BUNDLES_DIRECTORY_NAME, project.getLocationHash()));
+    this.queue = new MergingUpdateQueue(QUEUE_NAME, DEBOUNCE_DELAY_MS, true, null, this, null,
+        Alarm.ThreadToUse.POOLED_THREAD);
+    this.queue.setRestartTimerOnAdd(true);
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ClientLibBundleService getInstance(@NotNull Project project) {
+    return project.getService(ClientLibBundleService.class);
+  }
+
+  /**
+   * Builds bundles of client library and starts tracking its sources, should be called in
+   * background;
+   * @param clientLibPath path of client library directory;
+   * @return CSS and JS bundles of client library;
+   * @throws UncheckedIOException if bundle can't be built;
+   */
+  public List<ClientLibBundle> preview(@NotNull String clientLibPath) {
+    Map<Path, List<Path>> embeds = resolveEmbeds(clientLibPath);
+    ClientLibBundleBuilder.EmbedResolver embedResolver =
+        library -> embeds.getOrDefault(library, List.of());
+    Path clientLibDirectory = Path.of(clientLibPath);
+    List<ClientLibBundle> bundles = builder.build(clientLibDirectory, embedResolver);
+    Set<String> libraryPaths = new LinkedHashSet<>();
+    for (Path library : ClientLibBundleBuilder.collectLibraries(clientLibDirectory,
+        embedResolver)) {
+      libraryPaths.add(library.toString().replace('\\', SEPARATOR));
+    }
+    synchronized (lock) {
+      libraryPathsByPreview.put(clientLibPath, libraryPaths);
+    }
+    List<Path> bundleFiles = new ArrayList<>();
+    for (ClientLibBundle bundle : bundles) {
+      if (bundle.isRebuilt()) {
+        bundleFiles.add(bundle.getFile());
+      }
+    }
+    if (!bundleFiles.isEmpty()) {
+      LocalFileSystem.getInstance().refreshNioFiles(bundleFiles, true, false, null);
+    }
+    return bundles;
+  }
+
+  /**
+   * @return true if there are tracked client libraries;
+   */
+  public boolean hasPreviews() {
+    synchronized (lock) {
+      return !libraryPathsByPreview.isEmpty();
+    }
+  }
+
+  /**
+   * Schedules rebuild of previews, which files are changed;
+   * @param paths paths of changed files and directories;
+   */
+  public void onFilesChanged(@NotNull Collection<String> paths) {
+    Set<String> changedPreviews = new LinkedHashSet<>();
+    synchronized (lock) {
+      libraryPathsByPreview.forEach((preview, libraryPaths) -> {
+        for (String path : paths) {
+          if (isUnderAny(path, libraryPaths)) {
+            changedPreviews.add(preview);
+            break;
+          }
+        }
+      });
+      if (changedPreviews.isEmpty()) {
+        return;
+      }
+      pendingPreviews.addAll(changedPreviews);
+    }
+    queue.queue(Update.create(QUEUE_NAME, this::flush));
+  }
+
+  /**
+   * Nothing to dispose, queue is disposed together with service;
+   */
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * Rebuilds changed previews;
+   */
+  private void flush() {
+    Set<String> previews;
+    synchronized (lock) {
+      previews = pendingPreviews;
+      pendingPreviews = new LinkedHashSet<>();
+    }
+    for (String preview : previews) {
+      if (project.isDisposed()) {
+        return;
+      }
+      try {
+        for (ClientLibBundle bundle : preview(preview)) {
+          if (bundle.isRebuilt()) {
+            LOGGER.info(String.format("Client library bundle %s rebuilt: %d bytes from %d files",
+                bundle.getFile(), bundle.getSize(), bundle.getSourceCount()));
+          }
+        }
+      } catch (UncheckedIOException e) {
+        LOGGER.warn(String.format("Cannot rebuild bundle of client library %s", preview), e);
+      }
+    }
+  }
+
+  /**
+   * Walks embedded categories in smart read action, so builder itself never touches indexes;
+   * @param clientLibPath path of client library directory;
+   * @return directories of embedded client libraries by directories of embedding ones;
+   */
+  private Map<Path, List<Path>> resolveEmbeds(String clientLibPath) {
+    return ReadAction.nonBlocking(() -> {
+      ClientLibGraph graph = ClientLibGraphService.getInstance(project).getGraph();
+      Map<Path, List<Path>> embeds = new HashMap<>();
+      Deque<String> queue = new ArrayDeque<>(List.of(clientLibPath));
+      Set<String> visited = new LinkedHashSet<>(queue);
+      while (!queue.isEmpty()) {
+        String libraryPath = queue.poll();
+        ClientLibInfo info = graph.getInfo(libraryPath + SEPARATOR + CONTENT_XML_FILE_NAME);
+        if (info == null) {
+          continue;
+        }
+        List<Path> embeddedLibraries = new ArrayList<>();
+        for (String category : info.getEmbed()) {
+          for (String definingPath : graph.getDefiningPaths(category)) {
+            String embeddedPath = definingPath.substring(0, definingPath.lastIndexOf(SEPARATOR));
+            embeddedLibraries.add(Path.of(embeddedPath));
+            if (visited.add(embeddedPath)) {
+              queue.add(embeddedPath);
+            }
+          }
+        }
+        embeds.put(Path.of(libraryPath).toAbsolutePath().normalize(), embeddedLibraries);
+      }
+      return embeds;
+    }).inSmartMode(project).expireWith(this).executeSynchronously();
+  }
+
+  /**
+   * @param path path of changed file;
+   * @param directoryPaths paths of directories;
+   * @return true if file is one of directories or is under one of them;
+   */
+  private static boolean isUnderAny(String path, Set<String> directoryPaths) {
+    for (String directoryPath : directoryPaths) {
+      if (path.startsWith(directoryPath) && (path.length() == directoryPath.length()
+          || path.charAt(directoryPath.length()) == SEPARATOR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
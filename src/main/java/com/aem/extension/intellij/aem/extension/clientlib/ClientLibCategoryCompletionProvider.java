@@ -0,0 +1,63 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.TextFieldWithAutoCompletionListProvider;
+import java.util.Collection;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client Library Category Completion Provider.
+ * <p>
+ * Completes the last category of comma-separated list with categories of existing client
+ * libraries, taken from {@link ClientLibGraphService}.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibCategoryCompletionProvider extends TextFieldWithAutoCompletionListProvider<String> {
+
+  private static final char CATEGORIES_SEPARATOR = ',';
+
+  private final Project project;
+
+  public ClientLibCategoryCompletionProvider(Project project) {
+    super(null);
+    this.project = project;
+  }
+
+  /**
+   * @param prefix prefix of category;
+   * @param cached true if cached variants may be returned;
+   * @param parameters completion parameters;
+   * @return existing categories, which start with prefix;
+   */
+  @Override
+  public @NotNull Collection<String> getItems(String prefix, boolean cached,
+      CompletionParameters parameters) {
+    if (prefix == null || DumbService.isDumb(project)) {
+      return List.of();
+    }
+    return ClientLibGraphService.getInstance(project).getGraph().getCategories(prefix);
+  }
+
+  /**
+   * @param text text before caret;
+   * @return last category of comma-separated list;
+   */
+  @Override
+  public @Nullable String getPrefix(@NotNull String text) {
+    return text.substring(text.lastIndexOf(CATEGORIES_SEPARATOR) + 1).trim();
+  }
+
+  /**
+   * @param category category of client library;
+   * @return category itself;
+   */
+  @Override
+  protected @NotNull String getLookupString(@NotNull String category) {
+    return category;
+  }
+}
@@ -0,0 +1,178 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import com.aem.extension.intellij.aem.extension.index.ClientLibInfo;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Client Library Graph.
+ * <p>
+ * In-memory graph of client library categories, updated incrementally per '.content.xml' file.
+ * Categories are kept sorted for prefix completion, and reverse edges are kept for instant
+ * "who depends on" and "who embeds" queries, which are shown by
+ * {@link ClientLibGraphLineMarkerProvider}. Methods are synchronized, collections returned by
+ * them are copies.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibGraph {
+
+  private final Map<String, ClientLibInfo> infosByPath = new HashMap<>();
+  private final NavigableMap<String, Set<String>> pathsByCategory = new TreeMap<>();
+  private final Map<String, Set<String>> dependentPathsByCategory = new HashMap<>();
+  private final Map<String, Set<String>> embeddingPathsByCategory = new HashMap<>();
+
+  /**
+   * Replaces info of client library file;
+   * @param path path of '.content.xml' file;
+   * @param info new info, or null if file is deleted or isn't client library anymore;
+   */
+  public synchronized void update(String path, ClientLibInfo info) {
+    ClientLibInfo oldInfo = info == null ? infosByPath.remove(path) : infosByPath.put(path, info);
+    if (oldInfo != null) {
+      unlink(path, oldInfo.getCategories(), pathsByCategory);
+      unlink(path, oldInfo.getDependencies(), dependentPathsByCategory);
+      unlink(path, oldInfo.getEmbed(), embeddingPathsByCategory);
+    }
+    if (info != null) {
+      link(path, info.getCategories(), pathsByCategory);
+      link(path, info.getDependencies(), dependentPathsByCategory);
+      link(path, info.getEmbed(), embeddingPathsByCategory);
+    }
+  }
+
+  /**
+   * @param prefix prefix of category;
+   * @return sorted categories, which start with prefix;
+   */
+  public synchronized List<String> getCategories(String prefix) {
+    List<String> categories = new ArrayList<>();
+    for (String category : pathsByCategory.tailMap(prefix, true).keySet()) {
+      if (!category.startsWith(prefix)) {
+        break;
+      }
+      categories.add(category);
+    }
+    return categories;
+  }
+
+  /**
+   * @param path path of '.content.xml' file;
+   * @return info of client library, or null if file isn't client library;
+   */
+  public synchronized ClientLibInfo getInfo(String path) {
+    return infosByPath.get(path);
+  }
+
+  /**
+   * @param category category of client library;
+   * @return paths of '.content.xml' files, which define category;
+   */
+  public synchronized Set<String> getDefiningPaths(String category) {
+    return copy(pathsByCategory.get(category));
+  }
+
+  /**
+   * @param category category of client library;
+   * @return paths of '.content.xml' files of client libraries, which depend on category;
+   */
+  public synchronized Set<String> getDependentPaths(String category) {
+    return copy(dependentPathsByCategory.get(category));
+  }
+
+  /**
+   * @param category category of client library;
+   * @return paths of '.content.xml' files of client libraries, which embed category;
+   */
+  public synchronized Set<String> getEmbeddingPaths(String category) {
+    return copy(embeddingPathsByCategory.get(category));
+  }
+
+  /**
+   * @param category category of client library;
+   * @return categories, which category depends on or embeds;
+   */
+  public synchronized Set<String> getSuccessors(String category) {
+    Set<String> successors = new TreeSet<>();
+    for (String path : pathsByCategory.getOrDefault(category, Set.of())) {
+      ClientLibInfo info = infosByPath.get(path);
+      successors.addAll(info.getDependencies());
+      successors.addAll(info.getEmbed());
+    }
+    return successors;
+  }
+
+  /**
+   * Finds shortest dependency or embed cycle, which goes through category;
+   * @param category category of client library;
+   * @return categories of cycle, starting and ending with category, or empty list if there is no
+   * cycle;
+   */
+  public synchronized List<String> findCycle(String category) {
+    Map<String, String> previous = new HashMap<>();
+    List<String> queue = new ArrayList<>();
+    queue.add(category);
+    for (int i = 0; i < queue.size(); i++) {
+      String current = queue.get(i);
+      for (String successor : getSuccessors(current)) {
+        if (successor.equals(category)) {
+          List<String> cycle = new ArrayList<>();
+          cycle.add(category);
+          for (String node = current; !node.equals(category); node = previous.get(node)) {
+            cycle.add(1, node);
+          }
+          cycle.add(category);
+          return cycle;
+        }
+        if (!previous.containsKey(successor)) {
+          previous.put(successor, current);
+          queue.add(successor);
+        }
+      }
+    }
+    return List.of();
+  }
+
+  /**
+   * @param path path of '.content.xml' file;
+   * @param categories categories, linked with file;
+   * @param pathsByCategory paths of files by categories;
+   */
+  private static void link(String path, Collection<String> categories,
+      Map<String, Set<String>> pathsByCategory) {
+    for (String category : categories) {
+      pathsByCategory.computeIfAbsent(category, key -> new LinkedHashSet<>()).add(path);
+    }
+  }
+
+  /**
+   * @param path path of '.content.xml' file;
+   * @param categories categories, linked with file;
+   * @param pathsByCategory paths of files by categories;
+   */
+  private static void unlink(String path, Collection<String> categories,
+      Map<String, Set<String>> pathsByCategory) {
+    for (String category : categories) {
+      Set<String> paths = pathsByCategory.get(category);
+      if (paths != null && paths.remove(path) && paths.isEmpty()) {
+        pathsByCategory.remove(category);
+      }
+    }
+  }
+
+  /**
+   * @param paths paths, or null;
+   * @return modifiable copy of paths;
+   */
+  private static Set<String> copy(Set<String> paths) {
+    return paths == null ? new LinkedHashSet<>() : new LinkedHashSet<>(paths);
+  }
+}
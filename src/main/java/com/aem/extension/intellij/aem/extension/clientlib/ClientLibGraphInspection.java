@@ -0,0 +1,113 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CATEGORIES;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CLIENT_LIBRARY_FOLDER;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.DEPENDENCIES;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.EMBED;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_PRIMARY_TYPE;
+
+import com.aem.extension.intellij.aem.extension.index.DocViewValues;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.XmlElementVisitor;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Graph Inspection.
+ * <p>
+ * Reports categories of 'cq:ClientLibraryFolder' node, which are also defined by other client
+ * libraries, and dependencies or embedded categories, which lead back to the node's own categories.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibGraphInspection extends LocalInspectionTool {
+
+  private static final String CYCLE_MESSAGE = "Client library '%s' depends on itself: %s";
+  private static final String CYCLE_SEPARATOR = " -> ";
+  private static final String DUPLICATE_CATEGORY_MESSAGE = "Category '%s' is also defined in %s";
+
+  /**
+   * @param holder problems holder;
+   * @param isOnTheFly true if inspection runs in editor;
+   * @return visitor of root attributes of client library folder;
+   */
+  @Override
+  public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder,
+      boolean isOnTheFly) {
+    VirtualFile file = holder.getFile().getVirtualFile();
+    if (file == null || !(holder.getFile() instanceof XmlFile)
+        || !CONTENT_XML_FILE_NAME.equals(file.getName())) {
+      return PsiElementVisitor.EMPTY_VISITOR;
+    }
+    return new XmlElementVisitor() {
+      @Override
+      public void visitXmlAttribute(XmlAttribute attribute) {
+        XmlTag tag = attribute.getParent();
+        XmlAttributeValue valueElement = attribute.getValueElement();
+        String value = attribute.getValue();
+        if (valueElement == null || value == null || tag == null
+            || tag != ((XmlFile) holder.getFile()).getRootTag()
+            || !CLIENT_LIBRARY_FOLDER.equals(tag.getAttributeValue(JCR_PRIMARY_TYPE))) {
+          return;
+        }
+        String name = attribute.getName();
+        if (CATEGORIES.equals(name)) {
+          checkDuplicates(holder, valueElement, file.getPath(), DocViewValues.getStrings(value));
+        } else if (DEPENDENCIES.equals(name) || EMBED.equals(name)) {
+          String categories = tag.getAttributeValue(CATEGORIES);
+          if (categories != null) {
+            checkCycles(holder, valueElement, DocViewValues.getStrings(categories),
+                DocViewValues.getStrings(value));
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * @param holder problems holder;
+   * @param valueElement value of 'categories' attribute;
+   * @param path path of current file;
+   * @param categories categories of client library;
+   */
+  private static void checkDuplicates(ProblemsHolder holder, XmlAttributeValue valueElement,
+      String path, List<String> categories) {
+    ClientLibGraph graph = ClientLibGraphService.getInstance(holder.getProject()).getGraph();
+    for (String category : categories) {
+      Set<String> definingPaths = graph.getDefiningPaths(category);
+      definingPaths.remove(path);
+      if (!definingPaths.isEmpty()) {
+        holder.registerProblem(valueElement, String.format(DUPLICATE_CATEGORY_MESSAGE, category,
+            String.join(", ", definingPaths)));
+      }
+    }
+  }
+
+  /**
+   * @param holder problems holder;
+   * @param valueElement value of 'dependencies' or 'embed' attribute;
+   * @param categories categories of client library;
+   * @param targets dependencies or embedded categories of client library;
+   */
+  private static void checkCycles(ProblemsHolder holder, XmlAttributeValue valueElement,
+      List<String> categories, List<String> targets) {
+    ClientLibGraph graph = ClientLibGraphService.getInstance(holder.getProject()).getGraph();
+    for (String category : categories) {
+      List<String> cycle = graph.findCycle(category);
+      if (cycle.size() > 1 && targets.contains(cycle.get(1))) {
+        holder.registerProblem(valueElement, String.format(CYCLE_MESSAGE, category,
+            String.join(CYCLE_SEPARATOR, cycle)));
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CATEGORIES;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CLIENT_LIBRARY_FOLDER;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_PRIMARY_TYPE;
+
+import com.aem.extension.intellij.aem.extension.index.DocViewValues;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.psi.xml.XmlToken;
+import com.intellij.psi.xml.XmlTokenType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import javax.swing.Icon;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Graph Line Marker Provider.
+ * <p>
+ * Adds gutter icons to value of 'categories' attribute of 'cq:ClientLibraryFolder' node, which
+ * navigate to client libraries, which depend on or embed these categories. Client libraries are
+ * looked up in {@link ClientLibGraph} by reverse edges, files are resolved when the icon is
+ * clicked.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibGraphLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+  private static final String DEPENDENTS_TOOLTIP_FORMAT =
+      "Navigate to client libraries, which depend on %s";
+  private static final String EMBEDDERS_TOOLTIP_FORMAT =
+      "Navigate to client libraries, which embed %s";
+
+  /**
+   * @param element element to check;
+   * @param result collection to fill with markers;
+   */
+  @Override
+  protected void collectNavigationMarkers(@NotNull PsiElement element,
+      @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!(element instanceof XmlToken)
+        || ((XmlToken) element).getTokenType() != XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN) {
+      return;
+    }
+    XmlAttribute attribute = PsiTreeUtil.getParentOfType(element, XmlAttribute.class);
+    PsiFile file = element.getContainingFile();
+    if (attribute == null || !CATEGORIES.equals(attribute.getName())
+        || !(file instanceof XmlFile) || !CONTENT_XML_FILE_NAME.equals(file.getName())) {
+      return;
+    }
+    XmlTag tag = attribute.getParent();
+    String value = attribute.getValue();
+    if (value == null || tag == null || tag != ((XmlFile) file).getRootTag()
+        || !CLIENT_LIBRARY_FOLDER.equals(tag.getAttributeValue(JCR_PRIMARY_TYPE))) {
+      return;
+    }
+    List<String> categories = DocViewValues.getStrings(value);
+    ClientLibGraph graph = ClientLibGraphService.getInstance(element.getProject()).getGraph();
+    addMarker(element, categories, graph::getDependentPaths, AllIcons.Gutter.ImplementedMethod,
+        DEPENDENTS_TOOLTIP_FORMAT, result);
+    addMarker(element, categories, graph::getEmbeddingPaths, AllIcons.Gutter.OverridenMethod,
+        EMBEDDERS_TOOLTIP_FORMAT, result);
+  }
+
+  /**
+   * @param element value token of 'categories' attribute;
+   * @param categories categories of client library;
+   * @param pathsLookup paths of client libraries, which refer to category;
+   * @param icon icon of marker;
+   * @param tooltipFormat format of tooltip with categories;
+   * @param result collection to fill with markers;
+   */
+  private static void addMarker(PsiElement element, List<String> categories,
+      Function<String, Set<String>> pathsLookup, Icon icon, String tooltipFormat,
+      Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    Set<String> paths = new LinkedHashSet<>();
+    for (String category : categories) {
+      paths.addAll(pathsLookup.apply(category));
+    }
+    VirtualFile currentFile = element.getContainingFile().getVirtualFile();
+    if (currentFile != null) {
+      paths.remove(currentFile.getPath());
+    }
+    if (paths.isEmpty()) {
+      return;
+    }
+    Project project = element.getProject();
+    NotNullLazyValue<Collection<? extends PsiFile>> targets =
+        NotNullLazyValue.createValue(() -> findFiles(project, paths));
+    result.add(NavigationGutterIconBuilder.create(icon)
+        .setTargets(targets)
+        .setTooltipText(String.format(tooltipFormat, String.join(", ", categories)))
+        .createLineMarkerInfo(element));
+  }
+
+  /**
+   * @param project current project;
+   * @param paths paths of '.content.xml' files;
+   * @return Psi files of existing files;
+   */
+  private static Collection<PsiFile> findFiles(Project project, Set<String> paths) {
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    PsiManager psiManager = PsiManager.getInstance(project);
+    List<PsiFile> files = new ArrayList<>();
+    for (String path : paths) {
+      VirtualFile file = fileSystem.findFileByPath(path);
+      PsiFile psiFile = file == null || !file.isValid() ? null : psiManager.findFile(file);
+      if (psiFile != null) {
+        files.add(psiFile);
+      }
+    }
+    return files;
+  }
+}
@@ -0,0 +1,135 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Graph Listener.
+ * <p>
+ * Reports changed '.content.xml' files to {@link ClientLibGraphService}. Structural changes of
+ * directories in content roots mark the whole graph as stale, directories elsewhere, like 'target'
+ * or 'node_modules', are ignored. Files, changed during indexing, are reported as usual and are
+ * applied once indexing ends. Only paths of events are inspected here, graph itself is updated
+ * lazily on next access.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibGraphListener implements BulkFileListener {
+
+  private static final String CONTENT_XML_PATH_SUFFIX = "/" + CONTENT_XML_FILE_NAME;
+
+  private final Project project;
+
+  public ClientLibGraphListener(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param events applied file events;
+   */
+  @Override
+  public void after(@NotNull List<? extends VFileEvent> events) {
+    if (project.isDisposed()) {
+      return;
+    }
+    Set<String> changedPaths = new LinkedHashSet<>();
+    Set<String> directoryPaths = new LinkedHashSet<>();
+    for (VFileEvent event : events) {
+      if (event instanceof VFileContentChangeEvent) {
+        addIfContentXml(event.getPath(), changedPaths);
+      } else if (event instanceof VFileCreateEvent) {
+        addIfDirectory(((VFileCreateEvent) event).isDirectory(), event.getPath(), directoryPaths);
+        addIfContentXml(event.getPath(), changedPaths);
+      } else if (event instanceof VFileDeleteEvent) {
+        addIfDirectory(((VFileDeleteEvent) event).getFile().isDirectory(), event.getPath(),
+            directoryPaths);
+        addIfContentXml(event.getPath(), changedPaths);
+      } else if (event instanceof VFileCopyEvent) {
+        VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+        String newPath = copyEvent.getNewParent().getPath() + '/' + copyEvent.getNewChildName();
+        addIfDirectory(copyEvent.getFile().isDirectory(), newPath, directoryPaths);
+        addIfContentXml(newPath, changedPaths);
+      } else if (event instanceof VFileMoveEvent) {
+        VFileMoveEvent moveEvent = (VFileMoveEvent) event;
+        addIfDirectory(moveEvent.getFile().isDirectory(), moveEvent.getOldPath(), directoryPaths);
+        addIfDirectory(moveEvent.getFile().isDirectory(), moveEvent.getNewPath(), directoryPaths);
+        addIfContentXml(moveEvent.getOldPath(), changedPaths);
+        addIfContentXml(moveEvent.getNewPath(), changedPaths);
+      } else if (event instanceof VFilePropertyChangeEvent
+          && ((VFilePropertyChangeEvent) event).isRename()) {
+        VFilePropertyChangeEvent renameEvent = (VFilePropertyChangeEvent) event;
+        addIfDirectory(renameEvent.getFile().isDirectory(), renameEvent.getOldPath(),
+            directoryPaths);
+        addIfDirectory(renameEvent.getFile().isDirectory(), renameEvent.getNewPath(),
+            directoryPaths);
+        addIfContentXml(renameEvent.getOldPath(), changedPaths);
+        addIfContentXml(renameEvent.getNewPath(), changedPaths);
+      }
+    }
+    boolean rebuildRequired = isUnderContentRoot(directoryPaths);
+    ClientLibGraphService graphService = ClientLibGraphService.getInstance(project);
+    if (rebuildRequired) {
+      graphService.markRebuildRequired();
+    } else if (!changedPaths.isEmpty()) {
+      graphService.markChanged(changedPaths);
+    }
+  }
+
+  /**
+   * @param directoryPaths paths of created, deleted, moved or renamed directories;
+   * @return true if some directory is under content root;
+   */
+  private boolean isUnderContentRoot(Set<String> directoryPaths) {
+    if (directoryPaths.isEmpty()) {
+      return false;
+    }
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    ContentRootService contentRootService = ContentRootService.getInstance(project);
+    for (String directoryPath : directoryPaths) {
+      int separatorIndex = directoryPath.lastIndexOf('/');
+      VirtualFile parent = separatorIndex <= 0 ? null
+          : fileSystem.findFileByPath(directoryPath.substring(0, separatorIndex));
+      if (parent != null && contentRootService.getContentRoot(parent) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param directory true if changed file is directory;
+   * @param path path of changed file;
+   * @param directoryPaths paths of changed directories;
+   */
+  private static void addIfDirectory(boolean directory, String path, Set<String> directoryPaths) {
+    if (directory) {
+      directoryPaths.add(path);
+    }
+  }
+
+  /**
+   * @param path path of changed file;
+   * @param changedPaths paths of changed '.content.xml' files;
+   */
+  private static void addIfContentXml(String path, Set<String> changedPaths) {
+    if (path.endsWith(CONTENT_XML_PATH_SUFFIX)) {
+      changedPaths.add(path);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import com.aem.extension.intellij.aem.extension.index.ClientLibIndex;
+import com.aem.extension.intellij.aem.extension.index.ClientLibInfo;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Graph Service.
+ * <p>
+ * Project service, which keeps {@link ClientLibGraph} in sync with {@link ClientLibIndex}. Graph is
+ * built from index once, then only '.content.xml' files reported by {@link ClientLibGraphListener}
+ * are re-read on next access. Structural changes of directories in content roots trigger full
+ * rebuild, which runs in background in smart mode: new graph is filled completely and only then
+ * replaces the current one, so callers never see a half-filled graph and never wait for rebuild.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibGraphService implements Disposable {
+
+  private final Project project;
+  private final Object lock = new Object();
+
+  private volatile ClientLibGraph graph = new ClientLibGraph();
+  private Set<String> changedPaths = new LinkedHashSet<>();
+  private boolean rebuildRequired = true;
+  private boolean rebuilding;
+
+  public ClientLibGraphService(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ClientLibGraphService getInstance(@NotNull Project project) {
+    return project.getService(ClientLibGraphService.class);
+  }
+
+  /**
+   * Returns graph, updated with all changes reported since previous access. Full rebuild is only
+   * scheduled here, and until it finishes the previous graph is returned. In dumb mode graph is
+   * returned as is. Should be called inside read action;
+   * @return graph of client library categories;
+   */
+  public ClientLibGraph getGraph() {
+    if (DumbService.isDumb(project)) {
+      return graph;
+    }
+    synchronized (lock) {
+      if (rebuildRequired && !rebuilding) {
+        rebuildRequired = false;
+        rebuilding = true;
+        scheduleRebuild();
+      }
+      if (!changedPaths.isEmpty()) {
+        update(graph, changedPaths);
+        changedPaths = new LinkedHashSet<>();
+      }
+      return graph;
+    }
+  }
+
+  /**
+   * @param paths paths of changed '.content.xml' files;
+   */
+  public void markChanged(@NotNull Collection<String> paths) {
+    synchronized (lock) {
+      changedPaths.addAll(paths);
+    }
+  }
+
+  /**
+   * Requests full rebuild of graph on next access;
+   */
+  public void markRebuildRequired() {
+    synchronized (lock) {
+      rebuildRequired = true;
+    }
+  }
+
+  /**
+   * Nothing to dispose, pending rebuild expires together with service;
+   */
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * Builds new graph in background and publishes it. Changes, reported during rebuild, stay
+   * pending and are applied to new graph on next access; re-applying them is harmless;
+   */
+  private void scheduleRebuild() {
+    ReadAction.nonBlocking(this::build)
+        .inSmartMode(project)
+        .expireWith(this)
+        .submit(AppExecutorUtil.getAppExecutorService())
+        .onProcessed(newGraph -> {
+          synchronized (lock) {
+            rebuilding = false;
+            if (newGraph != null) {
+              graph = newGraph;
+            } else {
+              rebuildRequired = true;
+            }
+          }
+        });
+  }
+
+  /**
+   * @return new graph with all client libraries of project;
+   */
+  private ClientLibGraph build() {
+    ClientLibGraph newGraph = new ClientLibGraph();
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    Set<String> categories = new LinkedHashSet<>(index.getAllKeys(ClientLibIndex.NAME, project));
+    for (String category : categories) {
+      ProgressManager.checkCanceled();
+      index.processValues(ClientLibIndex.NAME, category, null, (file, info) -> {
+        newGraph.update(file.getPath(), info);
+        return true;
+      }, scope);
+    }
+    return newGraph;
+  }
+
+  /**
+   * @param target graph to update;
+   * @param paths paths of changed '.content.xml' files;
+   */
+  private void update(ClientLibGraph target, Set<String> paths) {
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    for (String path : paths) {
+      VirtualFile file = fileSystem.findFileByPath(path);
+      ClientLibInfo info = null;
+      if (file != null && file.isValid() && scope.contains(file)) {
+        Map<String, ClientLibInfo> fileData = FileBasedIndex.getInstance()
+            .getFileData(ClientLibIndex.NAME, file, project);
+        info = fileData.isEmpty() ? null : fileData.values().iterator().next();
+      }
+      target.update(path, info);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Client Library Manifest.
+ * <p>
+ * Editable model of 'css.txt' or 'js.txt' file. Entries are addressed by paths relative to client
+ * library directory, while '#base=' lines, comments and blank lines are kept as they are. New
+ * entries are written relative to the base in effect at their position; if entry isn't under this
+ * base, it's wrapped into its own '#base=' line and the previous base is restored after it.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ClientLibManifest {
+
+  private static final String BASE_PREFIX = "#base=";
+  private static final String COMMENT_PREFIX = "#";
+  private static final String CURRENT_DIRECTORY = ".";
+  private static final String LINE_COMMENT_PREFIX = "//";
+  private static final String NEW_LINE = "\n";
+  private static final String PARENT_DIRECTORY = "..";
+  private static final char SEPARATOR = '/';
+
+  private final List<String> lines;
+  private final boolean trailingNewLine;
+
+  private ClientLibManifest(List<String> lines, boolean trailingNewLine) {
+    this.lines = lines;
+    this.trailingNewLine = trailingNewLine;
+  }
+
+  /**
+   * @param content content of manifest file;
+   * @return editable manifest;
+   */
+  public static ClientLibManifest parse(String content) {
+    String normalizedContent = content.replace("\r", "");
+    if (normalizedContent.isEmpty()) {
+      return new ClientLibManifest(new ArrayList<>(), false);
+    }
+    boolean trailingNewLine = normalizedContent.endsWith(NEW_LINE);
+    List<String> lines = new ArrayList<>(Arrays.asList(normalizedContent.split(NEW_LINE, -1)));
+    if (trailingNewLine) {
+      lines.remove(lines.size() - 1);
+    }
+    return new ClientLibManifest(lines, trailingNewLine);
+  }
+
+  /**
+   * @return paths of all entries relative to client library directory, in manifest order;
+   */
+  public List<String> getEntries() {
+    List<String> entries = new ArrayList<>();
+    String base = "";
+    for (String line : lines) {
+      String trimmedLine = line.trim();
+      if (isBase(trimmedLine)) {
+        base = getBase(trimmedLine);
+      } else if (isEntry(trimmedLine)) {
+        entries.add(resolve(base, trimmedLine));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * @param path path relative to client library directory;
+   * @return true if manifest has entry with such path;
+   */
+  public boolean contains(String path) {
+    return getEntries().contains(normalize(path));
+  }
+
+  /**
+   * Appends entry to the end of manifest;
+   * @param path path relative to client library directory;
+   */
+  public void add(String path) {
+    insert(lines.size(), normalize(path));
+  }
+
+  /**
+   * Removes entries with such path, or entries under directory with such path;
+   * @param path path relative to client library directory;
+   * @return true if manifest was changed;
+   */
+  public boolean remove(String path) {
+    String normalizedPath = normalize(path);
+    boolean changed = false;
+    String base = "";
+    for (int i = 0; i < lines.size(); i++) {
+      String trimmedLine = lines.get(i).trim();
+      if (isBase(trimmedLine)) {
+        base = getBase(trimmedLine);
+      } else if (isEntry(trimmedLine) && isUnder(resolve(base, trimmedLine), normalizedPath)) {
+        lines.remove(i--);
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Renames entries with such path, or entries under directory with such path, keeping their
+   * positions. '#base=' lines with such directory, or directory under it, are rewritten once, so
+   * entries relative to them stay as they are;
+   * @param oldPath old path relative to client library directory;
+   * @param newPath new path relative to client library directory;
+   * @return true if manifest was changed;
+   */
+  public boolean rename(String oldPath, String newPath) {
+    String normalizedOldPath = normalize(oldPath);
+    String normalizedNewPath = normalize(newPath);
+    boolean changed = false;
+    for (int i = 0; i < lines.size(); i++) {
+      String trimmedLine = lines.get(i).trim();
+      if (isBase(trimmedLine) && isUnder(getBase(trimmedLine), normalizedOldPath)) {
+        lines.set(i, baseLine(normalizedNewPath
+            + getBase(trimmedLine).substring(normalizedOldPath.length())));
+        changed = true;
+      }
+    }
+    String base = "";
+    for (int i = 0; i < lines.size(); i++) {
+      String trimmedLine = lines.get(i).trim();
+      if (isBase(trimmedLine)) {
+        base = getBase(trimmedLine);
+        continue;
+      }
+      String entry = isEntry(trimmedLine) ? resolve(base, trimmedLine) : null;
+      if (entry != null && isUnder(entry, normalizedOldPath)) {
+        lines.remove(i);
+        i += insert(i, normalizedNewPath + entry.substring(normalizedOldPath.length())) - 1;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @return content of manifest file;
+   */
+  public String render() {
+    String content = String.join(NEW_LINE, lines);
+    return trailingNewLine ? content + NEW_LINE : content;
+  }
+
+  /**
+   * @param index index of line, where entry is inserted;
+   * @param path normalized path relative to client library directory;
+   * @return count of inserted lines;
+   */
+  private int insert(int index, String path) {
+    String base = getBaseAt(index);
+    if (base.isEmpty() || path.startsWith(base + SEPARATOR)) {
+      lines.add(index, base.isEmpty() ? path : path.substring(base.length() + 1));
+      return 1;
+    }
+    int separatorIndex = path.lastIndexOf(SEPARATOR);
+    String directory = separatorIndex < 0 ? "" : path.substring(0, separatorIndex);
+    lines.add(index, baseLine(directory));
+    lines.add(index + 1, path.substring(separatorIndex + 1));
+    if (index + 2 == lines.size()) {
+      return 2;
+    }
+    lines.add(index + 2, baseLine(base));
+    return 3;
+  }
+
+  /**
+   * @param index index of line;
+   * @return base in effect at line with such index;
+   */
+  private String getBaseAt(int index) {
+    String base = "";
+    for (int i = 0; i < index; i++) {
+      String trimmedLine = lines.get(i).trim();
+      if (isBase(trimmedLine)) {
+        base = getBase(trimmedLine);
+      }
+    }
+    return base;
+  }
+
+  /**
+   * @param directory normalized directory relative to client library directory;
+   * @return '#base=' line for such directory;
+   */
+  private static String baseLine(String directory) {
+    return BASE_PREFIX + (directory.isEmpty() ? CURRENT_DIRECTORY : directory);
+  }
+
+  /**
+   * @param trimmedLine trimmed line of manifest;
+   * @return true if line is '#base=' line;
+   */
+  private static boolean isBase(String trimmedLine) {
+    return trimmedLine.startsWith(BASE_PREFIX);
+  }
+
+  /**
+   * @param trimmedLine trimmed line of manifest;
+   * @return true if line is entry, not a blank line or comment;
+   */
+  private static boolean isEntry(String trimmedLine) {
+    return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_PREFIX)
+        && !trimmedLine.startsWith(LINE_COMMENT_PREFIX);
+  }
+
+  /**
+   * @param trimmedLine trimmed '#base=' line;
+   * @return normalized base directory, empty for client library directory;
+   */
+  private static String getBase(String trimmedLine) {
+    return normalize(trimmedLine.substring(BASE_PREFIX.length()).trim());
+  }
+
+  /**
+   * @param path normalized path;
+   * @param parent normalized path of file or directory;
+   * @return true if path is equal to parent, or is under it;
+   */
+  private static boolean isUnder(String path, String parent) {
+    return path.equals(parent) || path.startsWith(parent + SEPARATOR);
+  }
+
+  /**
+   * @param base normalized base directory;
+   * @param entry trimmed entry;
+   * @return normalized path of entry relative to client library directory;
+   */
+  private static String resolve(String base, String entry) {
+    if (entry.charAt(0) == SEPARATOR || base.isEmpty()) {
+      return normalize(entry);
+    }
+    return normalize(base + SEPARATOR + entry);
+  }
+
+  /**
+   * @param path path with '/' separators;
+   * @return path without '.' segments, resolved '..' segments and redundant separators;
+   */
+  private static String normalize(String path) {
+    Deque<String> segments = new ArrayDeque<>();
+    for (String segment : path.split(String.valueOf(SEPARATOR))) {
+      if (segment.isEmpty() || segment.equals(CURRENT_DIRECTORY)) {
+        continue;
+      }
+      if (segment.equals(PARENT_DIRECTORY) && !segments.isEmpty()
+          && !segments.peekLast().equals(PARENT_DIRECTORY)) {
+        segments.removeLast();
+      } else {
+        segments.addLast(segment);
+      }
+    }
+    String normalizedPath = String.join(String.valueOf(SEPARATOR), segments);
+    return !path.isEmpty() && path.charAt(0) == SEPARATOR ? SEPARATOR + normalizedPath
+        : normalizedPath;
+  }
+}
@@ -0,0 +1,107 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Manifest Listener.
+ * <p>
+ * Collects created, deleted and renamed paths in 'css' or 'js' directories of client libraries,
+ * and paths of client libraries with changed manifests, and passes them to
+ * {@link ClientLibManifestService}. Only paths of events are inspected here, so the listener stays
+ * cheap even for batches of thousands of events.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibManifestListener implements BulkFileListener {
+
+  private final Project project;
+
+  public ClientLibManifestListener(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param events applied file events;
+   */
+  @Override
+  public void after(@NotNull List<? extends VFileEvent> events) {
+    if (project.isDisposed()) {
+      return;
+    }
+    Set<String> createdPaths = new LinkedHashSet<>();
+    Set<String> deletedPaths = new LinkedHashSet<>();
+    Map<String, String> renames = new LinkedHashMap<>();
+    Set<String> manifestClientLibPaths = new LinkedHashSet<>();
+    for (VFileEvent event : events) {
+      addManifestChange(event.getPath(), manifestClientLibPaths);
+      if (event instanceof VFileCreateEvent) {
+        addChange(event.getPath(), createdPaths);
+      } else if (event instanceof VFileDeleteEvent) {
+        addChange(event.getPath(), deletedPaths);
+      } else if (event instanceof VFileCopyEvent) {
+        VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+        String newPath = copyEvent.getNewParent().getPath() + '/' + copyEvent.getNewChildName();
+        addManifestChange(newPath, manifestClientLibPaths);
+        addChange(newPath, createdPaths);
+      } else if (event instanceof VFileMoveEvent) {
+        VFileMoveEvent moveEvent = (VFileMoveEvent) event;
+        addManifestChange(moveEvent.getNewPath(), manifestClientLibPaths);
+        addRename(moveEvent.getOldPath(), moveEvent.getNewPath(), renames);
+      } else if (event instanceof VFilePropertyChangeEvent
+          && ((VFilePropertyChangeEvent) event).isRename()) {
+        VFilePropertyChangeEvent renameEvent = (VFilePropertyChangeEvent) event;
+        addManifestChange(renameEvent.getNewPath(), manifestClientLibPaths);
+        addRename(renameEvent.getOldPath(), renameEvent.getNewPath(), renames);
+      }
+    }
+    ClientLibManifestService.getInstance(project).schedule(createdPaths, deletedPaths, renames,
+        manifestClientLibPaths);
+  }
+
+  /**
+   * @param path path of changed file;
+   * @param manifestClientLibPaths paths of client libraries, whose manifests were changed;
+   */
+  private static void addManifestChange(String path, Set<String> manifestClientLibPaths) {
+    String clientLibPath = ClientLibManifestService.findManifestClientLibPath(path);
+    if (clientLibPath != null) {
+      manifestClientLibPaths.add(clientLibPath);
+    }
+  }
+
+  /**
+   * @param path path of created or deleted file;
+   * @param paths paths of created or deleted files in client libraries;
+   */
+  private static void addChange(String path, Set<String> paths) {
+    if (!ClientLibManifestService.findClientLibPaths(path).isEmpty()) {
+      paths.add(path);
+    }
+  }
+
+  /**
+   * @param oldPath old path of renamed or moved file;
+   * @param newPath new path of renamed or moved file;
+   * @param renames new paths of renamed or moved files by their old paths;
+   */
+  private static void addRename(String oldPath, String newPath, Map<String, String> renames) {
+    if (!ClientLibManifestService.findClientLibPaths(oldPath).isEmpty()
+        || !ClientLibManifestService.findClientLibPaths(newPath).isEmpty()) {
+      renames.put(oldPath, newPath);
+    }
+  }
+}
@@ -0,0 +1,369 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CSS_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CSS_TXT_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.JS_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.JS_TXT_FILE_NAME;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.update.MergingUpdateQueue;
+import com.intellij.util.ui.update.Update;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Manifest Service.
+ * <p>
+ * Project service, which keeps 'css.txt' and 'js.txt' files of client libraries in sync with
+ * files in their 'css' and 'js' directories. Changes are collected by
+ * {@link ClientLibManifestListener} and applied after a quiet period, so a mass operation results
+ * in a single pass over each affected client library. Only the delta of events is applied to
+ * manifests with {@link ClientLibManifest}: renamed files keep their positions, created files are
+ * appended and entries of deleted files are removed, so files, which were deliberately left out of
+ * manifest, e.g. LESS partials, stay out of it. Client libraries, whose manifests were changed in
+ * the same batch, e.g. by VCS checkout, are skipped. Only existing manifests are maintained.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibManifestService implements Disposable {
+
+  private static final Logger LOGGER = Logger.getInstance(ClientLibManifestService.class);
+
+  private static final String COMMAND_NAME = "Update Client Library Manifests";
+  private static final int DEBOUNCE_DELAY_MS = 500;
+  private static final String QUEUE_NAME = "AEM client library manifests";
+  private static final char SEPARATOR = '/';
+
+  private final Project project;
+  private final MergingUpdateQueue queue;
+  private final Object lock = new Object();
+
+  private Set<String> pendingCreatedPaths = new LinkedHashSet<>();
+  private Set<String> pendingDeletedPaths = new LinkedHashSet<>();
+  private Map<String, String> pendingRenames = new LinkedHashMap<>();
+  private Set<String> pendingSkippedClientLibPaths = new HashSet<>();
+
+  public ClientLibManifestService(Project project) {
+    this.project = project;
+    this.queue = new MergingUpdateQueue(QUEUE_NAME, DEBOUNCE_DELAY_MS, true, null, this, null,
+        Alarm.ThreadToUse.POOLED_THREAD);
+    this.queue.setRestartTimerOnAdd(true);
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ClientLibManifestService getInstance(@NotNull Project project) {
+    return project.getService(ClientLibManifestService.class);
+  }
+
+  /**
+   * @param path path of changed file or directory;
+   * @return paths of directories, which may be client libraries with manifest for such file;
+   */
+  public static List<String> findClientLibPaths(String path) {
+    List<String> clientLibPaths = new ArrayList<>();
+    int segmentEnd = path.length();
+    while (segmentEnd > 0) {
+      int segmentStart = path.lastIndexOf(SEPARATOR, segmentEnd - 1);
+      if (segmentStart <= 0) {
+        break;
+      }
+      if (ManifestKind.of(path.substring(segmentStart + 1, segmentEnd)) != null) {
+        clientLibPaths.add(path.substring(0, segmentStart));
+      }
+      segmentEnd = segmentStart;
+    }
+    return clientLibPaths;
+  }
+
+  /**
+   * @param path path of changed file;
+   * @return path of client library, if file is its 'css.txt' or 'js.txt' manifest, or null;
+   */
+  public static String findManifestClientLibPath(String path) {
+    int nameIndex = path.lastIndexOf(SEPARATOR);
+    if (nameIndex <= 0) {
+      return null;
+    }
+    String name = path.substring(nameIndex + 1);
+    for (ManifestKind kind : ManifestKind.values()) {
+      if (kind.manifestName.equals(name)) {
+        return path.substring(0, nameIndex);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Schedules synchronization of manifests after quiet period;
+   * @param createdPaths paths of created or copied files and directories;
+   * @param deletedPaths paths of deleted files and directories;
+   * @param renames new paths of renamed or moved files and directories by their old paths;
+   * @param manifestClientLibPaths paths of client libraries, whose manifests were changed;
+   */
+  public void schedule(@NotNull Collection<String> createdPaths,
+      @NotNull Collection<String> deletedPaths, @NotNull Map<String, String> renames,
+      @NotNull Collection<String> manifestClientLibPaths) {
+    if (createdPaths.isEmpty() && deletedPaths.isEmpty() && renames.isEmpty()
+        && manifestClientLibPaths.isEmpty()) {
+      return;
+    }
+    synchronized (lock) {
+      pendingCreatedPaths.addAll(createdPaths);
+      pendingDeletedPaths.addAll(deletedPaths);
+      pendingRenames.putAll(renames);
+      pendingSkippedClientLibPaths.addAll(manifestClientLibPaths);
+    }
+    queue.queue(Update.create(QUEUE_NAME, this::flush));
+  }
+
+  /**
+   * Nothing to dispose, queue is disposed together with service;
+   */
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * Computes new content of manifests in background and writes changed ones in one command;
+   */
+  private void flush() {
+    Changes changes;
+    synchronized (lock) {
+      changes = new Changes(pendingCreatedPaths, pendingDeletedPaths, pendingRenames,
+          pendingSkippedClientLibPaths);
+      pendingCreatedPaths = new LinkedHashSet<>();
+      pendingDeletedPaths = new LinkedHashSet<>();
+      pendingRenames = new LinkedHashMap<>();
+      pendingSkippedClientLibPaths = new HashSet<>();
+    }
+    ReadAction.nonBlocking(() -> computeManifests(changes))
+        .expireWith(this)
+        .finishOnUiThread(ModalityState.NON_MODAL, this::writeManifests)
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  /**
+   * @param changes collected changes of files;
+   * @return new content of changed manifests;
+   */
+  private Map<VirtualFile, String> computeManifests(Changes changes) {
+    Set<String> clientLibPaths = new LinkedHashSet<>();
+    changes.createdPaths.forEach(path -> clientLibPaths.addAll(findClientLibPaths(path)));
+    changes.deletedPaths.forEach(path -> clientLibPaths.addAll(findClientLibPaths(path)));
+    changes.renames.forEach((oldPath, newPath) -> {
+      clientLibPaths.addAll(findClientLibPaths(oldPath));
+      clientLibPaths.addAll(findClientLibPaths(newPath));
+    });
+    clientLibPaths.removeAll(changes.skippedClientLibPaths);
+    Map<VirtualFile, String> manifests = new HashMap<>();
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+    for (String clientLibPath : clientLibPaths) {
+      VirtualFile clientLibDirectory = fileSystem.findFileByPath(clientLibPath);
+      if (clientLibDirectory == null || !clientLibDirectory.isDirectory()
+          || !fileIndex.isInContent(clientLibDirectory)) {
+        continue;
+      }
+      for (ManifestKind kind : ManifestKind.values()) {
+        computeManifest(clientLibDirectory, kind, changes, manifests);
+      }
+    }
+    return manifests;
+  }
+
+  /**
+   * @param clientLibDirectory directory of client library;
+   * @param kind kind of manifest;
+   * @param changes collected changes of files;
+   * @param manifests new content of changed manifests;
+   */
+  private static void computeManifest(VirtualFile clientLibDirectory, ManifestKind kind,
+      Changes changes, Map<VirtualFile, String> manifests) {
+    VirtualFile manifestFile = clientLibDirectory.findChild(kind.manifestName);
+    if (manifestFile == null) {
+      return;
+    }
+    String content;
+    try {
+      Document document = FileDocumentManager.getInstance().getCachedDocument(manifestFile);
+      content = document != null ? document.getText() : VfsUtilCore.loadText(manifestFile);
+    } catch (IOException e) {
+      LOGGER.warn(String.format("IOException when reading the manifest: %s", e.getMessage()));
+      return;
+    }
+    ClientLibManifest manifest = ClientLibManifest.parse(content);
+    String clientLibPrefix = clientLibDirectory.getPath() + SEPARATOR;
+    String sourcePath = clientLibPrefix + kind.directoryName;
+    Set<String> createdPaths = new LinkedHashSet<>(changes.createdPaths);
+    Set<String> deletedPaths = new LinkedHashSet<>(changes.deletedPaths);
+    changes.renames.forEach((oldPath, newPath) -> {
+      boolean fromSource = isUnder(oldPath, sourcePath);
+      boolean toSource = isUnder(newPath, sourcePath);
+      if (fromSource && toSource) {
+        manifest.rename(oldPath.substring(clientLibPrefix.length()),
+            newPath.substring(clientLibPrefix.length()));
+      } else if (fromSource) {
+        deletedPaths.add(oldPath);
+      } else if (toSource) {
+        createdPaths.add(newPath);
+      }
+    });
+
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    for (String deletedPath : deletedPaths) {
+      if (isUnder(deletedPath, sourcePath) && fileSystem.findFileByPath(deletedPath) == null) {
+        manifest.remove(deletedPath.substring(clientLibPrefix.length()));
+      }
+    }
+    Set<String> sourceFiles = new TreeSet<>();
+    for (String createdPath : createdPaths) {
+      VirtualFile createdFile =
+          isUnder(createdPath, sourcePath) ? fileSystem.findFileByPath(createdPath) : null;
+      if (createdFile != null) {
+        VfsUtilCore.visitChildrenRecursively(createdFile, new VirtualFileVisitor<Void>() {
+          @Override
+          public boolean visitFile(@NotNull VirtualFile file) {
+            if (!file.isDirectory() && kind.isSource(file)) {
+              sourceFiles.add(VfsUtilCore.getRelativePath(file, clientLibDirectory, SEPARATOR));
+            }
+            return true;
+          }
+        });
+      }
+    }
+    for (String sourceFile : sourceFiles) {
+      if (!manifest.contains(sourceFile)) {
+        manifest.add(sourceFile);
+      }
+    }
+    String newContent = manifest.render();
+    if (!newContent.equals(content)) {
+      manifests.put(manifestFile, newContent);
+    }
+  }
+
+  /**
+   * @param path path of file;
+   * @param directoryPath path of directory;
+   * @return true if path is equal to path of directory, or is under it;
+   */
+  private static boolean isUnder(String path, String directoryPath) {
+    return path.startsWith(directoryPath) && (path.length() == directoryPath.length()
+        || path.charAt(directoryPath.length()) == SEPARATOR);
+  }
+
+  /**
+   * @param manifests new content of changed manifests;
+   */
+  private void writeManifests(Map<VirtualFile, String> manifests) {
+    if (manifests.isEmpty()) {
+      return;
+    }
+    WriteCommandAction.writeCommandAction(project).withName(COMMAND_NAME).run(() -> {
+      FileDocumentManager documentManager = FileDocumentManager.getInstance();
+      manifests.forEach((manifestFile, content) -> {
+        if (!manifestFile.isValid()) {
+          return;
+        }
+        Document document = documentManager.getCachedDocument(manifestFile);
+        try {
+          if (document != null) {
+            document.setText(content);
+            documentManager.saveDocument(document);
+          } else {
+            VfsUtil.saveText(manifestFile, content);
+          }
+        } catch (IOException e) {
+          LOGGER.warn(String.format("IOException when writing the manifest: %s", e.getMessage()));
+        }
+      });
+    });
+  }
+
+  /**
+   * Kind of client library manifest.
+   */
+  private enum ManifestKind {
+    CSS(CSS_DIRECTORY_NAME, CSS_TXT_FILE_NAME, Set.of("css", "less")),
+    JS(JS_DIRECTORY_NAME, JS_TXT_FILE_NAME, Set.of("js"));
+
+    private final String directoryName;
+    private final String manifestName;
+    private final Set<String> extensions;
+
+    ManifestKind(String directoryName, String manifestName, Set<String> extensions) {
+      this.directoryName = directoryName;
+      this.manifestName = manifestName;
+      this.extensions = extensions;
+    }
+
+    /**
+     * @param directoryName name of directory;
+     * @return kind of manifest for source directory with such name, or null;
+     */
+    private static ManifestKind of(String directoryName) {
+      for (ManifestKind kind : values()) {
+        if (kind.directoryName.equals(directoryName)) {
+          return kind;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * @param file file in source directory;
+     * @return true if file should be listed in manifest;
+     */
+    private boolean isSource(VirtualFile file) {
+      String extension = file.getExtension();
+      return extension != null && extensions.contains(extension.toLowerCase());
+    }
+  }
+
+  /**
+   * Changes of files, collected during quiet period.
+   */
+  private static final class Changes {
+
+    private final Set<String> createdPaths;
+    private final Set<String> deletedPaths;
+    private final Map<String, String> renames;
+    private final Set<String> skippedClientLibPaths;
+
+    private Changes(Set<String> createdPaths, Set<String> deletedPaths,
+        Map<String, String> renames, Set<String> skippedClientLibPaths) {
+      this.createdPaths = createdPaths;
+      this.deletedPaths = deletedPaths;
+      this.renames = renames;
+      this.skippedClientLibPaths = skippedClientLibPaths;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.aem.extension.intellij.aem.extension.component;
+
+import static com.aem.extension.intellij.aem.extension.generation.ComponentManifestParser.CSV_EXTENSION;
+import static com.aem.extension.intellij.aem.extension.generation.ComponentManifestParser.JSON_EXTENSION;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner;
+import com.aem.extension.intellij.aem.extension.generation.ComponentManifestParser;
+import com.aem.extension.intellij.aem.extension.generation.ComponentSpec;
+import com.aem.extension.intellij.aem.extension.generation.GeneratedFile;
+import com.aem.extension.intellij.aem.extension.utils.GeneratedFilesWriter;
+import com.intellij.ide.IdeView;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Bulk Component Generation Action Class.
+ * <p>
+ * This class generates AEM components, described in CSV or JSON manifest (see
+ * {@link ComponentManifestParser}). Files of all components are prepared in background with
+ * cancellable progress and then created in write commands of {@value #BATCH_SIZE} components, with
+ * progress and cancellation checked between them. Commands share a group, so they're undone
+ * together.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemBulkComponentAction extends AnAction implements DumbAware {
+
+  private static final String COMMAND_NAME = "Create AEM Components";
+  private static final String ERROR_TITLE = "Cannot create AEM components";
+  private static final String MANIFEST_CHOOSER_TITLE = "Select AEM Components Manifest";
+  private static final String PROGRESS_TITLE = "Creating AEM components";
+  private static final String CANCELLED_MESSAGE = "Cancelled, %d of %d components were created";
+  private static final String DIRECTORY_REMOVED_MESSAGE = "Target directory was removed";
+  private static final int BATCH_SIZE = 10;
+  private static final double PLANNING_FRACTION = 0.1;
+  private static final String SKIPPED_COMPONENTS_MESSAGE = "Components with such titles already exist and were skipped: %s";
+
+  /**
+   * Action is shown only in AEM component locations, which are checked by cached content roots;
+   * @param event action event;
+   */
+  @Override
+  public void update(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    IdeView view = event.getData(LangDataKeys.IDE_VIEW);
+    boolean available = false;
+    if (project != null && view != null) {
+      ContentRootService contentRootService = ContentRootService.getInstance(project);
+      for (PsiDirectory directory : view.getDirectories()) {
+        available |= contentRootService.isComponentLocation(directory.getVirtualFile());
+      }
+    }
+    event.getPresentation().setEnabledAndVisible(available);
+  }
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    IdeView view = event.getData(LangDataKeys.IDE_VIEW);
+    if (project == null || view == null) {
+      return;
+    }
+    PsiDirectory directory = view.getOrChooseDirectory();
+    if (directory == null) {
+      return;
+    }
+    FileChooserDescriptor descriptor = FileChooserDescriptorFactory.createSingleFileDescriptor()
+        .withTitle(MANIFEST_CHOOSER_TITLE)
+        .withFileFilter(file -> CSV_EXTENSION.equalsIgnoreCase(file.getExtension())
+            || JSON_EXTENSION.equalsIgnoreCase(file.getExtension()));
+    VirtualFile manifest = FileChooser.chooseFile(descriptor, project, null);
+    if (manifest == null) {
+      return;
+    }
+    List<ComponentSpec> specs;
+    try {
+      specs = ComponentManifestParser.parse(manifest.getName(), VfsUtilCore.loadText(manifest));
+    } catch (IOException | IllegalArgumentException e) {
+      Messages.showErrorDialog(project, e.getMessage(), ERROR_TITLE);
+      return;
+    }
+    new GenerationTask(project, directory, specs).queue();
+  }
+
+  /**
+   * Task, which prepares files of all components and creates them in batches with progress.
+   */
+  private static final class GenerationTask extends Task.Modal {
+
+    private final PsiDirectory directory;
+    private final List<ComponentSpec> specs;
+    private final List<String> skippedComponents = new ArrayList<>();
+    private final String groupId = COMMAND_NAME + System.nanoTime();
+
+    private int createdCount;
+
+    private GenerationTask(Project project, PsiDirectory directory, List<ComponentSpec> specs) {
+      super(project, PROGRESS_TITLE, true);
+      this.directory = directory;
+      this.specs = specs;
+    }
+
+    /**
+     * Files of one component are always written in the same batch, so cancellation leaves only
+     * complete components;
+     * @param indicator progress indicator, which is checked for cancellation after each component
+     * and each batch;
+     */
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+      indicator.setIndeterminate(false);
+      List<List<GeneratedFile>> componentFiles = new ArrayList<>();
+      for (int i = 0; i < specs.size(); i++) {
+        indicator.checkCanceled();
+        ComponentSpec spec = specs.get(i);
+        indicator.setFraction(PLANNING_FRACTION * i / specs.size());
+        indicator.setText2(spec.getTitle());
+        boolean exists = ReadAction.compute(
+            () -> directory.isValid() && directory.findSubdirectory(spec.getTitle()) != null);
+        if (exists) {
+          skippedComponents.add(spec.getTitle());
+        } else {
+          componentFiles.add(AemFilesPlanner.planComponent(spec));
+        }
+      }
+      for (int i = 0; i < componentFiles.size(); i += BATCH_SIZE) {
+        indicator.checkCanceled();
+        indicator.setFraction(PLANNING_FRACTION
+            + (1 - PLANNING_FRACTION) * i / componentFiles.size());
+        List<GeneratedFile> batch = new ArrayList<>();
+        int end = Math.min(i + BATCH_SIZE, componentFiles.size());
+        for (List<GeneratedFile> files : componentFiles.subList(i, end)) {
+          batch.addAll(files);
+        }
+        indicator.setText2(batch.get(0).getPath());
+        writeBatch(batch, indicator);
+        createdCount = end;
+      }
+      indicator.setFraction(1);
+    }
+
+    /**
+     * @param batch files of batch of components;
+     * @param indicator progress indicator, which defines modality of write command;
+     * @throws IllegalArgumentException if some file already exists;
+     * @throws UncheckedIOException if some file can't be written;
+     */
+    private void writeBatch(List<GeneratedFile> batch, ProgressIndicator indicator) {
+      RuntimeException[] error = new RuntimeException[1];
+      ApplicationManager.getApplication().invokeAndWait(() -> {
+        if (!directory.isValid()) {
+          error[0] = new IllegalArgumentException(DIRECTORY_REMOVED_MESSAGE);
+          return;
+        }
+        try {
+          WriteCommandAction.writeCommandAction(myProject)
+              .withName(COMMAND_NAME)
+              .withGroupId(groupId)
+              .run(() -> GeneratedFilesWriter.write(directory, batch));
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+          error[0] = e;
+        }
+      }, indicator.getModalityState());
+      if (error[0] != null) {
+        throw error[0];
+      }
+    }
+
+    /**
+     * Reports components, which were skipped because they already exist;
+     */
+    @Override
+    public void onSuccess() {
+      if (!skippedComponents.isEmpty()) {
+        Messages.showWarningDialog(myProject, String.format(SKIPPED_COMPONENTS_MESSAGE,
+            String.join(", ", skippedComponents)), COMMAND_NAME);
+      }
+    }
+
+    /**
+     * Reports components, which were created before cancellation;
+     */
+    @Override
+    public void onCancel() {
+      Messages.showWarningDialog(myProject, String.format(CANCELLED_MESSAGE, createdCount,
+          specs.size() - skippedComponents.size()), COMMAND_NAME);
+    }
+
+    /**
+     * @param error error, thrown during preparation or writing of files;
+     */
+    @Override
+    public void onThrowable(@NotNull Throwable error) {
+      Messages.showErrorDialog(myProject, error.getMessage(), ERROR_TITLE);
+    }
+  }
+}
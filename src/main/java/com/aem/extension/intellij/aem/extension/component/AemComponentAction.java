@@ -1,18 +1,21 @@
 package com.aem.extension.intellij.aem.extension.component;
 
-import static com.aem.extension.intellij.aem.extension.utils.FileContentFetcherUtil.getFileContentFromTemplate;
-import static io.netty.util.internal.StringUtil.EMPTY_STRING;
-
+import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.SAME_TITLE_VALIDATION_MESSAGE;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner;
+import com.aem.extension.intellij.aem.extension.generation.ComponentSpec;
+import com.aem.extension.intellij.aem.extension.utils.GeneratedFilesWriter;
+import com.aem.extension.intellij.aem.extension.utils.GenerationRunner;
+import com.intellij.ide.IdeView;
 import com.intellij.ide.actions.CreateElementActionBase;
-import com.intellij.lang.html.HTMLLanguage;
-import com.intellij.lang.xml.XMLLanguage;
-import com.intellij.openapi.application.Application;
-import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.actionSystem.DataContext;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileFactory;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,30 +28,15 @@ import org.jetbrains.annotations.NotNull;
  */
 public class AemComponentAction extends CreateElementActionBase {
 
-  public static final String CONTENT_XML_FILE_NAME = ".content.xml";
-  public static final String CARRIAGE_RETURN = "\r";
-
   private static final String ACTION_NAME = "Create AEM Component";
-  private static final String CQ_DIALOG_DIRECTORY_NAME = "_cq_dialog";
-  private static final String CQ_DIALOG_XML_TEMPLATE_PATH = "templates/DialogTemplate.txt";
-  private static final String CQ_EDIT_CONFIG_DIRECTORY_NAME = "_cq_editConfig";
-  private static final String CQ_TEMPLATE_DIRECTORY_NAME = "_cq_template";
-  private static final String CONTENT_XML_TEMPLATE_PATH = "templates/ComponentContextTemplate.txt";
-  private static final String COMPONENT_GROUP_NAME_FILE_SPECIFIER = "ComponentGroupName";
-  private static final String COMPONENT_TITLE_FILE_SPECIFIER = "ComponentTitle";
-  private static final String DIALOG_DIRECTORY_NAME = "dialog";
+  private static final String EMPTY_GROUP_NAME = "";
   private static final String ERROR_TITLE = "Cannot create AEM component";
 
   public static final int DIALOG_EXIT_CODE = 1;
 
-  private boolean generateDialogXmlFile;
-  private boolean generateCqDialogXmlFile;
-  private boolean generateCqEditConfigXmlFile;
-  private boolean generateCqTemplateXmlFile;
-  private Project currentProject;
-  private String componentGroupName;
-
   /**
+   * Files are prepared in background and created by one short write command, all request state is
+   * kept in the immutable component specification;
    * @param project current project;
    * @param directory where create AEM component;
    * @param elementsConsumer Psi elements;
@@ -56,36 +44,60 @@ public class AemComponentAction extends CreateElementActionBase {
   @Override
   protected void invokeDialog(@NotNull Project project, @NotNull PsiDirectory directory,
       @NotNull Consumer<PsiElement[]> elementsConsumer) {
-    currentProject = project;
     var aemComponentDialogWrapper = new AemComponentDialogWrapper(directory);
 
     if (aemComponentDialogWrapper.showAndGet()) {
-      String componentTitle = aemComponentDialogWrapper.getComponentTitle();
-      componentGroupName = aemComponentDialogWrapper.getComponentGroupName();
-      generateDialogXmlFile = aemComponentDialogWrapper.getGenerateDialogXmlFile();
-      generateCqDialogXmlFile = aemComponentDialogWrapper.getGenerateCqDialogXmlFile();
-      generateCqEditConfigXmlFile = aemComponentDialogWrapper.getGenerateCqEditConfigXmlFile();
-      generateCqTemplateXmlFile = aemComponentDialogWrapper.getGenerateCqTemplateXmlFile();
-      create(componentTitle, directory);
+      ComponentSpec spec = ComponentSpec.builder(aemComponentDialogWrapper.getComponentTitle(),
+              aemComponentDialogWrapper.getComponentGroupName())
+          .generateDialogXmlFile(aemComponentDialogWrapper.getGenerateDialogXmlFile())
+          .generateCqDialogXmlFile(aemComponentDialogWrapper.getGenerateCqDialogXmlFile())
+          .generateCqEditConfigXmlFile(aemComponentDialogWrapper.getGenerateCqEditConfigXmlFile())
+          .generateCqTemplateXmlFile(aemComponentDialogWrapper.getGenerateCqTemplateXmlFile())
+          .build();
       aemComponentDialogWrapper.close(DIALOG_EXIT_CODE);
+      GenerationRunner.run(project, directory, ACTION_NAME, ERROR_TITLE,
+          componentDirectory -> validate(componentDirectory, spec),
+          () -> AemFilesPlanner.planComponent(spec));
     }
   }
 
   /**
+   * Creates component with required files only, synchronously in one undoable command;
    * @param componentTitle title of AEM component;
    * @param directory where create AEM component;
    * @return new PsiElement;
    */
   @Override
   protected PsiElement @NotNull [] create(@NotNull String componentTitle, PsiDirectory directory) {
-    Application application = ApplicationManager.getApplication();
-    application.runWriteAction(() -> {
-      PsiDirectory componentDirectory = directory.createSubdirectory(componentTitle);
-      generateRequiredFiles(componentTitle, componentDirectory);
-    });
+    ComponentSpec spec = ComponentSpec.builder(componentTitle, EMPTY_GROUP_NAME).build();
+    WriteCommandAction.writeCommandAction(directory.getProject())
+        .withName(ACTION_NAME)
+        .run(() -> GeneratedFilesWriter.write(directory, AemFilesPlanner.planComponent(spec)));
     return new PsiElement[0];
   }
 
+  /**
+   * Action is available only in AEM component locations of content packages, which are checked by
+   * cached content roots without file system scan;
+   * @param dataContext data context of action;
+   * @return true if one of selected directories is AEM component location;
+   */
+  @Override
+  protected boolean isAvailable(DataContext dataContext) {
+    Project project = CommonDataKeys.PROJECT.getData(dataContext);
+    IdeView view = LangDataKeys.IDE_VIEW.getData(dataContext);
+    if (project == null || view == null) {
+      return false;
+    }
+    ContentRootService contentRootService = ContentRootService.getInstance(project);
+    for (PsiDirectory directory : view.getDirectories()) {
+      if (contentRootService.isComponentLocation(directory.getVirtualFile())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @return constant error title;
    */
@@ -105,54 +117,14 @@ public class AemComponentAction extends CreateElementActionBase {
   }
 
   /**
-   * Method for generation files under newly created directory;
-   * @param componentTitle title of AEM component, required for files generation;
-   * @param directory of AEM component
+   * @param directory where create AEM component;
+   * @param spec specification of AEM component;
+   * @return validation error message, or null if component can be created;
    */
-  private void generateRequiredFiles(String componentTitle, PsiDirectory directory) {
-    PsiFileFactory factory = PsiFileFactory.getInstance(currentProject);
-
-    PsiFile componentHtmlFile = factory.createFileFromText(String.format("%s.html", componentTitle),
-        HTMLLanguage.INSTANCE, EMPTY_STRING);
-    directory.add(componentHtmlFile);
-
-    String contentXmlFileContent = getFileContentFromTemplate(CONTENT_XML_TEMPLATE_PATH)
-        .replace(CARRIAGE_RETURN, EMPTY_STRING)
-        .replace(COMPONENT_TITLE_FILE_SPECIFIER, componentTitle)
-        .replace(COMPONENT_GROUP_NAME_FILE_SPECIFIER, componentGroupName);
-    PsiFile contentXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME, XMLLanguage.INSTANCE,
-        contentXmlFileContent);
-    directory.add(contentXmlFile);
-
-    if (generateCqDialogXmlFile) {
-      PsiDirectory cqDialogDirectory = directory.createSubdirectory(CQ_DIALOG_DIRECTORY_NAME);
-      String cqDialogFileContent = getFileContentFromTemplate(CQ_DIALOG_XML_TEMPLATE_PATH)
-          .replace(CARRIAGE_RETURN, EMPTY_STRING)
-          .replace(COMPONENT_TITLE_FILE_SPECIFIER, componentTitle);
-      PsiFile cqDialogXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME,
-          XMLLanguage.INSTANCE, cqDialogFileContent);
-      cqDialogDirectory.add(cqDialogXmlFile);
-    }
-
-    if (generateCqEditConfigXmlFile) {
-      PsiDirectory cqEditConfigDirectory = directory.createSubdirectory(
-          CQ_EDIT_CONFIG_DIRECTORY_NAME);
-      PsiFile cqEditConfigXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME,
-          XMLLanguage.INSTANCE, EMPTY_STRING);
-      cqEditConfigDirectory.add(cqEditConfigXmlFile);
-    }
-    if (generateCqTemplateXmlFile) {
-      PsiDirectory cqTemplateDirectory = directory.createSubdirectory(CQ_TEMPLATE_DIRECTORY_NAME);
-      PsiFile cqTemplateXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME,
-          XMLLanguage.INSTANCE, EMPTY_STRING);
-      cqTemplateDirectory.add(cqTemplateXmlFile);
-    }
-    if (generateDialogXmlFile) {
-      PsiDirectory dialogDirectory = directory.createSubdirectory(DIALOG_DIRECTORY_NAME);
-      PsiFile dialogXmlFile = factory.createFileFromText(CONTENT_XML_FILE_NAME,
-          XMLLanguage.INSTANCE,
-          EMPTY_STRING);
-      dialogDirectory.add(dialogXmlFile);
+  private static String validate(PsiDirectory directory, ComponentSpec spec) {
+    if (directory.findSubdirectory(spec.getTitle()) != null) {
+      return SAME_TITLE_VALIDATION_MESSAGE;
     }
+    return null;
   }
 }
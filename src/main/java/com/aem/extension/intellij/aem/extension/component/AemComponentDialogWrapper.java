@@ -1,8 +1,12 @@
 package com.aem.extension.intellij.aem.extension.component;
 
+import com.aem.extension.intellij.aem.extension.index.ComponentIndex;
+import com.aem.extension.intellij.aem.extension.index.ComponentInfo;
+import com.aem.extension.intellij.aem.extension.utils.AsyncValidator;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
 import com.intellij.psi.PsiDirectory;
+import com.intellij.ui.TextFieldWithAutoCompletion;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.JBUI.Borders;
@@ -10,6 +14,7 @@ import com.twelvemonkeys.lang.StringUtil;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
+import java.util.List;
 import javax.swing.JCheckBox;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
@@ -34,8 +39,11 @@ public class AemComponentDialogWrapper extends DialogWrapper {
   private static final String GENERATE_CQ_DIALOG_XML_FILE = "Generate _cq_dialog.xml file";
   private static final String GENERATE_CQ_EDIT_CONFIG_XML_FILE = "Generate _cq_editConfig.xml file";
   private static final String GENERATE_CQ_TEMPLATE_XML_FILE = "Generate _cq_template.xml file";
-  private static final String SAME_TITLE_VALIDATION_MESSAGE = "Component with such title already exists";
+  public static final String SAME_TITLE_VALIDATION_MESSAGE = "Component with such title already exists";
   private static final String EMPTY_GROUP_VALIDATION_MESSAGE = "Group title can't be empty";
+  private static final String SAME_RESOURCE_TYPE_VALIDATION_MESSAGE = "Component with resource type '%s' already exists";
+  private static final String SAME_TITLE_ELSEWHERE_VALIDATION_MESSAGE = "Component '%s' has the same title";
+  private static final String RESOURCE_TYPE_FORMAT = "%s/%s";
 
   public static final int TOP_AND_BOTTOM_MARGIN = 2;
   public static final int LEFT_AND_RIGHT_MARGIN = 0;
@@ -46,17 +54,21 @@ public class AemComponentDialogWrapper extends DialogWrapper {
   private final PsiDirectory directory;
 
   private JTextField componentTitle;
-  private JTextField componentGroup;
+  private TextFieldWithAutoCompletion<String> componentGroup;
   private JCheckBox generateDialogXmlFile;
   private JCheckBox generateCqDialogXmlFile;
   private JCheckBox generateCqEditConfigXmlFile;
   private JCheckBox generateCqTemplateXmlFile;
+  private final AsyncValidator<String> titleValidator;
 
   protected AemComponentDialogWrapper(PsiDirectory directory) {
     super(true);
     this.directory = directory;
     init();
     setTitle(COMPONENT_DIALOG_TITLE);
+    titleValidator = new AsyncValidator<>(directory.getProject(), getDisposable(),
+        this::validateTitle);
+    initValidation();
   }
 
   /**
@@ -81,7 +93,8 @@ public class AemComponentDialogWrapper extends DialogWrapper {
     componentPanel.add(checkBoxPanel, constraints);
 
     componentTitle = new JTextField();
-    componentGroup = new JTextField();
+    componentGroup = new TextFieldWithAutoCompletion<>(directory.getProject(),
+        new ComponentGroupCompletionProvider(directory.getProject()), true, null);
     generateDialogXmlFile = new JCheckBox(GENERATE_DIALOG_XML_FILE);
     generateCqDialogXmlFile = new JCheckBox(GENERATE_CQ_DIALOG_XML_FILE);
     generateCqEditConfigXmlFile = new JCheckBox(GENERATE_CQ_EDIT_CONFIG_XML_FILE);
@@ -123,6 +136,7 @@ public class AemComponentDialogWrapper extends DialogWrapper {
 
   /**
    * Method for validation of specified component title and group;
+   * Checks of existing components run asynchronously, see {@link #validateTitle(String)};
    * @return Validation info if component title and/or group are not valid;
    */
   @Override
@@ -133,9 +147,43 @@ public class AemComponentDialogWrapper extends DialogWrapper {
     if (StringUtil.isEmpty(componentGroup.getText())) {
       return new ValidationInfo(EMPTY_GROUP_VALIDATION_MESSAGE, componentGroup);
     }
-    if (directory.findSubdirectory(componentTitle.getText()) != null) {
+    return titleValidator.validate(componentTitle.getText());
+  }
+
+  /**
+   * Dialog is closed only when title is checked against existing components;
+   */
+  @Override
+  protected void doOKAction() {
+    titleValidator.runWhenValid(componentTitle.getText(), super::doOKAction);
+  }
+
+  /**
+   * Validates, that component with such title doesn't exist in current directory, and component
+   * with the same resource type doesn't exist anywhere in project, warns if some component has
+   * the same title. Runs in background inside read action in smart mode;
+   * @param title component title;
+   * @return Validation info if component with the same resource type or title exists in project;
+   */
+  private ValidationInfo validateTitle(String title) {
+    if (!directory.isValid()) {
+      return null;
+    }
+    if (directory.findSubdirectory(title) != null) {
       return new ValidationInfo(SAME_TITLE_VALIDATION_MESSAGE, componentTitle);
     }
+    ComponentRegistryService registry = ComponentRegistryService.getInstance(directory.getProject());
+    String resourceType = String.format(RESOURCE_TYPE_FORMAT,
+        ComponentIndex.getResourceType(directory.getVirtualFile().getPath()), title);
+    if (!registry.findByResourceType(resourceType).isEmpty()) {
+      return new ValidationInfo(String.format(SAME_RESOURCE_TYPE_VALIDATION_MESSAGE, resourceType),
+          componentTitle);
+    }
+    List<ComponentInfo> sameTitleComponents = registry.findByTitle(title);
+    if (!sameTitleComponents.isEmpty()) {
+      return new ValidationInfo(String.format(SAME_TITLE_ELSEWHERE_VALIDATION_MESSAGE,
+          sameTitleComponents.get(0).getResourceType()), componentTitle).asWarning().withOKEnabled();
+    }
     return null;
   }
 
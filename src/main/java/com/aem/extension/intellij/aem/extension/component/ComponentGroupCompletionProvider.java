@@ -0,0 +1,60 @@
+package com.aem.extension.intellij.aem.extension.component;
+
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.TextFieldWithAutoCompletionListProvider;
+import java.util.Collection;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Component Group Completion Provider.
+ * <p>
+ * Completes component group with groups of existing components, taken from
+ * {@link ComponentRegistryService}.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ComponentGroupCompletionProvider extends TextFieldWithAutoCompletionListProvider<String> {
+
+  private final Project project;
+
+  public ComponentGroupCompletionProvider(Project project) {
+    super(null);
+    this.project = project;
+  }
+
+  /**
+   * @param prefix prefix of component group;
+   * @param cached true if cached variants may be returned;
+   * @param parameters completion parameters;
+   * @return existing component groups, which start with prefix;
+   */
+  @Override
+  public @NotNull Collection<String> getItems(String prefix, boolean cached,
+      CompletionParameters parameters) {
+    if (prefix == null || DumbService.isDumb(project)) {
+      return List.of();
+    }
+    return ComponentRegistryService.getInstance(project).getGroups(prefix);
+  }
+
+  /**
+   * @param text text before caret;
+   * @return whole text, group names may contain spaces;
+   */
+  @Override
+  public @NotNull String getPrefix(@NotNull String text) {
+    return text;
+  }
+
+  /**
+   * @param group component group;
+   * @return group itself;
+   */
+  @Override
+  protected @NotNull String getLookupString(@NotNull String group) {
+    return group;
+  }
+}
@@ -0,0 +1,171 @@
+package com.aem.extension.intellij.aem.extension.component;
+
+import static com.aem.extension.intellij.aem.extension.index.ComponentIndex.GROUP_KEY_PREFIX;
+import static com.aem.extension.intellij.aem.extension.index.ComponentIndex.COMPONENT_KEY;
+import static com.aem.extension.intellij.aem.extension.index.ComponentIndex.SUPER_TYPE_KEY_PREFIX;
+import static com.aem.extension.intellij.aem.extension.index.ComponentIndex.TITLE_KEY_PREFIX;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.ComponentIndex;
+import com.aem.extension.intellij.aem.extension.index.ComponentInfo;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Component Registry Service.
+ * <p>
+ * Project service for lookups of AEM components by resource type, title and super type, backed by
+ * {@link ComponentIndex}. Component groups are kept in a sorted set, which is rebuilt only after
+ * file system changes, so prefix completion of groups doesn't walk index keys on each keystroke.
+ * Resource types aren't indexed, because they depend on location of components, so they are
+ * computed from containing files of found components.
+ * Should be used inside read action in smart mode.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ComponentRegistryService {
+
+  private static final Key<CachedValue<NavigableSet<String>>> GROUPS_KEY =
+      Key.create("aem.extension.component.groups");
+
+  private final Project project;
+
+  public ComponentRegistryService(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ComponentRegistryService getInstance(@NotNull Project project) {
+    return project.getService(ComponentRegistryService.class);
+  }
+
+  /**
+   * @param resourceType resource type of component;
+   * @return components with such resource type;
+   */
+  public List<ComponentInfo> findByResourceType(@NotNull String resourceType) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    List<ComponentInfo> components = new ArrayList<>();
+    for (VirtualFile directory : findDirectories(resourceType)) {
+      VirtualFile contentXml = directory.findChild(CONTENT_XML_FILE_NAME);
+      ComponentInfo component = contentXml == null ? null
+          : index.getFileData(ComponentIndex.NAME, contentXml, project).get(COMPONENT_KEY);
+      if (component != null) {
+        components.add(component.withResourceType(resourceType));
+      }
+    }
+    return components;
+  }
+
+  /**
+   * Directories are found by name and filtered by resource type of their location;
+   * @param resourceType resource type of component;
+   * @return directories of project, which have such resource type;
+   */
+  public List<VirtualFile> findDirectories(@NotNull String resourceType) {
+    String name = resourceType.substring(resourceType.lastIndexOf('/') + 1);
+    List<VirtualFile> directories = new ArrayList<>();
+    for (VirtualFile directory : FilenameIndex.getVirtualFilesByName(project, name,
+        GlobalSearchScope.projectScope(project))) {
+      if (directory.isDirectory()
+          && resourceType.equals(ComponentIndex.getResourceType(directory.getPath()))) {
+        directories.add(directory);
+      }
+    }
+    return directories;
+  }
+
+  /**
+   * @param title title of component;
+   * @return components with such title;
+   */
+  public List<ComponentInfo> findByTitle(@NotNull String title) {
+    return find(TITLE_KEY_PREFIX + title);
+  }
+
+  /**
+   * @param superType resource type of super component;
+   * @return components, which extend component with such resource type;
+   */
+  public List<ComponentInfo> findBySuperType(@NotNull String superType) {
+    return find(SUPER_TYPE_KEY_PREFIX + superType);
+  }
+
+  /**
+   * @param prefix prefix of component group;
+   * @return sorted component groups, which start with prefix;
+   */
+  public List<String> getGroups(@NotNull String prefix) {
+    List<String> groups = new ArrayList<>();
+    for (String group : getGroups().tailSet(prefix, true)) {
+      if (!group.startsWith(prefix)) {
+        break;
+      }
+      groups.add(group);
+    }
+    return groups;
+  }
+
+  /**
+   * @param key prefixed key of index;
+   * @return components for such key, with resource types of their locations;
+   */
+  private List<ComponentInfo> find(String key) {
+    List<ComponentInfo> components = new ArrayList<>();
+    FileBasedIndex.getInstance().processValues(ComponentIndex.NAME, key, null,
+        (file, component) -> {
+          components.add(component.withResourceType(ComponentIndex.getResourceType(file)));
+          return true;
+        }, GlobalSearchScope.projectScope(project));
+    return components;
+  }
+
+  /**
+   * @return cached sorted component groups;
+   */
+  private NavigableSet<String> getGroups() {
+    return CachedValuesManager.getManager(project).getCachedValue(project, GROUPS_KEY,
+        () -> Result.create(computeGroups(), VirtualFileManager.getInstance(),
+            DumbService.getInstance(project).getModificationTracker()), false);
+  }
+
+  /**
+   * Keys of index may outlive their values, so each group key is checked to have some component;
+   * @return sorted component groups of project;
+   */
+  private NavigableSet<String> computeGroups() {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    List<String> groupKeys = new ArrayList<>();
+    index.processAllKeys(ComponentIndex.NAME, key -> {
+      if (key.startsWith(GROUP_KEY_PREFIX)) {
+        groupKeys.add(key);
+      }
+      return true;
+    }, scope, null);
+    NavigableSet<String> groups = new TreeSet<>();
+    for (String groupKey : groupKeys) {
+      if (!index.getContainingFiles(ComponentIndex.NAME, groupKey, scope).isEmpty()) {
+        groups.add(groupKey.substring(GROUP_KEY_PREFIX.length()));
+      }
+    }
+    return groups;
+  }
+}
@@ -0,0 +1,102 @@
+package com.aem.extension.intellij.aem.extension.component;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.COMPOSITE;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.FIELD_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.ComponentIndex;
+import com.aem.extension.intellij.aem.extension.index.DialogPropertyIndex;
+import com.aem.extension.intellij.aem.extension.index.SlingModelIndex;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.XmlElementVisitor;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Dialog Property Inspection.
+ * <p>
+ * Reports properties of '_cq_dialog' dialog, which aren't read by any '@ValueMapValue' field of
+ * Sling Models with the component resource type. Model properties are taken from
+ * {@link SlingModelIndex}; dialogs of components without indexed models aren't checked. Fields
+ * of composite multifields are stored on child nodes and aren't checked either.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class DialogPropertyInspection extends LocalInspectionTool {
+
+  private static final String UNUSED_DIALOG_PROPERTY_MESSAGE = "Property '%s' isn't read by Sling Model of '%s'";
+
+  /**
+   * @param holder problems holder;
+   * @param isOnTheFly true if inspection runs in editor;
+   * @return visitor of 'name' attributes of dialog;
+   */
+  @Override
+  public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder,
+      boolean isOnTheFly) {
+    VirtualFile file = holder.getFile().getVirtualFile();
+    if (file == null || !(holder.getFile() instanceof XmlFile)
+        || !DialogPropertyIndex.isDialogFile(file)) {
+      return PsiElementVisitor.EMPTY_VISITOR;
+    }
+    String resourceType = ComponentIndex.getResourceType(file.getParent().getParent().getPath());
+    Set<String> modelProperties = getModelProperties(holder, resourceType);
+    if (modelProperties == null) {
+      return PsiElementVisitor.EMPTY_VISITOR;
+    }
+    return new XmlElementVisitor() {
+      @Override
+      public void visitXmlAttribute(XmlAttribute attribute) {
+        XmlAttributeValue valueElement = attribute.getValueElement();
+        if (valueElement == null || !FIELD_NAME.equals(attribute.getName())
+            || isInCompositeMultifield(attribute.getParent())) {
+          return;
+        }
+        String propertyName = DialogPropertyIndex.getPropertyName(attribute.getValue());
+        if (propertyName != null && !modelProperties.contains(propertyName)) {
+          holder.registerProblem(valueElement,
+              String.format(UNUSED_DIALOG_PROPERTY_MESSAGE, propertyName, resourceType));
+        }
+      }
+    };
+  }
+
+  /**
+   * @param holder problems holder;
+   * @param resourceType resource type of component;
+   * @return properties of all models of resource type, or null if there are no models;
+   */
+  private static Set<String> getModelProperties(ProblemsHolder holder, String resourceType) {
+    List<Set<String>> values = FileBasedIndex.getInstance().getValues(SlingModelIndex.NAME,
+        resourceType, GlobalSearchScope.projectScope(holder.getProject()));
+    if (values.isEmpty()) {
+      return null;
+    }
+    Set<String> modelProperties = new HashSet<>();
+    values.forEach(modelProperties::addAll);
+    return modelProperties;
+  }
+
+  /**
+   * @param tag tag of dialog field, may be null;
+   * @return true if tag or some of its parents is composite multifield;
+   */
+  private static boolean isInCompositeMultifield(XmlTag tag) {
+    for (XmlTag current = tag; current != null; current = current.getParentTag()) {
+      if (DialogPropertyIndex.isComposite(current.getAttributeValue(COMPOSITE))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
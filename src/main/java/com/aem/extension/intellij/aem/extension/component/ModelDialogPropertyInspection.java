@@ -0,0 +1,118 @@
+package com.aem.extension.intellij.aem.extension.component;
+
+import com.aem.extension.intellij.aem.extension.index.DialogPropertyIndex;
+import com.aem.extension.intellij.aem.extension.index.SlingModelIndex;
+import com.aem.extension.intellij.aem.extension.usage.AemAnnotations;
+import com.aem.extension.intellij.aem.extension.usage.FileImports;
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaElementVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Model Dialog Property Inspection.
+ * <p>
+ * Reports '@ValueMapValue' fields of Sling Models, whose properties aren't edited by dialogs of
+ * model resource types. Dialogs are found by location of components with model resource types,
+ * and their properties are taken from {@link DialogPropertyIndex}; models without literal
+ * resource types or without indexed dialogs aren't checked. Dialog properties are looked up once
+ * per model class by each visitor.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ModelDialogPropertyInspection extends AbstractBaseJavaLocalInspectionTool {
+
+  private static final String MISSING_DIALOG_PROPERTY_MESSAGE = "Property '%s' isn't defined in dialog of '%s'";
+
+  /**
+   * @param holder problems holder;
+   * @param isOnTheFly true if inspection runs in editor;
+   * @return visitor of '@ValueMapValue' fields;
+   */
+  @Override
+  public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder,
+      boolean isOnTheFly) {
+    if (!(holder.getFile() instanceof PsiJavaFile)) {
+      return PsiElementVisitor.EMPTY_VISITOR;
+    }
+    FileImports imports = FileImports.of((PsiJavaFile) holder.getFile());
+    Map<PsiClass, Set<String>> dialogPropertiesByClass = new HashMap<>();
+    return new JavaElementVisitor() {
+      @Override
+      public void visitField(PsiField field) {
+        PsiClass psiClass = field.getContainingClass();
+        PsiAnnotation valueMapValueAnnotation =
+            AemAnnotations.VALUE_MAP_VALUE_FILTER.findAnnotation(field, imports);
+        if (psiClass == null || valueMapValueAnnotation == null) {
+          return;
+        }
+        if (!dialogPropertiesByClass.containsKey(psiClass)) {
+          dialogPropertiesByClass.put(psiClass, getDialogProperties(holder, psiClass, imports));
+        }
+        Set<String> dialogProperties = dialogPropertiesByClass.get(psiClass);
+        String propertyName = SlingModelIndex.getPropertyName(field, valueMapValueAnnotation);
+        if (dialogProperties != null && !dialogProperties.contains(propertyName)) {
+          List<String> resourceTypes = SlingModelIndex.getResourceTypes(
+              AemAnnotations.MODEL_FILTER.findAnnotation(psiClass, imports));
+          holder.registerProblem(field.getNameIdentifier(), String.format(
+              MISSING_DIALOG_PROPERTY_MESSAGE, propertyName, String.join(", ", resourceTypes)));
+        }
+      }
+    };
+  }
+
+  /**
+   * @param holder problems holder;
+   * @param psiClass class, which contains '@ValueMapValue' fields;
+   * @param imports imports of file;
+   * @return properties of all dialogs of model resource types, or null if class isn't model or
+   * there are no dialogs;
+   */
+  private static Set<String> getDialogProperties(ProblemsHolder holder, PsiClass psiClass,
+      FileImports imports) {
+    PsiAnnotation modelAnnotation = AemAnnotations.MODEL_FILTER.findAnnotation(psiClass, imports);
+    return modelAnnotation == null ? null
+        : getDialogProperties(holder, SlingModelIndex.getResourceTypes(modelAnnotation));
+  }
+
+  /**
+   * @param holder problems holder;
+   * @param resourceTypes resource types of model;
+   * @return properties of all dialogs of resource types, or null if there are no dialogs;
+   */
+  private static Set<String> getDialogProperties(ProblemsHolder holder,
+      List<String> resourceTypes) {
+    Project project = holder.getProject();
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    ComponentRegistryService registry = ComponentRegistryService.getInstance(project);
+    Set<String> dialogProperties = null;
+    for (String resourceType : resourceTypes) {
+      for (VirtualFile directory : registry.findDirectories(resourceType)) {
+        VirtualFile dialog = DialogPropertyIndex.getDialogFile(directory);
+        Set<String> properties = dialog == null ? null
+            : index.getFileData(DialogPropertyIndex.NAME, dialog, project)
+                .get(DialogPropertyIndex.DIALOG_KEY);
+        if (properties != null) {
+          if (dialogProperties == null) {
+            dialogProperties = new HashSet<>();
+          }
+          dialogProperties.addAll(properties);
+        }
+      }
+    }
+    return dialogProperties;
+  }
+}
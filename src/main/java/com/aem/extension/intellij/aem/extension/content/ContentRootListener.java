@@ -0,0 +1,74 @@
+package com.aem.extension.intellij.aem.extension.content;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Content Root Listener.
+ * <p>
+ * Asks {@link ContentRootService} to find content roots again, when 'jcr_root' directories or
+ * 'filter.xml' files are changed, or when directories, which may contain them, are deleted, moved
+ * or renamed. Ends of indexing sessions refresh roots as well, because they are found by index.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ContentRootListener implements BulkFileListener, DumbService.DumbModeListener {
+
+  private static final String FILTER_FILE_NAME = "filter.xml";
+
+  private final Project project;
+
+  public ContentRootListener(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param events applied file events;
+   */
+  @Override
+  public void after(@NotNull List<? extends VFileEvent> events) {
+    if (project.isDisposed()) {
+      return;
+    }
+    for (VFileEvent event : events) {
+      if (isContentRootEvent(event)) {
+        ContentRootService.getInstance(project).refresh();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Refreshes roots, because files could be changed during indexing;
+   */
+  @Override
+  public void exitDumbMode() {
+    ContentRootService.getInstance(project).refresh();
+  }
+
+  /**
+   * New directories are empty, so only creation of 'jcr_root' itself matters;
+   * @param event file event;
+   * @return true if event may add or remove content root or filter;
+   */
+  private static boolean isContentRootEvent(VFileEvent event) {
+    String name = event.getPath().substring(event.getPath().lastIndexOf('/') + 1);
+    if (JCR_ROOT_DIRECTORY_NAME.equals(name) || FILTER_FILE_NAME.equals(name)) {
+      return true;
+    }
+    if (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent) {
+      return false;
+    }
+    VirtualFile file = event.getFile();
+    return file != null && file.isDirectory();
+  }
+}
@@ -0,0 +1,264 @@
+package com.aem.extension.intellij.aem.extension.content;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.DocViewReader;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.update.MergingUpdateQueue;
+import com.intellij.util.ui.update.Update;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Content Root Service.
+ * <p>
+ * Project service, which caches FileVault content package roots: 'jcr_root' directories together
+ * with filter roots, declared by 'META-INF/vault/filter.xml' of their packages. Roots are found
+ * through file name index in background after quiet period, when {@link ContentRootListener}
+ * reports changes, so lookups only walk parents of a directory and never scan file system. Until
+ * roots are found for the first time, no directory is treated as content location.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ContentRootService implements Disposable {
+
+  private static final Logger LOGGER = Logger.getInstance(ContentRootService.class);
+
+  private static final String APPS_SEGMENT = "apps";
+  private static final String CLIENT_LIBS_SEGMENT = "clientlibs";
+  private static final String COMPONENTS_SEGMENT = "components";
+  private static final int LOCATION_SEGMENT_INDEX = 2;
+  private static final int DEBOUNCE_DELAY_MS = 500;
+  private static final String FILTER_FILE_NAME = "filter.xml";
+  private static final String FILTER_ROOT = "root";
+  private static final String META_INF_DIRECTORY_NAME = "META-INF";
+  private static final String QUEUE_NAME = "AEM content roots";
+  private static final char SEPARATOR = '/';
+  private static final String VAULT_DIRECTORY_NAME = "vault";
+
+  private final Project project;
+  private final MergingUpdateQueue queue;
+
+  private volatile Map<VirtualFile, List<String>> filterRootsByContentRoot;
+
+  public ContentRootService(Project project) {
+    this.project = project;
+    this.queue = new MergingUpdateQueue(QUEUE_NAME, DEBOUNCE_DELAY_MS, true, null, this, null,
+        Alarm.ThreadToUse.POOLED_THREAD);
+    this.queue.setRestartTimerOnAdd(true);
+    refresh();
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ContentRootService getInstance(@NotNull Project project) {
+    return project.getService(ContentRootService.class);
+  }
+
+  /**
+   * Component can be created in '/apps/{project}/components' and any directory below it;
+   * @param directory directory to check;
+   * @return true if directory is a location of AEM components;
+   */
+  public boolean isComponentLocation(@NotNull VirtualFile directory) {
+    List<String> segments = getRepositorySegments(directory);
+    return segments != null && isLocation(segments, COMPONENTS_SEGMENT);
+  }
+
+  /**
+   * Client library can be created in a directory of component, i.e. directory with '.content.xml'
+   * below '/apps/{project}/components', or in '/apps/{project}/clientlibs' and any directory below
+   * it;
+   * @param directory directory to check;
+   * @return true if directory is a location of AEM client libraries;
+   */
+  public boolean isClientLibLocation(@NotNull VirtualFile directory) {
+    List<String> segments = getRepositorySegments(directory);
+    if (segments == null) {
+      return false;
+    }
+    return isLocation(segments, CLIENT_LIBS_SEGMENT)
+        || isLocation(segments, COMPONENTS_SEGMENT) && segments.size() > LOCATION_SEGMENT_INDEX + 1
+        && directory.findChild(CONTENT_XML_FILE_NAME) != null;
+  }
+
+  /**
+   * Takes O(depth of directory) time, uses cached content roots only;
+   * @param directory directory to check;
+   * @return repository path of directory, e.g. '/apps/project/components', or null if directory
+   * isn't under content root or isn't covered by filter roots of its package;
+   */
+  public @Nullable String getRepositoryPath(@NotNull VirtualFile directory) {
+    List<String> segments = getRepositorySegments(directory);
+    if (segments == null) {
+      return null;
+    }
+    return SEPARATOR + String.join(String.valueOf(SEPARATOR), segments);
+  }
+
+  /**
+   * Takes O(depth of directory) time, uses cached content roots only;
+   * @param directory directory to check;
+   * @return 'jcr_root' directory, which contains directory, or null if directory isn't under
+   * content root or isn't covered by filter roots of its package;
+   */
+  public @Nullable VirtualFile getContentRoot(@NotNull VirtualFile directory) {
+    List<String> segments = getRepositorySegments(directory);
+    if (segments == null) {
+      return null;
+    }
+    VirtualFile contentRoot = directory;
+    for (int i = 0; i < segments.size(); i++) {
+      contentRoot = contentRoot.getParent();
+    }
+    return contentRoot;
+  }
+
+  /**
+   * Schedules search of content roots after quiet period;
+   */
+  public void refresh() {
+    queue.queue(Update.create(QUEUE_NAME, this::flush));
+  }
+
+  /**
+   * Nothing to dispose, queue is disposed together with service;
+   */
+  @Override
+  public void dispose() {
+  }
+
+  /**
+   * @param directory directory to check;
+   * @return names of directories from content root to directory, or null if directory isn't under
+   * content root, isn't covered by filter roots of its package, or content roots aren't found yet;
+   */
+  private @Nullable List<String> getRepositorySegments(@NotNull VirtualFile directory) {
+    if (!directory.isValid() || !directory.isDirectory()) {
+      return null;
+    }
+    Map<VirtualFile, List<String>> roots = filterRootsByContentRoot;
+    if (roots == null) {
+      return null;
+    }
+    List<String> segments = new ArrayList<>();
+    for (VirtualFile current = directory; current != null; current = current.getParent()) {
+      if (roots.containsKey(current)) {
+        Collections.reverse(segments);
+        List<String> filterRoots = roots.get(current);
+        return filterRoots.isEmpty() || isCovered(segments, filterRoots) ? segments : null;
+      }
+      segments.add(current.getName());
+    }
+    return null;
+  }
+
+  /**
+   * Finds content roots in smart mode and replaces cached ones;
+   */
+  private void flush() {
+    ReadAction.nonBlocking(this::computeRoots)
+        .inSmartMode(project)
+        .expireWith(this)
+        .submit(AppExecutorUtil.getAppExecutorService())
+        .onSuccess(roots -> filterRootsByContentRoot = roots);
+  }
+
+  /**
+   * @return filter roots of packages by their 'jcr_root' directories, filter roots are empty for
+   * packages without 'filter.xml';
+   */
+  private Map<VirtualFile, List<String>> computeRoots() {
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    Map<VirtualFile, List<String>> roots = new HashMap<>();
+    for (VirtualFile directory : FilenameIndex.getVirtualFilesByName(project,
+        JCR_ROOT_DIRECTORY_NAME, scope)) {
+      if (directory.isDirectory()) {
+        roots.put(directory, List.of());
+      }
+    }
+    for (VirtualFile filterFile : FilenameIndex.getVirtualFilesByName(project, FILTER_FILE_NAME,
+        scope)) {
+      VirtualFile vaultDirectory = filterFile.getParent();
+      VirtualFile metaInfDirectory = vaultDirectory == null ? null : vaultDirectory.getParent();
+      VirtualFile packageDirectory =
+          metaInfDirectory == null ? null : metaInfDirectory.getParent();
+      if (packageDirectory == null || !VAULT_DIRECTORY_NAME.equals(vaultDirectory.getName())
+          || !META_INF_DIRECTORY_NAME.equals(metaInfDirectory.getName())) {
+        continue;
+      }
+      VirtualFile contentRoot = packageDirectory.findChild(JCR_ROOT_DIRECTORY_NAME);
+      if (contentRoot != null && contentRoot.isDirectory()) {
+        roots.put(contentRoot, readFilterRoots(filterFile));
+      }
+    }
+    return Map.copyOf(roots);
+  }
+
+  /**
+   * @param filterFile 'filter.xml' file of package;
+   * @return repository paths of filter roots, or empty list if file can't be read;
+   */
+  private static List<String> readFilterRoots(VirtualFile filterFile) {
+    List<String> filterRoots = new ArrayList<>();
+    try (InputStream input = filterFile.getInputStream()) {
+      DocViewReader.read(input, Set.of(FILTER_ROOT), node -> {
+        String filterRoot = node.getString(FILTER_ROOT).trim();
+        if (!filterRoot.isEmpty()) {
+          filterRoots.add(filterRoot);
+        }
+        return true;
+      });
+    } catch (IOException | IllegalArgumentException e) {
+      LOGGER.debug(String.format("Filter [%s] skipped", filterFile.getPath()), e);
+      return List.of();
+    }
+    return List.copyOf(filterRoots);
+  }
+
+  /**
+   * @param segments names of directories from content root;
+   * @param filterRoots repository paths of filter roots;
+   * @return true if path of segments equals to one of filter roots or is below it;
+   */
+  private static boolean isCovered(List<String> segments, List<String> filterRoots) {
+    String path = SEPARATOR + String.join(String.valueOf(SEPARATOR), segments);
+    for (String filterRoot : filterRoots) {
+      String root = StringUtil.trimEnd(filterRoot, SEPARATOR);
+      if (path.equals(root) || path.startsWith(root + SEPARATOR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param segments names of directories from content root;
+   * @param name name of location directory, e.g. 'components';
+   * @return true if segments are '/apps/{project}/{name}' or any path below it;
+   */
+  private static boolean isLocation(List<String> segments, String name) {
+    return segments.size() > LOCATION_SEGMENT_INDEX && APPS_SEGMENT.equals(segments.get(0))
+        && name.equals(segments.get(LOCATION_SEGMENT_INDEX));
+  }
+}
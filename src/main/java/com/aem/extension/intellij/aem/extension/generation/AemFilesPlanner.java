@@ -0,0 +1,172 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import com.aem.extension.intellij.aem.extension.template.TemplateContext;
+import com.aem.extension.intellij.aem.extension.template.Templates;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AEM Files Planner.
+ * <p>
+ * Computes paths and contents of all files of AEM components and client libraries from their
+ * specifications, without touching the file system.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemFilesPlanner {
+
+  public static final String CLIENT_LIBRARY = "clientLibrary";
+  public static final String CONTENT_XML_FILE_NAME = ".content.xml";
+  public static final String CSS_DIRECTORY_NAME = "css";
+  public static final String CSS_TXT_FILE_NAME = "css.txt";
+  public static final String JS_DIRECTORY_NAME = "js";
+  public static final String JS_TXT_FILE_NAME = "js.txt";
+
+  private static final String CLIENT_LIBRARY_CATEGORIES_SPECIFIER = "categories";
+  private static final String CLIENT_LIB_CONTENT_XML_TEMPLATE_PATH = "templates/ClientLibContentTemplate.txt";
+  private static final String COMPONENT_CONTENT_XML_TEMPLATE_PATH = "templates/ComponentContextTemplate.txt";
+  private static final String COMPONENT_GROUP_NAME_FILE_SPECIFIER = "componentGroup";
+  private static final String COMPONENT_HTML_FILE_NAME_FORMAT = "%s.html";
+  private static final String COMPONENT_NODE_XML_TEMPLATE_PATH = "templates/ComponentNodeTemplate.txt";
+  private static final String COMPONENT_TITLE_FILE_SPECIFIER = "componentTitle";
+  private static final String CQ_DIALOG_DIRECTORY_NAME = "_cq_dialog";
+  private static final String CQ_DIALOG_XML_TEMPLATE_PATH = "templates/DialogTemplate.txt";
+  private static final String CQ_EDIT_CONFIG_DIRECTORY_NAME = "_cq_editConfig";
+  private static final String CQ_EDIT_CONFIG_SECTION = "cqEditConfig";
+  private static final String CQ_TEMPLATE_DIRECTORY_NAME = "_cq_template";
+  private static final String CQ_TEMPLATE_SECTION = "cqTemplate";
+  private static final String CATEGORIES_SEPARATOR = ",";
+  private static final String CSS_FILE_NAME = "style.css";
+  private static final String DIALOG_DIRECTORY_NAME = "dialog";
+  private static final String FILE_PATH_FORMAT_TEMPLATE = "%s/%s";
+  private static final String JS_FILE_NAME = "script.js";
+  private static final String LESS_FILE_NAME = "style.less";
+  private static final String NEW_LINE = "\n";
+
+  private AemFilesPlanner() {
+  }
+
+  /**
+   * @param spec specification of AEM component;
+   * @return files of component, relative to directory, where component is created;
+   */
+  public static List<GeneratedFile> planComponent(ComponentSpec spec) {
+    long start = AemMetrics.COMPONENT_PLAN.start();
+    try {
+      return createComponentFiles(spec);
+    } finally {
+      AemMetrics.COMPONENT_PLAN.stop(start);
+    }
+  }
+
+  /**
+   * @param spec specification of client library;
+   * @return files of client library, relative to directory of AEM component;
+   */
+  public static List<GeneratedFile> planClientLib(ClientLibSpec spec) {
+    long start = AemMetrics.CLIENT_LIB_PLAN.start();
+    try {
+      return createClientLibFiles(spec);
+    } finally {
+      AemMetrics.CLIENT_LIB_PLAN.stop(start);
+    }
+  }
+
+  /**
+   * @param spec specification of AEM component;
+   * @return files of component;
+   */
+  private static List<GeneratedFile> createComponentFiles(ComponentSpec spec) {
+    String title = spec.getTitle();
+    List<GeneratedFile> files = new ArrayList<>();
+    TemplateContext templateContext = new TemplateContext()
+        .value(COMPONENT_TITLE_FILE_SPECIFIER, title)
+        .value(COMPONENT_GROUP_NAME_FILE_SPECIFIER, spec.getGroupName());
+
+    files.add(new GeneratedFile(path(title, String.format(COMPONENT_HTML_FILE_NAME_FORMAT, title)),
+        ""));
+    files.add(new GeneratedFile(path(title, CONTENT_XML_FILE_NAME),
+        Templates.get(COMPONENT_CONTENT_XML_TEMPLATE_PATH).render(templateContext)));
+
+    if (spec.getGenerateCqDialogXmlFile()) {
+      files.add(new GeneratedFile(path(title, CQ_DIALOG_DIRECTORY_NAME, CONTENT_XML_FILE_NAME),
+          Templates.get(CQ_DIALOG_XML_TEMPLATE_PATH).render(templateContext)));
+    }
+    if (spec.getGenerateCqEditConfigXmlFile()) {
+      files.add(new GeneratedFile(path(title, CQ_EDIT_CONFIG_DIRECTORY_NAME, CONTENT_XML_FILE_NAME),
+          Templates.get(COMPONENT_NODE_XML_TEMPLATE_PATH).render(templateContext
+              .flag(CQ_EDIT_CONFIG_SECTION, true)
+              .flag(CQ_TEMPLATE_SECTION, false))));
+    }
+    if (spec.getGenerateCqTemplateXmlFile()) {
+      files.add(new GeneratedFile(path(title, CQ_TEMPLATE_DIRECTORY_NAME, CONTENT_XML_FILE_NAME),
+          Templates.get(COMPONENT_NODE_XML_TEMPLATE_PATH).render(templateContext
+              .flag(CQ_EDIT_CONFIG_SECTION, false)
+              .flag(CQ_TEMPLATE_SECTION, true))));
+    }
+    if (spec.getGenerateDialogXmlFile()) {
+      files.add(new GeneratedFile(path(title, DIALOG_DIRECTORY_NAME, CONTENT_XML_FILE_NAME), ""));
+    }
+    if (spec.getClientLib() != null) {
+      for (GeneratedFile clientLibFile : planClientLib(spec.getClientLib())) {
+        files.add(new GeneratedFile(path(title, clientLibFile.getPath()),
+            clientLibFile.getContent()));
+      }
+    }
+    return files;
+  }
+
+  /**
+   * @param categories comma separated client library categories;
+   * @return trimmed non-empty categories;
+   */
+  private static List<String> splitCategories(String categories) {
+    List<String> categoryList = new ArrayList<>();
+    for (String category : categories.split(CATEGORIES_SEPARATOR)) {
+      if (!category.isBlank()) {
+        categoryList.add(category.trim());
+      }
+    }
+    return categoryList;
+  }
+
+  /**
+   * @param spec specification of client library;
+   * @return files of client library;
+   */
+  private static List<GeneratedFile> createClientLibFiles(ClientLibSpec spec) {
+    List<GeneratedFile> files = new ArrayList<>();
+    files.add(new GeneratedFile(path(CLIENT_LIBRARY, CONTENT_XML_FILE_NAME),
+        Templates.get(CLIENT_LIB_CONTENT_XML_TEMPLATE_PATH).render(new TemplateContext().values(
+            CLIENT_LIBRARY_CATEGORIES_SPECIFIER, splitCategories(spec.getCategories())))));
+
+    List<String> cssTxtEntries = new ArrayList<>();
+    if (spec.getGenerateCssFile()) {
+      files.add(new GeneratedFile(path(CLIENT_LIBRARY, CSS_DIRECTORY_NAME, CSS_FILE_NAME), ""));
+      cssTxtEntries.add(String.format(FILE_PATH_FORMAT_TEMPLATE, CSS_DIRECTORY_NAME, CSS_FILE_NAME));
+    }
+    if (spec.getGenerateLessFile()) {
+      files.add(new GeneratedFile(path(CLIENT_LIBRARY, CSS_DIRECTORY_NAME, LESS_FILE_NAME), ""));
+      cssTxtEntries.add(String.format(FILE_PATH_FORMAT_TEMPLATE, CSS_DIRECTORY_NAME, LESS_FILE_NAME));
+    }
+    if (!cssTxtEntries.isEmpty()) {
+      files.add(new GeneratedFile(path(CLIENT_LIBRARY, CSS_TXT_FILE_NAME),
+          String.join(NEW_LINE, cssTxtEntries)));
+    }
+    if (spec.getGenerateJsFile()) {
+      files.add(new GeneratedFile(path(CLIENT_LIBRARY, JS_DIRECTORY_NAME, JS_FILE_NAME), ""));
+      files.add(new GeneratedFile(path(CLIENT_LIBRARY, JS_TXT_FILE_NAME),
+          String.format(FILE_PATH_FORMAT_TEMPLATE, JS_DIRECTORY_NAME, JS_FILE_NAME)));
+    }
+    return files;
+  }
+
+  /**
+   * @param segments path segments;
+   * @return segments, joined with '/';
+   */
+  private static String path(String... segments) {
+    return String.join("/", segments);
+  }
+}
@@ -0,0 +1,178 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import static com.aem.extension.intellij.aem.extension.generation.AemFilesPlanner.CLIENT_LIBRARY;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AEM Scaffolder.
+ * <p>
+ * Generates AEM components and client libraries on plain file system paths, without IDE. Files are
+ * planned by {@link AemFilesPlanner}, all planned paths are checked first, and files are written with
+ * UTF-8 encoding only if none of them exists, so existing files are never overwritten. IDE actions
+ * plan and check files the same way before writing them through the virtual file system, and
+ * {@link AemScaffolderCli} uses this engine for bulk generation from build scripts.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemScaffolder {
+
+  private static final String COMPONENT_EXISTS_MESSAGE = "Component [%s] already exists in [%s]";
+  private static final String CLIENT_LIB_EXISTS_MESSAGE = "Client library already exists in [%s]";
+  private static final String FILE_EXISTS_MESSAGE = "File [%s] already exists";
+  private static final String INVALID_PATH_MESSAGE = "Path [%s] isn't a relative path inside directory";
+  private static final String CURRENT_DIRECTORY = ".";
+  private static final String PARENT_DIRECTORY = "..";
+  private static final char SEPARATOR = '/';
+
+  private AemScaffolder() {
+  }
+
+  /**
+   * @param directory where create AEM component;
+   * @param spec specification of AEM component;
+   * @return directory of created component;
+   * @throws IllegalArgumentException if title isn't a valid name or component already exists;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static Path generateComponent(Path directory, ComponentSpec spec) {
+    List<GeneratedFile> files = AemFilesPlanner.planComponent(spec);
+    checkPaths(files);
+    if (componentExists(directory, spec)) {
+      throw new IllegalArgumentException(
+          String.format(COMPONENT_EXISTS_MESSAGE, spec.getTitle(), directory));
+    }
+    writeFiles(directory, files);
+    return directory.resolve(spec.getTitle());
+  }
+
+  /**
+   * Files of all new components are planned and checked first and written in one pass, so one
+   * invalid component leaves no other component half-written;
+   * @param directory where create AEM components;
+   * @param specs specifications of AEM components;
+   * @return titles of components, which already exist and were skipped;
+   * @throws IllegalArgumentException if some title isn't a valid name;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static List<String> generateComponents(Path directory, List<ComponentSpec> specs) {
+    List<GeneratedFile> files = new ArrayList<>();
+    List<String> skippedComponents = new ArrayList<>();
+    for (ComponentSpec spec : specs) {
+      List<GeneratedFile> componentFiles = AemFilesPlanner.planComponent(spec);
+      checkPaths(componentFiles);
+      if (componentExists(directory, spec)) {
+        skippedComponents.add(spec.getTitle());
+      } else {
+        files.addAll(componentFiles);
+      }
+    }
+    writeFiles(directory, files);
+    return skippedComponents;
+  }
+
+  /**
+   * @param componentDirectory directory of AEM component;
+   * @param spec specification of client library;
+   * @return directory of created client library;
+   * @throws IllegalArgumentException if client library already exists;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static Path generateClientLib(Path componentDirectory, ClientLibSpec spec) {
+    if (Files.exists(componentDirectory.resolve(CLIENT_LIBRARY))) {
+      throw new IllegalArgumentException(
+          String.format(CLIENT_LIB_EXISTS_MESSAGE, componentDirectory));
+    }
+    writeFiles(componentDirectory, AemFilesPlanner.planClientLib(spec));
+    return componentDirectory.resolve(CLIENT_LIBRARY);
+  }
+
+  /**
+   * All paths are checked and targets are looked up before the first file is written, so invalid
+   * or conflicting plan leaves file system untouched;
+   * @param baseDirectory directory, which paths of files are relative to;
+   * @param files generated files;
+   * @return top-level files and directories, which contain written files, in order of writing;
+   * @throws IllegalArgumentException if some path is invalid or some file already exists;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static Set<Path> writeFiles(Path baseDirectory, List<GeneratedFile> files) {
+    checkPaths(files);
+    Path basePath = baseDirectory.toAbsolutePath().normalize();
+    Map<Path, GeneratedFile> filesByPath = new LinkedHashMap<>();
+    for (GeneratedFile file : files) {
+      Path path = basePath.resolve(file.getPath());
+      if (filesByPath.put(path, file) != null || Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+        throw new IllegalArgumentException(String.format(FILE_EXISTS_MESSAGE, path));
+      }
+    }
+    Set<Path> roots = new LinkedHashSet<>();
+    Set<Path> createdDirectories = new HashSet<>();
+    try {
+      for (Map.Entry<Path, GeneratedFile> entry : filesByPath.entrySet()) {
+        Path path = entry.getKey();
+        if (createdDirectories.add(path.getParent())) {
+          Files.createDirectories(path.getParent());
+        }
+        Files.write(path, entry.getValue().getContent().getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        roots.add(basePath.resolve(getRootName(entry.getValue())));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when writing generated files: %s", e.getMessage()), e);
+    }
+    return roots;
+  }
+
+  /**
+   * @param files generated files;
+   * @throws IllegalArgumentException if some path isn't a relative path inside base directory,
+   * e.g. contains '..', empty segments or backslashes;
+   */
+  public static void checkPaths(List<GeneratedFile> files) {
+    for (GeneratedFile file : files) {
+      String path = file.getPath();
+      if (path.isEmpty() || path.indexOf('\\') >= 0) {
+        throw new IllegalArgumentException(String.format(INVALID_PATH_MESSAGE, path));
+      }
+      for (String segment : path.split(String.valueOf(SEPARATOR), -1)) {
+        if (segment.isEmpty() || CURRENT_DIRECTORY.equals(segment)
+            || PARENT_DIRECTORY.equals(segment)) {
+          throw new IllegalArgumentException(String.format(INVALID_PATH_MESSAGE, path));
+        }
+      }
+    }
+  }
+
+  /**
+   * @param directory where create AEM component;
+   * @param spec specification of AEM component;
+   * @return true if file or directory with title of component exists;
+   */
+  private static boolean componentExists(Path directory, ComponentSpec spec) {
+    return Files.exists(directory.resolve(spec.getTitle()));
+  }
+
+  /**
+   * @param file generated file;
+   * @return name of top-level file or directory, which contains generated file;
+   */
+  private static String getRootName(GeneratedFile file) {
+    int separatorIndex = file.getPath().indexOf(SEPARATOR);
+    return separatorIndex < 0 ? file.getPath() : file.getPath().substring(0, separatorIndex);
+  }
+}
@@ -0,0 +1,180 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command line entry point of {@link AemScaffolder}.
+ * <p>
+ * Generates AEM components and client libraries without IDE, e.g. by 'gradle scaffold --args'.
+ * Commands are:
+ * <ul>
+ *   <li>component &lt;directory&gt; &lt;title&gt; &lt;group&gt; [--dialog] [--cq-dialog]
+ *   [--cq-edit-config] [--cq-template]</li>
+ *   <li>clientlib &lt;componentDirectory&gt; &lt;categories&gt; [--css] [--less] [--js]</li>
+ *   <li>manifest &lt;directory&gt; &lt;manifest.csv|manifest.json&gt;</li>
+ * </ul>
+ * Exit code is 0 on success, 1 on generation error and 2 on wrong arguments.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemScaffolderCli {
+
+  private static final String COMPONENT_COMMAND = "component";
+  private static final String CLIENT_LIB_COMMAND = "clientlib";
+  private static final String MANIFEST_COMMAND = "manifest";
+  private static final String DIALOG_OPTION = "--dialog";
+  private static final String CQ_DIALOG_OPTION = "--cq-dialog";
+  private static final String CQ_EDIT_CONFIG_OPTION = "--cq-edit-config";
+  private static final String CQ_TEMPLATE_OPTION = "--cq-template";
+  private static final String CSS_OPTION = "--css";
+  private static final String LESS_OPTION = "--less";
+  private static final String JS_OPTION = "--js";
+  private static final Set<String> COMPONENT_OPTIONS = Set.of(DIALOG_OPTION, CQ_DIALOG_OPTION,
+      CQ_EDIT_CONFIG_OPTION, CQ_TEMPLATE_OPTION);
+  private static final Set<String> CLIENT_LIB_OPTIONS = Set.of(CSS_OPTION, LESS_OPTION, JS_OPTION);
+  private static final String USAGE = String.join(System.lineSeparator(),
+      "Usage:",
+      "  component <directory> <title> <group> [--dialog] [--cq-dialog] [--cq-edit-config]"
+          + " [--cq-template]",
+      "  clientlib <componentDirectory> <categories> [--css] [--less] [--js]",
+      "  manifest <directory> <manifest.csv|manifest.json>");
+  private static final String CREATED_MESSAGE = "Created %s in %d ms";
+  private static final String SKIPPED_COMPONENTS_MESSAGE = "Components with such titles already exist and were skipped: %s";
+
+  private static final int EXIT_SUCCESS = 0;
+  private static final int EXIT_ERROR = 1;
+  private static final int EXIT_USAGE = 2;
+
+  private AemScaffolderCli() {
+  }
+
+  /**
+   * @param args command and its arguments;
+   */
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * @param args command and its arguments;
+   * @param out stream for results;
+   * @param err stream for errors and usage;
+   * @return exit code;
+   */
+  public static int run(String[] args, PrintStream out, PrintStream err) {
+    long startNanos = System.nanoTime();
+    try {
+      String result;
+      if (args.length >= 4 && COMPONENT_COMMAND.equals(args[0])) {
+        result = generateComponent(args);
+      } else if (args.length >= 3 && CLIENT_LIB_COMMAND.equals(args[0])) {
+        result = generateClientLib(args);
+      } else if (args.length == 3 && MANIFEST_COMMAND.equals(args[0])) {
+        result = generateFromManifest(Path.of(args[1]), Path.of(args[2]), err);
+      } else {
+        err.println(USAGE);
+        return EXIT_USAGE;
+      }
+      out.println(String.format(CREATED_MESSAGE, result,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+      return EXIT_SUCCESS;
+    } catch (UsageException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return EXIT_USAGE;
+    } catch (IllegalArgumentException | UncheckedIOException e) {
+      err.println(e.getMessage());
+      return EXIT_ERROR;
+    }
+  }
+
+  /**
+   * @param args 'component', directory, title, group and options;
+   * @return description of created component;
+   */
+  private static String generateComponent(String[] args) {
+    List<String> options = getOptions(args, 4, COMPONENT_OPTIONS);
+    ComponentSpec spec = ComponentSpec.builder(args[2], args[3])
+        .generateDialogXmlFile(options.contains(DIALOG_OPTION))
+        .generateCqDialogXmlFile(options.contains(CQ_DIALOG_OPTION))
+        .generateCqEditConfigXmlFile(options.contains(CQ_EDIT_CONFIG_OPTION))
+        .generateCqTemplateXmlFile(options.contains(CQ_TEMPLATE_OPTION))
+        .build();
+    return AemScaffolder.generateComponent(Path.of(args[1]), spec).toString();
+  }
+
+  /**
+   * @param args 'clientlib', component directory, categories and options;
+   * @return description of created client library;
+   */
+  private static String generateClientLib(String[] args) {
+    List<String> options = getOptions(args, 3, CLIENT_LIB_OPTIONS);
+    ClientLibSpec spec = new ClientLibSpec(args[2], options.contains(CSS_OPTION),
+        options.contains(LESS_OPTION), options.contains(JS_OPTION));
+    return AemScaffolder.generateClientLib(Path.of(args[1]), spec).toString();
+  }
+
+  /**
+   * @param directory where create AEM components;
+   * @param manifest CSV or JSON manifest of components;
+   * @param err stream for skipped components;
+   * @return description of created components;
+   * @throws UncheckedIOException if manifest can't be read;
+   */
+  private static String generateFromManifest(Path directory, Path manifest, PrintStream err) {
+    String content;
+    try {
+      content = Files.readString(manifest, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when reading manifest [%s]", manifest), e);
+    }
+    List<ComponentSpec> specs =
+        ComponentManifestParser.parse(manifest.getFileName().toString(), content);
+    List<String> skippedComponents = AemScaffolder.generateComponents(directory, specs);
+    if (!skippedComponents.isEmpty()) {
+      err.println(String.format(SKIPPED_COMPONENTS_MESSAGE,
+          String.join(", ", skippedComponents)));
+    }
+    return String.format("%d components in [%s]", specs.size() - skippedComponents.size(),
+        directory);
+  }
+
+  /**
+   * @param args command and its arguments;
+   * @param from index of first option;
+   * @param allowedOptions options of command;
+   * @return options of command;
+   * @throws UsageException if some option isn't allowed;
+   */
+  private static List<String> getOptions(String[] args, int from, Set<String> allowedOptions) {
+    List<String> options = Arrays.asList(args).subList(from, args.length);
+    for (String option : options) {
+      if (!allowedOptions.contains(option)) {
+        throw new UsageException(String.format("Unknown option [%s]", option));
+      }
+    }
+    return options;
+  }
+
+  /**
+   * Error of command line arguments.
+   */
+  private static final class UsageException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private UsageException(String message) {
+      super(message);
+    }
+  }
+}
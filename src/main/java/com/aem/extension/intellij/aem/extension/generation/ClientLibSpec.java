@@ -0,0 +1,52 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+/**
+ * Client Library Specification.
+ * <p>
+ * Immutable description of a client library to generate.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ClientLibSpec {
+
+  private final String categories;
+  private final boolean generateCssFile;
+  private final boolean generateLessFile;
+  private final boolean generateJsFile;
+
+  public ClientLibSpec(String categories, boolean generateCssFile, boolean generateLessFile,
+      boolean generateJsFile) {
+    this.categories = categories;
+    this.generateCssFile = generateCssFile;
+    this.generateLessFile = generateLessFile;
+    this.generateJsFile = generateJsFile;
+  }
+
+  /**
+   * @return client library categories as string;
+   */
+  public String getCategories() {
+    return categories;
+  }
+
+  /**
+   * @return true if CSS file should be generated;
+   */
+  public boolean getGenerateCssFile() {
+    return generateCssFile;
+  }
+
+  /**
+   * @return true if LESS file should be generated;
+   */
+  public boolean getGenerateLessFile() {
+    return generateLessFile;
+  }
+
+  /**
+   * @return true if JS file should be generated;
+   */
+  public boolean getGenerateJsFile() {
+    return generateJsFile;
+  }
+}
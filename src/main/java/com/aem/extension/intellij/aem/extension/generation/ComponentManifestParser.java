@@ -0,0 +1,251 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Component Manifest Parser.
+ * <p>
+ * Reads specifications of AEM components for bulk generation from CSV or JSON manifest.
+ * CSV manifest has a header row, JSON manifest is an array of objects. Both use the same columns
+ * or keys: title, group, dialog, cqDialog, cqEditConfig, cqTemplate, clientLibCategories, css,
+ * less and js. Client library is generated only if clientLibCategories isn't empty. JSON is read
+ * by Gson, which is bundled with the platform. Titles are checked to be valid JCR node names while
+ * parsing, so invalid manifest fails before any file is planned.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ComponentManifestParser {
+
+  public static final String CSV_EXTENSION = "csv";
+  public static final String JSON_EXTENSION = "json";
+
+  private static final String TITLE = "title";
+  private static final String GROUP = "group";
+  private static final String DIALOG = "dialog";
+  private static final String CQ_DIALOG = "cqdialog";
+  private static final String CQ_EDIT_CONFIG = "cqeditconfig";
+  private static final String CQ_TEMPLATE = "cqtemplate";
+  private static final String CLIENT_LIB_CATEGORIES = "clientlibcategories";
+  private static final String CSS = "css";
+  private static final String LESS = "less";
+  private static final String JS = "js";
+
+  private static final Set<String> TRUE_VALUES = Set.of("true", "yes", "y", "1", "x");
+  private static final String INVALID_NAME_CHARACTERS = "/:[]|*";
+  private static final Set<String> RESERVED_NAMES = Set.of(".", "..");
+
+  private ComponentManifestParser() {
+  }
+
+  /**
+   * @param fileName name of manifest file, its extension defines format;
+   * @param content content of manifest file;
+   * @return specifications of components;
+   * @throws IllegalArgumentException if manifest is malformed or contains invalid components;
+   */
+  public static List<ComponentSpec> parse(String fileName, String content) {
+    String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+    List<Map<String, String>> rows;
+    if (lowerCaseName.endsWith("." + JSON_EXTENSION)) {
+      rows = readJson(content);
+    } else if (lowerCaseName.endsWith("." + CSV_EXTENSION)) {
+      rows = readCsv(content);
+    } else {
+      throw new IllegalArgumentException(
+          String.format("Manifest [%s] should be a CSV or JSON file.", fileName));
+    }
+    List<ComponentSpec> specs = new ArrayList<>(rows.size());
+    Set<String> titles = new HashSet<>();
+    for (int i = 0; i < rows.size(); i++) {
+      ComponentSpec spec = toSpec(rows.get(i), i + 1);
+      if (!titles.add(spec.getTitle())) {
+        throw new IllegalArgumentException(String.format(
+            "Component [%s] is declared more than once in manifest.", spec.getTitle()));
+      }
+      specs.add(spec);
+    }
+    return specs;
+  }
+
+  /**
+   * @param row values of manifest row by lower case column names;
+   * @param rowNumber number of row, starting from 1;
+   * @return specification of component;
+   */
+  private static ComponentSpec toSpec(Map<String, String> row, int rowNumber) {
+    String title = row.getOrDefault(TITLE, "").trim();
+    String group = row.getOrDefault(GROUP, "").trim();
+    if (title.isEmpty() || group.isEmpty()) {
+      throw new IllegalArgumentException(String.format(
+          "Component #%d in manifest should have title and group.", rowNumber));
+    }
+    if (!isValidNodeName(title)) {
+      throw new IllegalArgumentException(String.format(
+          "Title [%s] of component #%d in manifest isn't a valid JCR node name.", title,
+          rowNumber));
+    }
+    String categories = row.getOrDefault(CLIENT_LIB_CATEGORIES, "").trim();
+    ClientLibSpec clientLib = categories.isEmpty() ? null : new ClientLibSpec(categories,
+        isTrue(row, CSS), isTrue(row, LESS), isTrue(row, JS));
+    return ComponentSpec.builder(title, group)
+        .generateDialogXmlFile(isTrue(row, DIALOG))
+        .generateCqDialogXmlFile(isTrue(row, CQ_DIALOG))
+        .generateCqEditConfigXmlFile(isTrue(row, CQ_EDIT_CONFIG))
+        .generateCqTemplateXmlFile(isTrue(row, CQ_TEMPLATE))
+        .clientLib(clientLib)
+        .build();
+  }
+
+  /**
+   * JCR node name can't be '.' or '..', and can't contain '/', ':', '[', ']', '|', '*' or control
+   * characters;
+   * @param name name of node;
+   * @return true if name is a valid JCR node name without namespace;
+   */
+  public static boolean isValidNodeName(String name) {
+    if (name.isEmpty() || RESERVED_NAMES.contains(name)) {
+      return false;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char character = name.charAt(i);
+      if (INVALID_NAME_CHARACTERS.indexOf(character) >= 0 || Character.isISOControl(character)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param row values of manifest row;
+   * @param column lower case column name;
+   * @return true if column value is one of true values;
+   */
+  private static boolean isTrue(Map<String, String> row, String column) {
+    return TRUE_VALUES.contains(row.getOrDefault(column, "").trim().toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * @param content CSV content with header row;
+   * @return rows as values by lower case column names;
+   */
+  private static List<Map<String, String>> readCsv(String content) {
+    List<List<String>> records = new ArrayList<>();
+    List<String> record = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < content.length(); i++) {
+      char character = content.charAt(i);
+      if (quoted) {
+        if (character == '"' && i + 1 < content.length() && content.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (character == '"') {
+          quoted = false;
+        } else {
+          field.append(character);
+        }
+      } else if (character == '"') {
+        quoted = true;
+      } else if (character == ',') {
+        record.add(field.toString());
+        field.setLength(0);
+      } else if (character == '\n') {
+        record.add(field.toString());
+        field.setLength(0);
+        records.add(record);
+        record = new ArrayList<>();
+      } else if (character != '\r') {
+        field.append(character);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("CSV manifest has unclosed quote.");
+    }
+    if (field.length() > 0 || !record.isEmpty()) {
+      record.add(field.toString());
+      records.add(record);
+    }
+    records.removeIf(values -> values.stream().allMatch(value -> value.trim().isEmpty()));
+    if (records.isEmpty()) {
+      return List.of();
+    }
+    List<String> header = new ArrayList<>();
+    for (String column : records.get(0)) {
+      header.add(normalizeKey(column));
+    }
+    List<Map<String, String>> rows = new ArrayList<>(records.size() - 1);
+    for (List<String> values : records.subList(1, records.size())) {
+      Map<String, String> row = new HashMap<>();
+      for (int i = 0; i < header.size() && i < values.size(); i++) {
+        row.put(header.get(i), values.get(i));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /**
+   * @param content JSON array of flat objects;
+   * @return rows as values by normalized keys, values are read as strings;
+   */
+  private static List<Map<String, String>> readJson(String content) {
+    JsonElement root;
+    try {
+      root = JsonParser.parseString(content);
+    } catch (JsonParseException e) {
+      throw new IllegalArgumentException(
+          String.format("JSON manifest is malformed: %s", e.getMessage()), e);
+    }
+    if (!root.isJsonArray()) {
+      throw new IllegalArgumentException("JSON manifest should be an array of objects.");
+    }
+    JsonArray array = root.getAsJsonArray();
+    List<Map<String, String>> rows = new ArrayList<>(array.size());
+    for (int i = 0; i < array.size(); i++) {
+      if (!array.get(i).isJsonObject()) {
+        throw new IllegalArgumentException(
+            String.format("Component #%d in JSON manifest should be an object.", i + 1));
+      }
+      rows.add(readJsonObject(array.get(i).getAsJsonObject(), i + 1));
+    }
+    return rows;
+  }
+
+  /**
+   * @param object flat JSON object;
+   * @param rowNumber number of row, starting from 1;
+   * @return values by normalized keys, null values are read as empty strings;
+   */
+  private static Map<String, String> readJsonObject(JsonObject object, int rowNumber) {
+    Map<String, String> row = new HashMap<>();
+    for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+      JsonElement value = entry.getValue();
+      if (!value.isJsonNull() && !value.isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format(
+            "Value [%s] of component #%d in JSON manifest should be a string or a number.",
+            entry.getKey(), rowNumber));
+      }
+      row.put(normalizeKey(entry.getKey()), value.isJsonNull() ? "" : value.getAsString());
+    }
+    return row;
+  }
+
+  /**
+   * @param key column name or JSON key;
+   * @return key in lower case without whitespaces, dashes and underscores;
+   */
+  private static String normalizeKey(String key) {
+    return key.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+  }
+}
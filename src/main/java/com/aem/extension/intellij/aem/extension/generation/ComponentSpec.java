@@ -0,0 +1,135 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+/**
+ * AEM Component Specification.
+ * <p>
+ * Immutable description of an AEM component to generate, created with {@link Builder}.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ComponentSpec {
+
+  private final String title;
+  private final String groupName;
+  private final boolean generateDialogXmlFile;
+  private final boolean generateCqDialogXmlFile;
+  private final boolean generateCqEditConfigXmlFile;
+  private final boolean generateCqTemplateXmlFile;
+  private final ClientLibSpec clientLib;
+
+  private ComponentSpec(Builder builder) {
+    this.title = builder.title;
+    this.groupName = builder.groupName;
+    this.generateDialogXmlFile = builder.generateDialogXmlFile;
+    this.generateCqDialogXmlFile = builder.generateCqDialogXmlFile;
+    this.generateCqEditConfigXmlFile = builder.generateCqEditConfigXmlFile;
+    this.generateCqTemplateXmlFile = builder.generateCqTemplateXmlFile;
+    this.clientLib = builder.clientLib;
+  }
+
+  /**
+   * @param title title of AEM component;
+   * @param groupName component group name;
+   * @return new builder;
+   */
+  public static Builder builder(String title, String groupName) {
+    return new Builder(title, groupName);
+  }
+
+  /**
+   * @return title of AEM component;
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * @return component group name;
+   */
+  public String getGroupName() {
+    return groupName;
+  }
+
+  /**
+   * @return true if dialog.xml file should be generated;
+   */
+  public boolean getGenerateDialogXmlFile() {
+    return generateDialogXmlFile;
+  }
+
+  /**
+   * @return true if _cq_dialog.xml file should be generated;
+   */
+  public boolean getGenerateCqDialogXmlFile() {
+    return generateCqDialogXmlFile;
+  }
+
+  /**
+   * @return true if _cq_editConfig.xml file should be generated;
+   */
+  public boolean getGenerateCqEditConfigXmlFile() {
+    return generateCqEditConfigXmlFile;
+  }
+
+  /**
+   * @return true if _cq_template.xml file should be generated;
+   */
+  public boolean getGenerateCqTemplateXmlFile() {
+    return generateCqTemplateXmlFile;
+  }
+
+  /**
+   * @return client library of component, or null if it shouldn't be generated;
+   */
+  public ClientLibSpec getClientLib() {
+    return clientLib;
+  }
+
+  /**
+   * Builder of {@link ComponentSpec}.
+   */
+  public static final class Builder {
+
+    private final String title;
+    private final String groupName;
+    private boolean generateDialogXmlFile;
+    private boolean generateCqDialogXmlFile;
+    private boolean generateCqEditConfigXmlFile;
+    private boolean generateCqTemplateXmlFile;
+    private ClientLibSpec clientLib;
+
+    private Builder(String title, String groupName) {
+      this.title = title;
+      this.groupName = groupName;
+    }
+
+    public Builder generateDialogXmlFile(boolean generateDialogXmlFile) {
+      this.generateDialogXmlFile = generateDialogXmlFile;
+      return this;
+    }
+
+    public Builder generateCqDialogXmlFile(boolean generateCqDialogXmlFile) {
+      this.generateCqDialogXmlFile = generateCqDialogXmlFile;
+      return this;
+    }
+
+    public Builder generateCqEditConfigXmlFile(boolean generateCqEditConfigXmlFile) {
+      this.generateCqEditConfigXmlFile = generateCqEditConfigXmlFile;
+      return this;
+    }
+
+    public Builder generateCqTemplateXmlFile(boolean generateCqTemplateXmlFile) {
+      this.generateCqTemplateXmlFile = generateCqTemplateXmlFile;
+      return this;
+    }
+
+    public Builder clientLib(ClientLibSpec clientLib) {
+      this.clientLib = clientLib;
+      return this;
+    }
+
+    public ComponentSpec build() {
+      return new ComponentSpec(this);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import java.util.Objects;
+
+/**
+ * Generated File.
+ * <p>
+ * Immutable path and content of a file to generate. Path is relative to the directory, where
+ * generation starts, and uses '/' as separator.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class GeneratedFile {
+
+  private static final char SEPARATOR = '/';
+
+  private final String path;
+  private final String content;
+
+  public GeneratedFile(String path, String content) {
+    this.path = path;
+    this.content = content;
+  }
+
+  /**
+   * @return relative path of file;
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return content of file;
+   */
+  public String getContent() {
+    return content;
+  }
+
+  /**
+   * @return relative path of parent directory, or empty string if file has no parent directory;
+   */
+  public String getParentPath() {
+    int separatorIndex = path.lastIndexOf(SEPARATOR);
+    return separatorIndex < 0 ? "" : path.substring(0, separatorIndex);
+  }
+
+  /**
+   * @return name of file;
+   */
+  public String getName() {
+    return path.substring(path.lastIndexOf(SEPARATOR) + 1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GeneratedFile that = (GeneratedFile) o;
+    return path.equals(that.path) && content.equals(that.content);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, content);
+  }
+}
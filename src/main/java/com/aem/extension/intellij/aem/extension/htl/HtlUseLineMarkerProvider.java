@@ -0,0 +1,61 @@
+package com.aem.extension.intellij.aem.extension.htl;
+
+import com.aem.extension.intellij.aem.extension.index.HtlUseIndex;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttribute;
+import com.intellij.psi.xml.XmlToken;
+import com.intellij.psi.xml.XmlTokenType;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * HTL Use Line Marker Provider.
+ * <p>
+ * Adds gutter icon to value of 'data-sly-use' attribute, which declares a Java class, and
+ * navigates to this class. Markers are collected in the slow pass only.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class HtlUseLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+  private static final String TOOLTIP_TEXT = "Navigate to Java class";
+
+  /**
+   * @param element element to check;
+   * @param result collection to fill with markers;
+   */
+  @Override
+  protected void collectNavigationMarkers(@NotNull PsiElement element,
+      @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!(element instanceof XmlToken)
+        || ((XmlToken) element).getTokenType() != XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN) {
+      return;
+    }
+    XmlAttribute attribute = PsiTreeUtil.getParentOfType(element, XmlAttribute.class);
+    if (attribute == null || !attribute.getName().startsWith(HtlUseIndex.USE_ATTRIBUTE_PREFIX)) {
+      return;
+    }
+    String className = HtlUseIndex.getUseClassName(attribute.getValue());
+    if (className == null) {
+      return;
+    }
+    Project project = element.getProject();
+    PsiClass psiClass = JavaPsiFacade.getInstance(project)
+        .findClass(className, GlobalSearchScope.allScope(project));
+    if (psiClass != null) {
+      result.add(NavigationGutterIconBuilder.create(AllIcons.Nodes.Class)
+          .setTargets(psiClass)
+          .setTooltipText(TOOLTIP_TEXT)
+          .createLineMarkerInfo(element));
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.aem.extension.intellij.aem.extension.htl;
+
+import com.aem.extension.intellij.aem.extension.index.HtlUseIndex;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lookups of Java classes, used by HTL files, backed by {@link HtlUseIndex}.
+ * <p>
+ * Properties, which HTL files read from a class, are cached per class until the next PSI
+ * modification, so checks of all getters of the class share one index lookup.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class HtlUses {
+
+  private static final Key<CachedValue<Set<String>>> USED_PROPERTIES_KEY =
+      Key.create("aem.extension.htl.used.properties");
+  private static final List<String> GETTER_PREFIXES = List.of("get", "is");
+
+  private HtlUses() {
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return names of properties, read by HTL files from class, or null if class isn't used by HTL
+   * files or indexes aren't ready;
+   */
+  public static @Nullable Set<String> getUsedProperties(@NotNull PsiClass psiClass) {
+    DumbService dumbService = DumbService.getInstance(psiClass.getProject());
+    if (dumbService.isDumb() || psiClass.getQualifiedName() == null) {
+      return null;
+    }
+    return CachedValuesManager.getCachedValue(psiClass, USED_PROPERTIES_KEY,
+        () -> Result.create(computeUsedProperties(psiClass),
+            PsiModificationTracker.MODIFICATION_COUNT, dumbService.getModificationTracker()));
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return HTL files, which declare class by 'data-sly-use' attribute;
+   */
+  public static Collection<VirtualFile> findHtlFiles(@NotNull PsiClass psiClass) {
+    String qualifiedName = psiClass.getQualifiedName();
+    if (qualifiedName == null) {
+      return List.of();
+    }
+    return FileBasedIndex.getInstance().getContainingFiles(HtlUseIndex.NAME, qualifiedName,
+        GlobalSearchScope.projectScope(psiClass.getProject()));
+  }
+
+  /**
+   * HTL reads property 'title' by 'getTitle()', 'isTitle()' or 'title()' method, and methods
+   * can be called by their own names as well;
+   * @param method method to check;
+   * @return true if method is a public getter, which is read by HTL files;
+   */
+  public static boolean isUsedGetter(@NotNull PsiMethod method) {
+    PsiClass psiClass = method.getContainingClass();
+    if (psiClass == null || method.isConstructor() || method.hasParameters()
+        || !method.hasModifierProperty(PsiModifier.PUBLIC)
+        || method.hasModifierProperty(PsiModifier.STATIC)) {
+      return false;
+    }
+    Set<String> usedProperties = getUsedProperties(psiClass);
+    return usedProperties != null && (usedProperties.contains(method.getName())
+        || usedProperties.contains(getPropertyName(method.getName())));
+  }
+
+  /**
+   * @param methodName name of getter;
+   * @return name of property, which is read by getter;
+   */
+  private static String getPropertyName(String methodName) {
+    for (String prefix : GETTER_PREFIXES) {
+      if (methodName.length() > prefix.length() && methodName.startsWith(prefix)
+          && Character.isUpperCase(methodName.charAt(prefix.length()))) {
+        return StringUtil.decapitalize(methodName.substring(prefix.length()));
+      }
+    }
+    return methodName;
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return properties read from class by all HTL files, or null if class isn't used by them;
+   */
+  private static @Nullable Set<String> computeUsedProperties(@NotNull PsiClass psiClass) {
+    List<Set<String>> values = FileBasedIndex.getInstance().getValues(HtlUseIndex.NAME,
+        psiClass.getQualifiedName(), GlobalSearchScope.projectScope(psiClass.getProject()));
+    if (values.isEmpty()) {
+      return null;
+    }
+    Set<String> usedProperties = new HashSet<>();
+    values.forEach(usedProperties::addAll);
+    return usedProperties;
+  }
+}
@@ -0,0 +1,60 @@
+package com.aem.extension.intellij.aem.extension.htl;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.containers.ContainerUtil;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Model HTL Line Marker Provider.
+ * <p>
+ * Adds gutter icon to name of Java class, which is declared by 'data-sly-use' attributes of HTL
+ * files, and navigates to these files. Markers are collected in the slow pass only, and HTL files
+ * are looked up when the icon is clicked.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ModelHtlLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+  private static final String TOOLTIP_TEXT = "Navigate to HTL files";
+
+  /**
+   * @param element element to check;
+   * @param result collection to fill with markers;
+   */
+  @Override
+  protected void collectNavigationMarkers(@NotNull PsiElement element,
+      @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!(element instanceof PsiIdentifier) || !(element.getParent() instanceof PsiClass)) {
+      return;
+    }
+    PsiClass psiClass = (PsiClass) element.getParent();
+    if (psiClass.getNameIdentifier() != element || HtlUses.getUsedProperties(psiClass) == null) {
+      return;
+    }
+    NotNullLazyValue<Collection<? extends PsiFile>> targets =
+        NotNullLazyValue.createValue(() -> findHtlFiles(psiClass));
+    result.add(NavigationGutterIconBuilder.create(AllIcons.FileTypes.Html)
+        .setTargets(targets)
+        .setTooltipText(TOOLTIP_TEXT)
+        .createLineMarkerInfo(element));
+  }
+
+  /**
+   * @param psiClass class, declared by HTL files;
+   * @return Psi files of HTL files;
+   */
+  private static Collection<PsiFile> findHtlFiles(PsiClass psiClass) {
+    PsiManager psiManager = PsiManager.getInstance(psiClass.getProject());
+    return ContainerUtil.mapNotNull(HtlUses.findHtlFiles(psiClass), psiManager::findFile);
+  }
+}
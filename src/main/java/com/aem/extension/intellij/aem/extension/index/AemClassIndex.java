@@ -0,0 +1,177 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static com.aem.extension.intellij.aem.extension.usage.AemAnnotations.COMPONENT_ANNOTATION;
+import static com.aem.extension.intellij.aem.extension.usage.AemAnnotations.MODEL_ANNOTATION;
+
+import com.aem.extension.intellij.aem.extension.usage.AemAnnotations;
+import com.aem.extension.intellij.aem.extension.usage.AemRole;
+import com.aem.extension.intellij.aem.extension.usage.AnnotationShortNameFilter;
+import com.aem.extension.intellij.aem.extension.usage.FileImports;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * AEM Class Index.
+ * <p>
+ * Maps qualified names of Sling Model and OSGi component classes declared in a Java file to their
+ * role and injected fields. Annotations are matched by syntax and imports only, so the indexer
+ * never resolves references.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemClassIndex extends FileBasedIndexExtension<String, AemClassInfo> {
+
+  public static final ID<String, AemClassInfo> NAME = ID.create("aem.extension.class.index");
+
+  private static final int VERSION = 1;
+  private static final String MODEL_SHORT_NAME = StringUtil.getShortName(MODEL_ANNOTATION);
+  private static final String COMPONENT_SHORT_NAME = StringUtil.getShortName(COMPONENT_ANNOTATION);
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, AemClassInfo> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects AEM classes of Java file;
+   */
+  @Override
+  public @NotNull DataIndexer<String, AemClassInfo, FileContent> getIndexer() {
+    return inputData -> {
+      CharSequence text = inputData.getContentAsText();
+      if (!StringUtil.contains(text, MODEL_SHORT_NAME)
+          && !StringUtil.contains(text, COMPONENT_SHORT_NAME)) {
+        return Map.of();
+      }
+      PsiFile psiFile = inputData.getPsiFile();
+      if (!(psiFile instanceof PsiJavaFile)) {
+        return Map.of();
+      }
+      Map<String, AemClassInfo> result = new HashMap<>();
+      FileImports imports = FileImports.of((PsiJavaFile) psiFile);
+      for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+        collectClassInfo(psiClass, imports, result);
+      }
+      return result;
+    };
+  }
+
+  /**
+   * @return key descriptor for qualified class names;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of class info;
+   */
+  @Override
+  public @NotNull DataExternalizer<AemClassInfo> getValueExternalizer() {
+    return AemClassInfoExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts Java source files only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Adds info of class and its inner classes into result, if they have AEM role;
+   * @param psiClass class to check;
+   * @param imports imports of Java file;
+   * @param result map to fill;
+   */
+  private static void collectClassInfo(PsiClass psiClass, FileImports imports,
+      Map<String, AemClassInfo> result) {
+    String qualifiedName = psiClass.getQualifiedName();
+    if (qualifiedName != null) {
+      AemClassInfo classInfo = computeSyntacticInfo(psiClass, imports);
+      if (classInfo != null) {
+        result.put(qualifiedName, classInfo);
+      }
+    }
+    for (PsiClass innerClass : psiClass.getInnerClasses()) {
+      collectClassInfo(innerClass, imports, result);
+    }
+  }
+
+  /**
+   * Computes class info by annotation short names and imports only, without indexes and resolve;
+   * @param psiClass class to check;
+   * @param imports imports of Java file;
+   * @return info of class, or null if class has no AEM role;
+   */
+  public static @Nullable AemClassInfo computeSyntacticInfo(@NotNull PsiClass psiClass,
+      @NotNull FileImports imports) {
+    AemRole role = getRole(psiClass, imports);
+    if (role == AemRole.NONE) {
+      return null;
+    }
+    AnnotationShortNameFilter fieldFilter = AemAnnotations.getFieldAnnotationFilter(role);
+    Set<String> injectedFields = new HashSet<>();
+    for (PsiField field : psiClass.getFields()) {
+      if (fieldFilter.isAnnotated(field, imports)) {
+        injectedFields.add(field.getName());
+      }
+    }
+    return new AemClassInfo(role, injectedFields);
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @param imports imports of Java file;
+   * @return AEM role of class;
+   */
+  private static AemRole getRole(PsiClass psiClass, FileImports imports) {
+    if (AemAnnotations.MODEL_FILTER.isAnnotated(psiClass, imports)) {
+      return AemRole.SLING_MODEL;
+    }
+    if (AemAnnotations.COMPONENT_FILTER.isAnnotated(psiClass, imports)) {
+      return AemRole.OSGI_COMPONENT;
+    }
+    return AemRole.NONE;
+  }
+}
@@ -0,0 +1,64 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.aem.extension.intellij.aem.extension.usage.AemRole;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * AEM Class Info.
+ * <p>
+ * Immutable description of a class with AEM role: the role itself and names of its injected fields.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemClassInfo {
+
+  public static final AemClassInfo NO_ROLE = new AemClassInfo(AemRole.NONE, Set.of());
+
+  private final AemRole role;
+  private final Set<String> injectedFields;
+
+  public AemClassInfo(AemRole role, Set<String> injectedFields) {
+    this.role = role;
+    this.injectedFields = Set.copyOf(injectedFields);
+  }
+
+  /**
+   * @return AEM role of class;
+   */
+  public AemRole getRole() {
+    return role;
+  }
+
+  /**
+   * @return names of fields, annotated with injector annotations of class role;
+   */
+  public Set<String> getInjectedFields() {
+    return injectedFields;
+  }
+
+  /**
+   * @param fieldName name of field;
+   * @return true if field with such name is injected, otherwise returns false;
+   */
+  public boolean isInjected(String fieldName) {
+    return injectedFields.contains(fieldName);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AemClassInfo that = (AemClassInfo) o;
+    return role == that.role && injectedFields.equals(that.injectedFields);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(role, injectedFields);
+  }
+}
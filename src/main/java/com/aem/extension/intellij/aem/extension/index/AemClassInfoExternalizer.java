@@ -0,0 +1,57 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.aem.extension.intellij.aem.extension.usage.AemRole;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Externalizer for {@link AemClassInfo}, which stores role ordinal and injected field names.
+ *
+ * @author Yury Raichonak
+ */
+public final class AemClassInfoExternalizer implements DataExternalizer<AemClassInfo> {
+
+  public static final AemClassInfoExternalizer INSTANCE = new AemClassInfoExternalizer();
+
+  private static final AemRole[] ROLES = AemRole.values();
+
+  private AemClassInfoExternalizer() {
+  }
+
+  /**
+   * @param out data output;
+   * @param value class info to save;
+   * @throws IOException if data can't be written;
+   */
+  @Override
+  public void save(@NotNull DataOutput out, AemClassInfo value) throws IOException {
+    DataInputOutputUtil.writeINT(out, value.getRole().ordinal());
+    DataInputOutputUtil.writeINT(out, value.getInjectedFields().size());
+    for (String field : value.getInjectedFields()) {
+      IOUtil.writeUTF(out, field);
+    }
+  }
+
+  /**
+   * @param in data input;
+   * @return read class info;
+   * @throws IOException if data can't be read;
+   */
+  @Override
+  public AemClassInfo read(@NotNull DataInput in) throws IOException {
+    AemRole role = ROLES[DataInputOutputUtil.readINT(in)];
+    int size = DataInputOutputUtil.readINT(in);
+    Set<String> fields = new HashSet<>(size);
+    for (int i = 0; i < size; i++) {
+      fields.add(IOUtil.readUTF(in));
+    }
+    return new AemClassInfo(role, fields);
+  }
+}
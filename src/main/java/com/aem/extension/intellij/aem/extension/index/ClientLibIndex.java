@@ -0,0 +1,133 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CATEGORIES;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CLIENT_LIBRARY_FOLDER;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.DEPENDENCIES;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.EMBED;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_PRIMARY_TYPE;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Client Library Index.
+ * <p>
+ * Maps each category of 'cq:ClientLibraryFolder' node, declared in '.content.xml' file, to
+ * categories, dependencies and embedded categories of this node.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ClientLibIndex extends FileBasedIndexExtension<String, ClientLibInfo> {
+
+  public static final ID<String, ClientLibInfo> NAME = ID.create("aem.extension.clientlib.index");
+
+  private static final int VERSION = 2;
+  private static final Set<String> PROPERTY_NAMES =
+      Set.of(JCR_PRIMARY_TYPE, CATEGORIES, DEPENDENCIES, EMBED);
+  private static final byte[] CLIENT_LIBRARY_FOLDER_BYTES =
+      CLIENT_LIBRARY_FOLDER.getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, ClientLibInfo> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects categories of client library folder;
+   */
+  @Override
+  public @NotNull DataIndexer<String, ClientLibInfo, FileContent> getIndexer() {
+    return inputData -> {
+      if (!DocViewReader.contains(inputData.getContent(), CLIENT_LIBRARY_FOLDER_BYTES)) {
+        return Map.of();
+      }
+      DocViewNode root = readRoot(inputData.getContent());
+      if (root == null || !CLIENT_LIBRARY_FOLDER.equals(root.getString(JCR_PRIMARY_TYPE))) {
+        return Map.of();
+      }
+      ClientLibInfo clientLibInfo = new ClientLibInfo(root.getStrings(CATEGORIES),
+          root.getStrings(DEPENDENCIES), root.getStrings(EMBED));
+      Map<String, ClientLibInfo> result = new HashMap<>();
+      for (String category : clientLibInfo.getCategories()) {
+        result.put(category, clientLibInfo);
+      }
+      return result;
+    };
+  }
+
+  /**
+   * @return key descriptor for categories;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of client library info;
+   */
+  @Override
+  public @NotNull DataExternalizer<ClientLibInfo> getValueExternalizer() {
+    return ClientLibInfoExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts '.content.xml' files only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CONTENT_XML_FILE_NAME.equals(file.getName());
+      }
+    };
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * @param content content of '.content.xml' file;
+   * @return root node with client library properties, or null if file is malformed;
+   */
+  private static DocViewNode readRoot(byte[] content) {
+    try {
+      return DocViewReader.readRoot(new ByteArrayInputStream(content), PROPERTY_NAMES);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
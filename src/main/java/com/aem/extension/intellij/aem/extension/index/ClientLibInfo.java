@@ -0,0 +1,63 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Client Library Info.
+ * <p>
+ * Immutable categories, dependencies and embedded categories of a 'cq:ClientLibraryFolder' node.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ClientLibInfo {
+
+  private final List<String> categories;
+  private final List<String> dependencies;
+  private final List<String> embed;
+
+  public ClientLibInfo(List<String> categories, List<String> dependencies, List<String> embed) {
+    this.categories = List.copyOf(categories);
+    this.dependencies = List.copyOf(dependencies);
+    this.embed = List.copyOf(embed);
+  }
+
+  /**
+   * @return categories of client library;
+   */
+  public List<String> getCategories() {
+    return categories;
+  }
+
+  /**
+   * @return categories, which client library depends on;
+   */
+  public List<String> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return categories, which client library embeds;
+   */
+  public List<String> getEmbed() {
+    return embed;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ClientLibInfo that = (ClientLibInfo) o;
+    return categories.equals(that.categories) && dependencies.equals(that.dependencies)
+        && embed.equals(that.embed);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(categories, dependencies, embed);
+  }
+}
@@ -0,0 +1,72 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Externalizer for {@link ClientLibInfo}, which stores categories, dependencies and embed lists.
+ *
+ * @author Yury Raichonak
+ */
+public final class ClientLibInfoExternalizer implements DataExternalizer<ClientLibInfo> {
+
+  public static final ClientLibInfoExternalizer INSTANCE = new ClientLibInfoExternalizer();
+
+  private ClientLibInfoExternalizer() {
+  }
+
+  /**
+   * @param out data output;
+   * @param value client library info to save;
+   * @throws IOException if data can't be written;
+   */
+  @Override
+  public void save(@NotNull DataOutput out, ClientLibInfo value) throws IOException {
+    writeList(out, value.getCategories());
+    writeList(out, value.getDependencies());
+    writeList(out, value.getEmbed());
+  }
+
+  /**
+   * @param in data input;
+   * @return read client library info;
+   * @throws IOException if data can't be read;
+   */
+  @Override
+  public ClientLibInfo read(@NotNull DataInput in) throws IOException {
+    return new ClientLibInfo(readList(in), readList(in), readList(in));
+  }
+
+  /**
+   * @param out data output;
+   * @param values values to save;
+   * @throws IOException if data can't be written;
+   */
+  private static void writeList(DataOutput out, List<String> values) throws IOException {
+    DataInputOutputUtil.writeINT(out, values.size());
+    for (String value : values) {
+      IOUtil.writeUTF(out, value);
+    }
+  }
+
+  /**
+   * @param in data input;
+   * @return read values;
+   * @throws IOException if data can't be read;
+   */
+  private static List<String> readList(DataInput in) throws IOException {
+    int size = DataInputOutputUtil.readINT(in);
+    List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(IOUtil.readUTF(in));
+    }
+    return values;
+  }
+}
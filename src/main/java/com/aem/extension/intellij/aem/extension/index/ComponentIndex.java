@@ -0,0 +1,213 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.COMPONENT;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.COMPONENT_GROUP;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_PRIMARY_TYPE;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_TITLE;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.SLING_RESOURCE_SUPER_TYPE;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Component Index.
+ * <p>
+ * Maps title, group and super type of 'cq:Component' node, declared in '.content.xml' file, to info
+ * of this component, and {@link #COMPONENT_KEY} to info of each component. Each kind of key has its
+ * own prefix, so all lookups are done by exact key. Keys and values depend only on file content,
+ * so resource type, which is the path of component, isn't indexed: indexed info has empty resource
+ * type, and it is computed from the containing file by {@link #getResourceType(VirtualFile)} when
+ * index is queried.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ComponentIndex extends FileBasedIndexExtension<String, ComponentInfo> {
+
+  public static final ID<String, ComponentInfo> NAME = ID.create("aem.extension.component.index");
+
+  public static final String COMPONENT_KEY = "component";
+  public static final String TITLE_KEY_PREFIX = "title:";
+  public static final String GROUP_KEY_PREFIX = "group:";
+  public static final String SUPER_TYPE_KEY_PREFIX = "superType:";
+
+  private static final int VERSION = 3;
+  private static final Set<String> PROPERTY_NAMES =
+      Set.of(JCR_PRIMARY_TYPE, JCR_TITLE, COMPONENT_GROUP, SLING_RESOURCE_SUPER_TYPE);
+  private static final byte[] COMPONENT_BYTES = COMPONENT.getBytes(StandardCharsets.UTF_8);
+  private static final String APPS_PREFIX = "apps/";
+  private static final String APPS_SEGMENT = "/apps/";
+  private static final String JCR_ROOT_SEGMENT = "/" + JCR_ROOT_DIRECTORY_NAME + "/";
+  private static final String LIBS_PREFIX = "libs/";
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, ComponentInfo> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects properties of component;
+   */
+  @Override
+  public @NotNull DataIndexer<String, ComponentInfo, FileContent> getIndexer() {
+    return inputData -> {
+      if (!DocViewReader.contains(inputData.getContent(), COMPONENT_BYTES)) {
+        return Map.of();
+      }
+      DocViewNode root = readRoot(inputData.getContent());
+      if (root == null || !COMPONENT.equals(root.getString(JCR_PRIMARY_TYPE))) {
+        return Map.of();
+      }
+      ComponentInfo componentInfo = new ComponentInfo("", root.getString(JCR_TITLE).trim(),
+          root.getString(COMPONENT_GROUP).trim(), root.getString(SLING_RESOURCE_SUPER_TYPE).trim());
+      Map<String, ComponentInfo> result = new HashMap<>();
+      result.put(COMPONENT_KEY, componentInfo);
+      putIfNotEmpty(result, TITLE_KEY_PREFIX, componentInfo.getTitle(), componentInfo);
+      putIfNotEmpty(result, GROUP_KEY_PREFIX, componentInfo.getGroup(), componentInfo);
+      putIfNotEmpty(result, SUPER_TYPE_KEY_PREFIX, componentInfo.getSuperType(), componentInfo);
+      return result;
+    };
+  }
+
+  /**
+   * @return key descriptor for prefixed keys;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of component info;
+   */
+  @Override
+  public @NotNull DataExternalizer<ComponentInfo> getValueExternalizer() {
+    return ComponentInfoExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts '.content.xml' files only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CONTENT_XML_FILE_NAME.equals(file.getName());
+      }
+    };
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * @param contentXml '.content.xml' file of component;
+   * @return resource type of component, which could be declared by file;
+   */
+  public static String getResourceType(VirtualFile contentXml) {
+    VirtualFile directory = contentXml.getParent();
+    return directory == null ? "" : getResourceType(directory.getPath());
+  }
+
+  /**
+   * Resource type is the path of component under 'jcr_root' without leading 'apps/' or 'libs/'.
+   * If there is no 'jcr_root' directory, path under 'apps' directory is used, and the directory
+   * name is used as the last resort;
+   * @param directoryPath path of component directory;
+   * @return resource type of component;
+   */
+  public static String getResourceType(String directoryPath) {
+    int jcrRootIndex = directoryPath.lastIndexOf(JCR_ROOT_SEGMENT);
+    if (jcrRootIndex >= 0) {
+      String repositoryPath = directoryPath.substring(jcrRootIndex + JCR_ROOT_SEGMENT.length());
+      if (repositoryPath.startsWith(APPS_PREFIX)) {
+        return repositoryPath.substring(APPS_PREFIX.length());
+      }
+      if (repositoryPath.startsWith(LIBS_PREFIX)) {
+        return repositoryPath.substring(LIBS_PREFIX.length());
+      }
+      return repositoryPath;
+    }
+    int appsIndex = directoryPath.lastIndexOf(APPS_SEGMENT);
+    if (appsIndex >= 0) {
+      return directoryPath.substring(appsIndex + APPS_SEGMENT.length());
+    }
+    return directoryPath.substring(directoryPath.lastIndexOf('/') + 1);
+  }
+
+  /**
+   * @param resourceType resource type or absolute path of component;
+   * @return resource type without leading '/apps/', '/libs/' or '/';
+   */
+  public static String normalizeResourceType(String resourceType) {
+    String normalizedResourceType = resourceType.trim();
+    if (normalizedResourceType.startsWith("/")) {
+      normalizedResourceType = normalizedResourceType.substring(1);
+      if (normalizedResourceType.startsWith(APPS_PREFIX)) {
+        return normalizedResourceType.substring(APPS_PREFIX.length());
+      }
+      if (normalizedResourceType.startsWith(LIBS_PREFIX)) {
+        return normalizedResourceType.substring(LIBS_PREFIX.length());
+      }
+    }
+    return normalizedResourceType;
+  }
+
+  /**
+   * @param content content of '.content.xml' file;
+   * @return root node with component properties, or null if file is malformed;
+   */
+  private static DocViewNode readRoot(byte[] content) {
+    try {
+      return DocViewReader.readRoot(new ByteArrayInputStream(content), PROPERTY_NAMES);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @param result map to fill;
+   * @param keyPrefix prefix of key;
+   * @param value value of property;
+   * @param componentInfo info of component;
+   */
+  private static void putIfNotEmpty(Map<String, ComponentInfo> result, String keyPrefix,
+      String value, ComponentInfo componentInfo) {
+    if (!value.isEmpty()) {
+      result.put(keyPrefix + value, componentInfo);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import java.util.Objects;
+
+/**
+ * Component Info.
+ * <p>
+ * Immutable resource type, title, group and super type of a 'cq:Component' node. Missing
+ * properties are represented by empty strings.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ComponentInfo {
+
+  private final String resourceType;
+  private final String title;
+  private final String group;
+  private final String superType;
+
+  public ComponentInfo(String resourceType, String title, String group, String superType) {
+    this.resourceType = resourceType;
+    this.title = title;
+    this.group = group;
+    this.superType = superType;
+  }
+
+  /**
+   * @param resourceType resource type of component, derived from its path;
+   * @return info with such resource type;
+   */
+  public ComponentInfo withResourceType(String resourceType) {
+    return new ComponentInfo(resourceType, title, group, superType);
+  }
+
+  /**
+   * @return resource type of component, derived from its path, or empty string for info, read
+   * from index;
+   */
+  public String getResourceType() {
+    return resourceType;
+  }
+
+  /**
+   * @return value of 'jcr:title' property;
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * @return value of 'componentGroup' property;
+   */
+  public String getGroup() {
+    return group;
+  }
+
+  /**
+   * @return value of 'sling:resourceSuperType' property;
+   */
+  public String getSuperType() {
+    return superType;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ComponentInfo that = (ComponentInfo) o;
+    return resourceType.equals(that.resourceType) && title.equals(that.title)
+        && group.equals(that.group) && superType.equals(that.superType);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(resourceType, title, group, superType);
+  }
+}
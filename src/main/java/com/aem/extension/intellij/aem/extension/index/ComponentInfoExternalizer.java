@@ -0,0 +1,44 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.IOUtil;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Externalizer for {@link ComponentInfo}, which stores title, group and super type. Resource type
+ * depends on location of component, so it isn't stored.
+ *
+ * @author Yury Raichonak
+ */
+public final class ComponentInfoExternalizer implements DataExternalizer<ComponentInfo> {
+
+  public static final ComponentInfoExternalizer INSTANCE = new ComponentInfoExternalizer();
+
+  private ComponentInfoExternalizer() {
+  }
+
+  /**
+   * @param out data output;
+   * @param value component info to save;
+   * @throws IOException if data can't be written;
+   */
+  @Override
+  public void save(@NotNull DataOutput out, ComponentInfo value) throws IOException {
+    IOUtil.writeUTF(out, value.getTitle());
+    IOUtil.writeUTF(out, value.getGroup());
+    IOUtil.writeUTF(out, value.getSuperType());
+  }
+
+  /**
+   * @param in data input;
+   * @return read component info;
+   * @throws IOException if data can't be read;
+   */
+  @Override
+  public ComponentInfo read(@NotNull DataInput in) throws IOException {
+    return new ComponentInfo("", IOUtil.readUTF(in), IOUtil.readUTF(in), IOUtil.readUTF(in));
+  }
+}
@@ -0,0 +1,177 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.COMPOSITE;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CQ_DIALOG_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.FIELD_NAME;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dialog Property Index.
+ * <p>
+ * Maps '_cq_dialog/.content.xml' dialog to names of properties, which it edits. Index data
+ * depends on content of dialog only and is recomputed only when this dialog changes, so
+ * inspections never parse dialogs themselves. Resource types depend on location of dialogs, so
+ * dialogs of resource type are found at query time, see {@link #getDialogFile(VirtualFile)}.
+ * Fields of composite multifields are stored on child nodes, so they aren't properties of
+ * component resource and are skipped.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class DialogPropertyIndex extends FileBasedIndexExtension<String, Set<String>> {
+
+  public static final ID<String, Set<String>> NAME = ID.create("aem.extension.dialog.property.index");
+
+  public static final String DIALOG_KEY = "dialog";
+
+  private static final int VERSION = 3;
+  private static final Set<String> PROPERTY_NAMES = Set.of(FIELD_NAME, COMPOSITE);
+  private static final String PROPERTY_PREFIX = "./";
+  private static final char SUFFIX_SEPARATOR = '@';
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, Set<String>> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects property names of dialog;
+   */
+  @Override
+  public @NotNull DataIndexer<String, Set<String>, FileContent> getIndexer() {
+    return inputData -> {
+      Set<String> propertyNames = new HashSet<>();
+      int[] compositeDepth = {-1};
+      try {
+        DocViewReader.read(new ByteArrayInputStream(inputData.getContent()), PROPERTY_NAMES,
+            node -> {
+              if (compositeDepth[0] >= 0 && node.getDepth() > compositeDepth[0]) {
+                return true;
+              }
+              compositeDepth[0] = isComposite(node.getString(COMPOSITE)) ? node.getDepth() : -1;
+              String propertyName = getPropertyName(node.getString(FIELD_NAME));
+              if (compositeDepth[0] < 0 && propertyName != null) {
+                propertyNames.add(propertyName);
+              }
+              return true;
+            });
+      } catch (IllegalArgumentException e) {
+        return Map.of();
+      }
+      return Map.of(DIALOG_KEY, propertyNames);
+    };
+  }
+
+  /**
+   * @return key descriptor;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of property names;
+   */
+  @Override
+  public @NotNull DataExternalizer<Set<String>> getValueExternalizer() {
+    return StringSetExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts '.content.xml' files of '_cq_dialog' directories only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return isDialogFile(file);
+      }
+    };
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * @param file file to check;
+   * @return true if file is '.content.xml' file of '_cq_dialog' directory;
+   */
+  public static boolean isDialogFile(@NotNull VirtualFile file) {
+    VirtualFile parent = file.getParent();
+    return CONTENT_XML_FILE_NAME.equals(file.getName()) && parent != null
+        && CQ_DIALOG_DIRECTORY_NAME.equals(parent.getName());
+  }
+
+  /**
+   * @param componentDirectory directory of component;
+   * @return '_cq_dialog/.content.xml' dialog of component, or null if component has no dialog;
+   */
+  public static @Nullable VirtualFile getDialogFile(@NotNull VirtualFile componentDirectory) {
+    return componentDirectory.findFileByRelativePath(
+        CQ_DIALOG_DIRECTORY_NAME + '/' + CONTENT_XML_FILE_NAME);
+  }
+
+  /**
+   * Multifield with 'composite="{Boolean}true"' stores each item as a child node, so its own name
+   * and names of its nested fields aren't properties of component resource;
+   * @param compositeValue raw value of 'composite' attribute, may be empty;
+   * @return true if value marks composite multifield;
+   */
+  public static boolean isComposite(@Nullable String compositeValue) {
+    return compositeValue != null && !compositeValue.isEmpty()
+        && Boolean.parseBoolean(DocViewValues.getString(compositeValue));
+  }
+
+  /**
+   * Property name is the value of 'name' attribute, which starts with './', without this prefix and
+   * without suffixes like '@Delete' or '@TypeHint';
+   * @param nameValue value of 'name' attribute of dialog field;
+   * @return property name, or null if field doesn't edit a property of component resource;
+   */
+  public static @Nullable String getPropertyName(@Nullable String nameValue) {
+    if (nameValue == null || !nameValue.startsWith(PROPERTY_PREFIX)) {
+      return null;
+    }
+    String propertyName = nameValue.substring(PROPERTY_PREFIX.length());
+    int suffixIndex = propertyName.indexOf(SUFFIX_SEPARATOR);
+    if (suffixIndex >= 0) {
+      propertyName = propertyName.substring(0, suffixIndex);
+    }
+    return propertyName.isEmpty() ? null : propertyName;
+  }
+}
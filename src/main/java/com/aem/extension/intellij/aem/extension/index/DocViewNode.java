@@ -0,0 +1,75 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DocView Node.
+ * <p>
+ * Immutable node of FileVault docview '.content.xml' file, read by {@link DocViewReader}. Only
+ * properties, requested from reader, are kept; their values are raw, with type hints and
+ * multi-value brackets, and are parsed by {@link DocViewValues} on access.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class DocViewNode {
+
+  private final String name;
+  private final String path;
+  private final int depth;
+  private final Map<String, String> properties;
+
+  DocViewNode(String name, String path, int depth, Map<String, String> properties) {
+    this.name = name;
+    this.path = path;
+    this.depth = depth;
+    this.properties = Map.copyOf(properties);
+  }
+
+  /**
+   * @return decoded name of node, 'jcr:root' for root node;
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return path of node relative to root node, or empty string for root node;
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return depth of node, 0 for root node;
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * @param propertyName name of property;
+   * @return true if node has property;
+   */
+  public boolean hasProperty(String propertyName) {
+    return properties.containsKey(propertyName);
+  }
+
+  /**
+   * @param propertyName name of property;
+   * @return value of property without type hint, or empty string if node has no such property;
+   */
+  public String getString(String propertyName) {
+    String value = properties.get(propertyName);
+    return value == null ? "" : DocViewValues.getString(value);
+  }
+
+  /**
+   * @param propertyName name of multi-value property;
+   * @return values of property, or empty list if node has no such property;
+   */
+  public List<String> getStrings(String propertyName) {
+    String value = properties.get(propertyName);
+    return value == null ? List.of() : DocViewValues.getStrings(value);
+  }
+}
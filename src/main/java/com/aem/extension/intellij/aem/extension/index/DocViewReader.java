@@ -0,0 +1,219 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming reader of FileVault docview '.content.xml' files.
+ * <p>
+ * Reads file by StAX without building any tree: only names of open nodes and requested properties
+ * of the current node are kept, so memory doesn't depend on size of file. Reading stops as soon as
+ * the visitor asks for it, and {@link #readRoot} stops right after the root node. Names of nodes
+ * are decoded from ISO 9075 escapes, like '_x0031_'. Files with DTD are rejected, so neither
+ * internal nor external entities are ever expanded.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class DocViewReader {
+
+  private static final XMLInputFactory FACTORY = createFactory();
+  private static final String ESCAPE_END = "_";
+  private static final String ESCAPE_START = "_x";
+  private static final int ESCAPE_LENGTH = 7;
+  private static final int HEX_RADIX = 16;
+  private static final char PATH_SEPARATOR = '/';
+  private static final char PREFIX_SEPARATOR = ':';
+
+  private DocViewReader() {
+  }
+
+  /**
+   * @param input content of '.content.xml' file;
+   * @param propertyNames names of properties to read;
+   * @return root node, or null if file has no elements;
+   * @throws IllegalArgumentException if file isn't well-formed XML or has DTD;
+   */
+  public static DocViewNode readRoot(InputStream input, Set<String> propertyNames) {
+    DocViewNode[] root = new DocViewNode[1];
+    read(input, propertyNames, node -> {
+      root[0] = node;
+      return false;
+    });
+    return root[0];
+  }
+
+  /**
+   * Visits nodes in document order, parents before children;
+   * @param input content of '.content.xml' file;
+   * @param propertyNames names of properties to read;
+   * @param visitor returns false to stop reading;
+   * @throws IllegalArgumentException if file isn't well-formed XML or has DTD;
+   */
+  public static void read(InputStream input, Set<String> propertyNames,
+      Predicate<DocViewNode> visitor) {
+    XMLStreamReader reader = null;
+    try {
+      reader = FACTORY.createXMLStreamReader(input);
+      List<String> names = new ArrayList<>();
+      StringBuilder path = new StringBuilder();
+      List<Integer> pathLengths = new ArrayList<>();
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = decodeName(getQualifiedName(reader.getPrefix(), reader.getLocalName()));
+          pathLengths.add(path.length());
+          if (!names.isEmpty()) {
+            if (names.size() > 1) {
+              path.append(PATH_SEPARATOR);
+            }
+            path.append(name);
+          }
+          names.add(name);
+          DocViewNode node = new DocViewNode(name, path.toString(), names.size() - 1,
+              readProperties(reader, propertyNames));
+          if (!visitor.test(node)) {
+            return;
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          names.remove(names.size() - 1);
+          path.setLength(pathLengths.remove(pathLengths.size() - 1));
+        } else if (event == XMLStreamConstants.DTD) {
+          throw new IllegalArgumentException("Malformed docview file: DTD isn't allowed");
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new IllegalArgumentException(
+          String.format("Malformed docview file: %s", e.getMessage()), e);
+    } finally {
+      close(reader);
+    }
+  }
+
+  /**
+   * Byte-level prefilter for indexers, so files without the text are skipped without decoding
+   * them; text should be ASCII, which has the same bytes in UTF-8 and other ASCII-compatible
+   * encodings of docview files;
+   * @param content content of file;
+   * @param text bytes of ASCII text to find;
+   * @return true if content contains the text;
+   */
+  public static boolean contains(byte[] content, byte[] text) {
+    int last = content.length - text.length;
+    for (int i = 0; i <= last; i++) {
+      int j = 0;
+      while (j < text.length && content[i + j] == text[j]) {
+        j++;
+      }
+      if (j == text.length) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param reader reader, positioned at start of element;
+   * @param propertyNames names of properties to read;
+   * @return requested properties of element;
+   */
+  private static Map<String, String> readProperties(XMLStreamReader reader,
+      Set<String> propertyNames) {
+    if (propertyNames.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      String propertyName =
+          getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+      if (propertyNames.contains(propertyName)) {
+        properties.put(propertyName, reader.getAttributeValue(i));
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * @param prefix namespace prefix, may be null or empty;
+   * @param localName local name;
+   * @return name with prefix, like 'jcr:primaryType';
+   */
+  private static String getQualifiedName(String prefix, String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + PREFIX_SEPARATOR + localName;
+  }
+
+  /**
+   * @param name name of XML element;
+   * @return name of node with '_xHHHH_' escapes replaced by characters;
+   */
+  private static String decodeName(String name) {
+    int escapeStart = name.indexOf(ESCAPE_START);
+    if (escapeStart < 0) {
+      return name;
+    }
+    StringBuilder decodedName = new StringBuilder(name.length());
+    int position = 0;
+    while (escapeStart >= 0) {
+      int escapeEnd = escapeStart + ESCAPE_LENGTH - 1;
+      Integer character = escapeEnd < name.length()
+          && ESCAPE_END.equals(name.substring(escapeEnd, escapeEnd + 1))
+          ? parseHex(name.substring(escapeStart + ESCAPE_START.length(), escapeEnd)) : null;
+      if (character == null) {
+        decodedName.append(name, position, escapeStart + 1);
+        position = escapeStart + 1;
+      } else {
+        decodedName.append(name, position, escapeStart).append((char) character.intValue());
+        position = escapeEnd + 1;
+      }
+      escapeStart = name.indexOf(ESCAPE_START, position);
+    }
+    return decodedName.append(name, position, name.length()).toString();
+  }
+
+  /**
+   * @param hex four hexadecimal digits;
+   * @return parsed value, or null if text isn't hexadecimal;
+   */
+  private static Integer parseHex(String hex) {
+    try {
+      return Integer.parseInt(hex, HEX_RADIX);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @param reader reader to close, may be null;
+   */
+  private static void close(XMLStreamReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException e) {
+      // nothing to release, input stream is closed by caller
+    }
+  }
+
+  /**
+   * JDK implementation is used, DTDs and external entities are disabled;
+   * @return factory of stream readers;
+   */
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
+  }
+}
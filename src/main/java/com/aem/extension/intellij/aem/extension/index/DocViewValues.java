@@ -0,0 +1,105 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for parsing property values of FileVault docview '.content.xml' files.
+ * <p>
+ * Values may start with type hint, like '{Boolean}true', and multi-value properties are written
+ * as '[first,second]' with commas inside values escaped by backslash.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class DocViewValues {
+
+  private static final char ESCAPE = '\\';
+  private static final char MULTI_VALUE_END = ']';
+  private static final char MULTI_VALUE_SEPARATOR = ',';
+  private static final char MULTI_VALUE_START = '[';
+  private static final char TYPE_HINT_END = '}';
+  private static final char TYPE_HINT_START = '{';
+
+  private DocViewValues() {
+  }
+
+  /**
+   * @param rawValue value of docview attribute;
+   * @return value without type hint;
+   */
+  public static String getString(String rawValue) {
+    return unescape(stripTypeHint(rawValue));
+  }
+
+  /**
+   * @param rawValue value of docview attribute;
+   * @return trimmed non-empty values of multi-value property, or single value otherwise;
+   */
+  public static List<String> getStrings(String rawValue) {
+    String value = stripTypeHint(rawValue);
+    List<String> values = new ArrayList<>();
+    if (value.length() < 2 || value.charAt(0) != MULTI_VALUE_START
+        || value.charAt(value.length() - 1) != MULTI_VALUE_END) {
+      addTrimmed(values, unescape(value));
+      return values;
+    }
+    StringBuilder current = new StringBuilder();
+    for (int i = 1; i < value.length() - 1; i++) {
+      char c = value.charAt(i);
+      if (c == ESCAPE && i + 1 < value.length() - 1) {
+        current.append(value.charAt(++i));
+      } else if (c == MULTI_VALUE_SEPARATOR) {
+        addTrimmed(values, current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    addTrimmed(values, current.toString());
+    return values;
+  }
+
+  /**
+   * @param rawValue value of docview attribute;
+   * @return value without leading type hint;
+   */
+  private static String stripTypeHint(String rawValue) {
+    if (!rawValue.isEmpty() && rawValue.charAt(0) == TYPE_HINT_START) {
+      int typeHintEnd = rawValue.indexOf(TYPE_HINT_END);
+      if (typeHintEnd > 0) {
+        return rawValue.substring(typeHintEnd + 1);
+      }
+    }
+    return rawValue;
+  }
+
+  /**
+   * @param value single value;
+   * @return value with escaped characters replaced by themselves;
+   */
+  private static String unescape(String value) {
+    if (value.indexOf(ESCAPE) < 0) {
+      return value;
+    }
+    StringBuilder result = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ESCAPE && i + 1 < value.length()) {
+        c = value.charAt(++i);
+      }
+      result.append(c);
+    }
+    return result.toString();
+  }
+
+  /**
+   * @param values list to fill;
+   * @param value value to add, if it isn't blank;
+   */
+  private static void addTrimmed(List<String> values, String value) {
+    String trimmedValue = value.trim();
+    if (!trimmedValue.isEmpty()) {
+      values.add(trimmedValue);
+    }
+  }
+}
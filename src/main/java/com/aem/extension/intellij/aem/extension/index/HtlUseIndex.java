@@ -0,0 +1,161 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * HTL Use Index.
+ * <p>
+ * Maps qualified names of Java classes, which HTL files declare by 'data-sly-use' attributes, to
+ * names of properties, which these files read from declared objects. Files are scanned as plain
+ * text, so the index doesn't depend on an HTL language plugin, and each file is rescanned only
+ * when its content changes.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class HtlUseIndex extends FileBasedIndexExtension<String, Set<String>> {
+
+  public static final ID<String, Set<String>> NAME = ID.create("aem.extension.htl.use.index");
+
+  public static final String USE_ATTRIBUTE_PREFIX = "data-sly-use.";
+
+  private static final int VERSION = 1;
+  private static final String HTL_EXTENSION = "html";
+  private static final String EXPRESSION_START = "${";
+  private static final Pattern USE_PATTERN =
+      Pattern.compile("data-sly-use\\.([A-Za-z_][\\w-]*)\\s*=\\s*([\"'])(.*?)\\2", Pattern.DOTALL);
+  private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("([\"'])(.*?)\\1");
+  private static final Pattern CLASS_NAME_PATTERN =
+      Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)+");
+  private static final String PROPERTY_ACCESS_PATTERN =
+      "(?<![\\w.])(?i:%s)(?:\\.([A-Za-z_]\\w*)|\\[\\s*'([A-Za-z_]\\w*)'\\s*])";
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, Set<String>> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects used classes and their properties of HTL file;
+   */
+  @Override
+  public @NotNull DataIndexer<String, Set<String>, FileContent> getIndexer() {
+    return inputData -> {
+      CharSequence text = inputData.getContentAsText();
+      if (!StringUtil.contains(text, USE_ATTRIBUTE_PREFIX)) {
+        return Map.of();
+      }
+      Map<String, Set<String>> result = new HashMap<>();
+      Matcher useMatcher = USE_PATTERN.matcher(text);
+      while (useMatcher.find()) {
+        String className = getUseClassName(useMatcher.group(3));
+        if (className != null) {
+          Set<String> propertyNames = result.computeIfAbsent(className, key -> new HashSet<>());
+          collectPropertyNames(text, useMatcher.group(1), propertyNames);
+        }
+      }
+      return result;
+    };
+  }
+
+  /**
+   * @return key descriptor for qualified class names;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of property names;
+   */
+  @Override
+  public @NotNull DataExternalizer<Set<String>> getValueExternalizer() {
+    return StringSetExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts '.html' files only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return (VirtualFile file) -> HTL_EXTENSION.equals(file.getExtension());
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Value may be a qualified class name, or an expression like "${'com.foo.Model' @ a=b}";
+   * @param useValue value of 'data-sly-use' attribute;
+   * @return qualified name of Java class, or null if value declares a script, template or isn't
+   * a literal;
+   */
+  public static @Nullable String getUseClassName(@Nullable String useValue) {
+    if (useValue == null) {
+      return null;
+    }
+    String className = useValue.trim();
+    if (className.startsWith(EXPRESSION_START)) {
+      Matcher literalMatcher = STRING_LITERAL_PATTERN.matcher(className);
+      if (!literalMatcher.find()) {
+        return null;
+      }
+      className = literalMatcher.group(2).trim();
+    }
+    if (!CLASS_NAME_PATTERN.matcher(className).matches()
+        || className.endsWith(".js") || className.endsWith("." + HTL_EXTENSION)) {
+      return null;
+    }
+    return className;
+  }
+
+  /**
+   * Collects names of properties, accessed as "variable.property" or "variable['property']";
+   * @param text text of HTL file;
+   * @param variable name of 'data-sly-use' variable;
+   * @param propertyNames set to fill;
+   */
+  private static void collectPropertyNames(CharSequence text, String variable,
+      Set<String> propertyNames) {
+    Pattern accessPattern =
+        Pattern.compile(String.format(PROPERTY_ACCESS_PATTERN, Pattern.quote(variable)));
+    Matcher accessMatcher = accessPattern.matcher(text);
+    while (accessMatcher.find()) {
+      String propertyName = accessMatcher.group(1);
+      propertyNames.add(propertyName == null ? accessMatcher.group(2) : propertyName);
+    }
+  }
+}
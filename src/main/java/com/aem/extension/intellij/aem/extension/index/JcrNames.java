@@ -0,0 +1,31 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+/**
+ * Names of JCR node types and properties, used in FileVault docview '.content.xml' files.
+ *
+ * @author Yury Raichonak
+ */
+public final class JcrNames {
+
+  public static final String CONTENT_XML_FILE_NAME = ".content.xml";
+  public static final String JCR_ROOT_DIRECTORY_NAME = "jcr_root";
+  public static final String CQ_DIALOG_DIRECTORY_NAME = "_cq_dialog";
+
+  public static final String JCR_PRIMARY_TYPE = "jcr:primaryType";
+  public static final String JCR_TITLE = "jcr:title";
+
+  public static final String COMPONENT = "cq:Component";
+  public static final String COMPONENT_GROUP = "componentGroup";
+  public static final String SLING_RESOURCE_SUPER_TYPE = "sling:resourceSuperType";
+
+  public static final String FIELD_NAME = "name";
+  public static final String COMPOSITE = "composite";
+
+  public static final String CLIENT_LIBRARY_FOLDER = "cq:ClientLibraryFolder";
+  public static final String CATEGORIES = "categories";
+  public static final String DEPENDENCIES = "dependencies";
+  public static final String EMBED = "embed";
+
+  private JcrNames() {
+  }
+}
@@ -0,0 +1,195 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static com.aem.extension.intellij.aem.extension.usage.AemAnnotations.VALUE_MAP_VALUE_ANNOTATION;
+
+import com.aem.extension.intellij.aem.extension.usage.AemAnnotations;
+import com.aem.extension.intellij.aem.extension.usage.FileImports;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sling Model Index.
+ * <p>
+ * Maps resource types of Sling Models, declared in a Java file, to names of properties, which
+ * these models read by '@ValueMapValue' fields. Like {@link AemClassIndex}, annotations are
+ * matched by syntax and imports only, and only literal annotation values are taken into account.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class SlingModelIndex extends FileBasedIndexExtension<String, Set<String>> {
+
+  public static final ID<String, Set<String>> NAME = ID.create("aem.extension.sling.model.index");
+
+  private static final int VERSION = 1;
+  private static final String NAME_ATTRIBUTE = "name";
+  private static final String RESOURCE_TYPE_ATTRIBUTE = "resourceType";
+  private static final String VALUE_MAP_VALUE_SHORT_NAME = StringUtil.getShortName(VALUE_MAP_VALUE_ANNOTATION);
+
+  /**
+   * @return index identifier;
+   */
+  @Override
+  public @NotNull ID<String, Set<String>> getName() {
+    return NAME;
+  }
+
+  /**
+   * @return indexer, which collects properties read by Sling Models of Java file;
+   */
+  @Override
+  public @NotNull DataIndexer<String, Set<String>, FileContent> getIndexer() {
+    return inputData -> {
+      if (!StringUtil.contains(inputData.getContentAsText(), VALUE_MAP_VALUE_SHORT_NAME)) {
+        return Map.of();
+      }
+      PsiFile psiFile = inputData.getPsiFile();
+      if (!(psiFile instanceof PsiJavaFile)) {
+        return Map.of();
+      }
+      Map<String, Set<String>> result = new HashMap<>();
+      FileImports imports = FileImports.of((PsiJavaFile) psiFile);
+      for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+        collectProperties(psiClass, imports, result);
+      }
+      return result;
+    };
+  }
+
+  /**
+   * @return key descriptor for resource types;
+   */
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  /**
+   * @return externalizer of property names;
+   */
+  @Override
+  public @NotNull DataExternalizer<Set<String>> getValueExternalizer() {
+    return StringSetExternalizer.INSTANCE;
+  }
+
+  /**
+   * @return index version;
+   */
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * @return filter, which accepts Java source files only;
+   */
+  @Override
+  public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  /**
+   * @return true, index depends on file content;
+   */
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * @param modelAnnotation '@Model' annotation;
+   * @return normalized literal resource types of model;
+   */
+  public static List<String> getResourceTypes(@NotNull PsiAnnotation modelAnnotation) {
+    List<String> resourceTypes = new ArrayList<>();
+    PsiAnnotationMemberValue value =
+        modelAnnotation.findDeclaredAttributeValue(RESOURCE_TYPE_ATTRIBUTE);
+    if (value instanceof PsiArrayInitializerMemberValue) {
+      PsiArrayInitializerMemberValue arrayValue = (PsiArrayInitializerMemberValue) value;
+      for (PsiAnnotationMemberValue initializer : arrayValue.getInitializers()) {
+        addLiteral(initializer, resourceTypes);
+      }
+    } else {
+      addLiteral(value, resourceTypes);
+    }
+    resourceTypes.replaceAll(ComponentIndex::normalizeResourceType);
+    return resourceTypes;
+  }
+
+  /**
+   * @param field '@ValueMapValue' field;
+   * @param valueMapValueAnnotation '@ValueMapValue' annotation of field;
+   * @return literal value of 'name' attribute, or name of field;
+   */
+  public static String getPropertyName(@NotNull PsiField field,
+      @NotNull PsiAnnotation valueMapValueAnnotation) {
+    List<String> names = new ArrayList<>();
+    addLiteral(valueMapValueAnnotation.findDeclaredAttributeValue(NAME_ATTRIBUTE), names);
+    return names.isEmpty() ? field.getName() : names.get(0);
+  }
+
+  /**
+   * Adds properties of class and its inner classes into result, if they are Sling Models with
+   * resource types;
+   * @param psiClass class to check;
+   * @param imports imports of Java file;
+   * @param result map to fill;
+   */
+  private static void collectProperties(PsiClass psiClass, FileImports imports,
+      Map<String, Set<String>> result) {
+    PsiAnnotation modelAnnotation = AemAnnotations.MODEL_FILTER.findAnnotation(psiClass, imports);
+    if (modelAnnotation != null) {
+      Set<String> propertyNames = new HashSet<>();
+      for (PsiField field : psiClass.getFields()) {
+        PsiAnnotation valueMapValueAnnotation =
+            AemAnnotations.VALUE_MAP_VALUE_FILTER.findAnnotation(field, imports);
+        if (valueMapValueAnnotation != null) {
+          propertyNames.add(getPropertyName(field, valueMapValueAnnotation));
+        }
+      }
+      for (String resourceType : getResourceTypes(modelAnnotation)) {
+        result.computeIfAbsent(resourceType, key -> new HashSet<>()).addAll(propertyNames);
+      }
+    }
+    for (PsiClass innerClass : psiClass.getInnerClasses()) {
+      collectProperties(innerClass, imports, result);
+    }
+  }
+
+  /**
+   * @param value annotation value;
+   * @param literals list to fill with non-empty string literal;
+   */
+  private static void addLiteral(PsiAnnotationMemberValue value, List<String> literals) {
+    if (value instanceof PsiLiteralExpression
+        && ((PsiLiteralExpression) value).getValue() instanceof String) {
+      String literal = (String) ((PsiLiteralExpression) value).getValue();
+      if (!literal.isEmpty()) {
+        literals.add(literal);
+      }
+    }
+  }
+}
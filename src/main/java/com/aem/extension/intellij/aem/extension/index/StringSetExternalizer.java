@@ -0,0 +1,52 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Externalizer for sets of strings, which stores size and strings of set.
+ *
+ * @author Yury Raichonak
+ */
+public final class StringSetExternalizer implements DataExternalizer<Set<String>> {
+
+  public static final StringSetExternalizer INSTANCE = new StringSetExternalizer();
+
+  private StringSetExternalizer() {
+  }
+
+  /**
+   * @param out data output;
+   * @param value set to save;
+   * @throws IOException if data can't be written;
+   */
+  @Override
+  public void save(@NotNull DataOutput out, Set<String> value) throws IOException {
+    DataInputOutputUtil.writeINT(out, value.size());
+    for (String string : value) {
+      IOUtil.writeUTF(out, string);
+    }
+  }
+
+  /**
+   * @param in data input;
+   * @return read set;
+   * @throws IOException if data can't be read;
+   */
+  @Override
+  public Set<String> read(@NotNull DataInput in) throws IOException {
+    int size = DataInputOutputUtil.readINT(in);
+    Set<String> strings = new HashSet<>(size);
+    for (int i = 0; i < size; i++) {
+      strings.add(IOUtil.readUTF(in));
+    }
+    return strings;
+  }
+}
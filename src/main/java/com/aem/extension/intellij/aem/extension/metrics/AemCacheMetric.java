@@ -0,0 +1,80 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit ratio of plugin cache.
+ * <p>
+ * Lookups and misses are counted separately, so a miss can be recorded inside the computation of
+ * cached value, without knowing whether the lookup was served from cache.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemCacheMetric {
+
+  private final String name;
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  AemCacheMetric(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Records lookup of cache, if metrics are enabled;
+   */
+  public void lookup() {
+    if (AemMetrics.isEnabled()) {
+      lookups.increment();
+    }
+  }
+
+  /**
+   * Records computation of cached value, if metrics are enabled;
+   */
+  public void miss() {
+    if (AemMetrics.isEnabled()) {
+      misses.increment();
+    }
+  }
+
+  /**
+   * @return name of cache;
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return number of lookups;
+   */
+  public long getLookups() {
+    return lookups.sum();
+  }
+
+  /**
+   * @return number of computed values;
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return share of lookups served from cache, from 0 to 1, or 0 if there were no lookups;
+   */
+  public double getHitRatio() {
+    long lookupCount = getLookups();
+    if (lookupCount == 0) {
+      return 0;
+    }
+    return Math.max(lookupCount - getMisses(), 0) / (double) lookupCount;
+  }
+
+  /**
+   * Clears recorded lookups;
+   */
+  void reset() {
+    lookups.reset();
+    misses.reset();
+  }
+}
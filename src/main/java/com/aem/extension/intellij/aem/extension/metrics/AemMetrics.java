@@ -0,0 +1,122 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Instrumentation of plugin hot paths.
+ * <p>
+ * Metrics are disabled by default. While they are disabled, recording reads one volatile flag and
+ * allocates nothing; while they are enabled, it updates striped counters only, so metrics are
+ * cheap enough to stay enabled in production IDEs.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemMetrics {
+
+  public static final AemTimer IMPLICIT_USAGE = new AemTimer("usage.isImplicitUsage");
+  public static final AemTimer IMPLICIT_WRITE = new AemTimer("usage.isImplicitWrite");
+  public static final AemTimer TEMPLATE_LOAD = new AemTimer("template.load");
+  public static final AemTimer GENERATION_VALIDATE = new AemTimer("generation.validate");
+  public static final AemTimer COMPONENT_PLAN = new AemTimer("generation.planComponent");
+  public static final AemTimer CLIENT_LIB_PLAN = new AemTimer("generation.planClientLib");
+  public static final AemTimer GENERATION_WRITE = new AemTimer("generation.write");
+  public static final AemTimer SYNC_PACKAGE = new AemTimer("sync.package");
+  public static final AemTimer SYNC_UPLOAD = new AemTimer("sync.upload");
+  public static final AemTimer PACKAGE_BUILD = new AemTimer("packaging.build");
+
+  public static final AemCacheMetric CLASS_INFO_CACHE = new AemCacheMetric("usage.classInfo");
+
+  private static final List<AemTimer> TIMERS = List.of(IMPLICIT_USAGE, IMPLICIT_WRITE,
+      TEMPLATE_LOAD, GENERATION_VALIDATE, COMPONENT_PLAN, CLIENT_LIB_PLAN, GENERATION_WRITE,
+      SYNC_PACKAGE, SYNC_UPLOAD, PACKAGE_BUILD);
+  private static final List<AemCacheMetric> CACHES = List.of(CLASS_INFO_CACHE);
+  private static final double NANOS_IN_MILLI = 1_000_000d;
+  private static final String INDENT = "    ";
+
+  private static volatile boolean enabled;
+
+  private AemMetrics() {
+  }
+
+  /**
+   * @return true if metrics are recorded;
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param enabled true to record metrics;
+   */
+  public static void setEnabled(boolean enabled) {
+    AemMetrics.enabled = enabled;
+  }
+
+  /**
+   * @return all timers;
+   */
+  public static List<AemTimer> getTimers() {
+    return TIMERS;
+  }
+
+  /**
+   * @return all cache metrics;
+   */
+  public static List<AemCacheMetric> getCaches() {
+    return CACHES;
+  }
+
+  /**
+   * Clears all recorded metrics;
+   */
+  public static void reset() {
+    TIMERS.forEach(AemTimer::reset);
+    CACHES.forEach(AemCacheMetric::reset);
+  }
+
+  /**
+   * @param nanos duration in nanoseconds;
+   * @return duration in milliseconds;
+   */
+  public static double toMillis(long nanos) {
+    return nanos / NANOS_IN_MILLI;
+  }
+
+  /**
+   * @return snapshot of all metrics in JSON format, durations are in milliseconds;
+   */
+  public static String toJson() {
+    StringBuilder json = new StringBuilder("{\n  \"enabled\": ").append(enabled)
+        .append(",\n  \"timers\": [");
+    for (int i = 0; i < TIMERS.size(); i++) {
+      AemTimer timer = TIMERS.get(i);
+      json.append(i == 0 ? "\n" : ",\n").append(INDENT).append("{")
+          .append("\"name\": \"").append(timer.getName()).append("\", ")
+          .append("\"count\": ").append(timer.getCount()).append(", ")
+          .append("\"totalMs\": ").append(formatMillis(timer.getTotalNanos())).append(", ")
+          .append("\"p50Ms\": ").append(formatMillis(timer.getPercentileNanos(50))).append(", ")
+          .append("\"p99Ms\": ").append(formatMillis(timer.getPercentileNanos(99))).append(", ")
+          .append("\"maxMs\": ").append(formatMillis(timer.getMaxNanos())).append("}");
+    }
+    json.append(TIMERS.isEmpty() ? "" : "\n  ").append("],\n  \"caches\": [");
+    for (int i = 0; i < CACHES.size(); i++) {
+      AemCacheMetric cache = CACHES.get(i);
+      json.append(i == 0 ? "\n" : ",\n").append(INDENT).append("{")
+          .append("\"name\": \"").append(cache.getName()).append("\", ")
+          .append("\"lookups\": ").append(cache.getLookups()).append(", ")
+          .append("\"misses\": ").append(cache.getMisses()).append(", ")
+          .append("\"hitRatio\": ")
+          .append(String.format(Locale.ROOT, "%.4f", cache.getHitRatio())).append("}");
+    }
+    return json.append(CACHES.isEmpty() ? "" : "\n  ").append("]\n}\n").toString();
+  }
+
+  /**
+   * @param nanos duration in nanoseconds;
+   * @return duration in milliseconds with microsecond precision;
+   */
+  private static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", toMillis(nanos));
+  }
+}
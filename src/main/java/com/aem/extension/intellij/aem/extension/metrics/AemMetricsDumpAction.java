@@ -0,0 +1,49 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Metrics Dump Action.
+ * <p>
+ * Saves snapshot of {@link AemMetrics} into JSON file, chosen by user.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemMetricsDumpAction extends DumbAwareAction {
+
+  private static final String DEFAULT_FILE_NAME = "aem-metrics.json";
+  private static final String DESCRIPTION = "Save metrics of AEM Extension plugin as JSON";
+  private static final String ERROR_TITLE = "Cannot save AEM metrics";
+  private static final String JSON_EXTENSION = "json";
+  private static final String TITLE = "Save AEM Metrics";
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    FileSaverDescriptor descriptor = new FileSaverDescriptor(TITLE, DESCRIPTION, JSON_EXTENSION);
+    VirtualFileWrapper target = FileChooserFactory.getInstance()
+        .createSaveFileDialog(descriptor, project)
+        .save(DEFAULT_FILE_NAME);
+    if (target == null) {
+      return;
+    }
+    try {
+      Files.writeString(target.getFile().toPath(), AemMetrics.toJson(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      Messages.showErrorDialog(project, e.getMessage(), ERROR_TITLE);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model, which shows snapshot of all timers and cache metrics, one metric per row.
+ *
+ * @author Yury Raichonak
+ */
+class AemMetricsTableModel extends AbstractTableModel {
+
+  private static final List<String> COLUMN_NAMES =
+      List.of("Metric", "Count", "Total, ms", "p50, ms", "p99, ms", "Max, ms", "Hit ratio");
+  private static final String MILLIS_FORMAT = "%.3f";
+  private static final String RATIO_FORMAT = "%.1f%%";
+  private static final String NO_VALUE = "";
+  private static final int PERCENT = 100;
+
+  /**
+   * @return number of metrics;
+   */
+  @Override
+  public int getRowCount() {
+    return AemMetrics.getTimers().size() + AemMetrics.getCaches().size();
+  }
+
+  /**
+   * @return number of columns;
+   */
+  @Override
+  public int getColumnCount() {
+    return COLUMN_NAMES.size();
+  }
+
+  /**
+   * @param column index of column;
+   * @return name of column;
+   */
+  @Override
+  public String getColumnName(int column) {
+    return COLUMN_NAMES.get(column);
+  }
+
+  /**
+   * @param row index of metric;
+   * @param column index of column;
+   * @return current value of metric;
+   */
+  @Override
+  public Object getValueAt(int row, int column) {
+    List<AemTimer> timers = AemMetrics.getTimers();
+    if (row < timers.size()) {
+      return getTimerValue(timers.get(row), column);
+    }
+    return getCacheValue(AemMetrics.getCaches().get(row - timers.size()), column);
+  }
+
+  /**
+   * @param timer timer;
+   * @param column index of column;
+   * @return value of timer;
+   */
+  private static Object getTimerValue(AemTimer timer, int column) {
+    switch (column) {
+      case 0:
+        return timer.getName();
+      case 1:
+        return timer.getCount();
+      case 2:
+        return formatMillis(timer.getTotalNanos());
+      case 3:
+        return formatMillis(timer.getPercentileNanos(50));
+      case 4:
+        return formatMillis(timer.getPercentileNanos(99));
+      case 5:
+        return formatMillis(timer.getMaxNanos());
+      default:
+        return NO_VALUE;
+    }
+  }
+
+  /**
+   * @param cache cache metric;
+   * @param column index of column;
+   * @return value of cache metric;
+   */
+  private static Object getCacheValue(AemCacheMetric cache, int column) {
+    switch (column) {
+      case 0:
+        return cache.getName();
+      case 1:
+        return cache.getLookups();
+      case 6:
+        return String.format(Locale.ROOT, RATIO_FORMAT, cache.getHitRatio() * PERCENT);
+      default:
+        return NO_VALUE;
+    }
+  }
+
+  /**
+   * @param nanos duration in nanoseconds;
+   * @return formatted duration in milliseconds;
+   */
+  private static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, MILLIS_FORMAT, AemMetrics.toMillis(nanos));
+  }
+}
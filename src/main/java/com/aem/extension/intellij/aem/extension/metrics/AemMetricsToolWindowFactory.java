@@ -0,0 +1,97 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.table.JBTable;
+import javax.swing.Timer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Metrics Tool Window Factory.
+ * <p>
+ * Creates tool window with table of {@link AemMetrics}, and actions for enabling, resetting and
+ * dumping them. The table is refreshed once per second, only while metrics are enabled and the
+ * tool window is visible. Tool window is available only in internal mode, as well as the dump
+ * action.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemMetricsToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+  private static final int REFRESH_DELAY_MILLIS = 1000;
+  private static final String DUMP_ACTION_ID = "aem.metrics.dump";
+  private static final String RECORD_ACTION_TEXT = "Record Metrics";
+  private static final String RESET_ACTION_TEXT = "Reset Metrics";
+  private static final String TOOLBAR_PLACE = "AemMetricsToolbar";
+
+  /**
+   * @param project current project;
+   * @return true if IDE runs in internal mode;
+   */
+  @Override
+  public boolean isApplicable(@NotNull Project project) {
+    return ApplicationManager.getApplication().isInternal();
+  }
+
+  /**
+   * @param project current project;
+   * @param toolWindow tool window to fill;
+   */
+  @Override
+  public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+    AemMetricsTableModel tableModel = new AemMetricsTableModel();
+    SimpleToolWindowPanel panel = new SimpleToolWindowPanel(true, true);
+    panel.setContent(ScrollPaneFactory.createScrollPane(new JBTable(tableModel)));
+
+    DefaultActionGroup actions = new DefaultActionGroup();
+    actions.add(new DumbAwareToggleAction(RECORD_ACTION_TEXT, null, AllIcons.Actions.Execute) {
+      @Override
+      public boolean isSelected(@NotNull AnActionEvent event) {
+        return AemMetrics.isEnabled();
+      }
+
+      @Override
+      public void setSelected(@NotNull AnActionEvent event, boolean state) {
+        AemMetrics.setEnabled(state);
+        tableModel.fireTableDataChanged();
+      }
+    });
+    actions.add(new DumbAwareAction(RESET_ACTION_TEXT, null, AllIcons.Actions.GC) {
+      @Override
+      public void actionPerformed(@NotNull AnActionEvent event) {
+        AemMetrics.reset();
+        tableModel.fireTableDataChanged();
+      }
+    });
+    actions.add(ActionManager.getInstance().getAction(DUMP_ACTION_ID));
+    ActionToolbar toolbar =
+        ActionManager.getInstance().createActionToolbar(TOOLBAR_PLACE, actions, true);
+    toolbar.setTargetComponent(panel);
+    panel.setToolbar(toolbar.getComponent());
+
+    Content content = ContentFactory.SERVICE.getInstance().createContent(panel, null, false);
+    Timer timer = new Timer(REFRESH_DELAY_MILLIS, event -> {
+      if (AemMetrics.isEnabled() && toolWindow.isVisible()) {
+        tableModel.fireTableDataChanged();
+      }
+    });
+    timer.start();
+    Disposer.register(content, timer::stop);
+    toolWindow.getContentManager().addContent(content);
+  }
+}
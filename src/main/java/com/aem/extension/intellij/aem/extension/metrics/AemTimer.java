@@ -0,0 +1,134 @@
+package com.aem.extension.intellij.aem.extension.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer of plugin hot path.
+ * <p>
+ * Keeps call count, total and maximum latency, and a histogram of latencies with power of two
+ * buckets. Nothing is allocated on recording, and only the enabled flag is read while
+ * {@link AemMetrics} is disabled.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemTimer {
+
+  private static final int BUCKET_COUNT = Long.SIZE;
+  private static final long DISABLED = 0L;
+
+  private final String name;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+  AemTimer(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return start time to pass into {@link #stop(long)}, or 0 if metrics are disabled;
+   */
+  public long start() {
+    return AemMetrics.isEnabled() ? System.nanoTime() : DISABLED;
+  }
+
+  /**
+   * Records latency of call, if it was started while metrics were enabled;
+   * @param start value returned by {@link #start()};
+   */
+  public void stop(long start) {
+    if (start == DISABLED) {
+      return;
+    }
+    long nanos = Math.max(System.nanoTime() - start, 0L);
+    count.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+    buckets.incrementAndGet(getBucket(nanos));
+  }
+
+  /**
+   * @return name of timer;
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return number of recorded calls;
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return total latency of recorded calls in nanoseconds;
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * @return maximum latency of recorded calls in nanoseconds;
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Percentile is approximated by the upper bound of histogram bucket, which contains it;
+   * @param percentile percentile from 0 to 100;
+   * @return approximate latency in nanoseconds, or 0 if there are no recorded calls;
+   */
+  public long getPercentileNanos(double percentile) {
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0L;
+    }
+    long threshold = (long) Math.ceil(total * percentile / 100);
+    long accumulated = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      accumulated += counts[i];
+      if (accumulated >= Math.max(threshold, 1)) {
+        return Math.min(getBucketUpperBound(i), getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+
+  /**
+   * Clears recorded calls;
+   */
+  void reset() {
+    count.reset();
+    totalNanos.reset();
+    maxNanos.reset();
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0L);
+    }
+  }
+
+  /**
+   * @param nanos latency in nanoseconds;
+   * @return index of bucket, which holds latencies from 2^index to 2^(index+1)-1;
+   */
+  private static int getBucket(long nanos) {
+    return nanos == 0 ? 0 : BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(nanos);
+  }
+
+  /**
+   * @param bucket index of bucket;
+   * @return maximum latency of bucket in nanoseconds;
+   */
+  private static long getBucketUpperBound(int bucket) {
+    return bucket >= BUCKET_COUNT - 2 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+  }
+}
@@ -0,0 +1,183 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import static com.aem.extension.intellij.aem.extension.clientlib.ClientLibBundleAction.NOTIFICATION_GROUP_ID;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.FILTER_ENTRY;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.NAME_PROPERTY;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.PROPERTIES_ENTRY;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.VERSION_PROPERTY;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Build Content Package Action.
+ * <p>
+ * Builds installable content package of selected package root, content root or directory inside
+ * content root by {@link IncrementalPackageBuilder}. Content roots are resolved by
+ * {@link ContentRootService}, the same way as locations of generated components and client
+ * libraries. Packages and their caches are kept in IDE system directory. Only one build of package
+ * root runs at a time, since builds of the same root share cache and temporary archive.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class BuildContentPackageAction extends AnAction implements DumbAware {
+
+  private static final String PACKAGES_DIRECTORY_NAME = "aem-extension-packages";
+  private static final String CACHE_DIRECTORY_NAME = "cache";
+  private static final String PACKAGE_EXTENSION = ".zip";
+  private static final String VERSION_SEPARATOR = "-";
+  private static final String PROGRESS_TITLE = "Building AEM content package";
+  private static final String TITLE = "AEM content package";
+  private static final String ERROR_TITLE = "Cannot build AEM content package";
+  private static final String IN_PROGRESS_MESSAGE = "Package [%s] is already being built";
+  private static final String RESULT_FORMAT =
+      "%s<br>%d entries, %d compressed, %s in %d ms";
+
+  private static final Set<Path> BUILDING_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Only cached content roots and children of selected directory are checked;
+   * @param event action event;
+   */
+  @Override
+  public void update(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    VirtualFile directory = event.getData(CommonDataKeys.VIRTUAL_FILE);
+    event.getPresentation().setEnabledAndVisible(project != null && directory != null
+        && directory.isInLocalFileSystem() && findPackageRoot(project, directory) != null);
+  }
+
+  /**
+   * @param event action event;
+   */
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    Project project = event.getProject();
+    VirtualFile directory = event.getData(CommonDataKeys.VIRTUAL_FILE);
+    VirtualFile packageRoot =
+        project == null || directory == null ? null : findPackageRoot(project, directory);
+    if (packageRoot == null) {
+      return;
+    }
+    FileDocumentManager.getInstance().saveAllDocuments();
+    Path packageRootPath = packageRoot.toNioPath();
+    Path outputDirectory = Path.of(PathManager.getSystemPath(), PACKAGES_DIRECTORY_NAME,
+        project.getLocationHash(), Integer.toHexString(packageRoot.getPath().hashCode()));
+    if (!BUILDING_DIRECTORIES.add(outputDirectory)) {
+      notify(project, TITLE, String.format(IN_PROGRESS_MESSAGE, packageRootPath),
+          NotificationType.WARNING);
+      return;
+    }
+    new Task.Backgroundable(project, PROGRESS_TITLE, true) {
+
+      private PackageBuildResult result;
+
+      @Override
+      public void run(@NotNull ProgressIndicator indicator) {
+        try {
+          Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+          throw new IllegalStateException(e.getMessage(), e);
+        }
+        result = new IncrementalPackageBuilder(outputDirectory.resolve(CACHE_DIRECTORY_NAME))
+            .build(packageRootPath, outputDirectory.resolve(getPackageFileName(packageRootPath)),
+                indicator);
+      }
+
+      @Override
+      public void onSuccess() {
+        notify(project, TITLE, String.format(RESULT_FORMAT, result.getFile(),
+            result.getEntryCount(), result.getCompressedCount(),
+            StringUtil.formatFileSize(result.getSize()), result.getDurationMs()),
+            NotificationType.INFORMATION);
+      }
+
+      @Override
+      public void onThrowable(@NotNull Throwable error) {
+        notify(project, ERROR_TITLE, String.valueOf(error.getMessage()), NotificationType.ERROR);
+      }
+
+      @Override
+      public void onFinished() {
+        BUILDING_DIRECTORIES.remove(outputDirectory);
+      }
+    }.queue();
+  }
+
+  /**
+   * @param project current project;
+   * @param directory selected directory;
+   * @return directory with 'jcr_root' and 'META-INF/vault/filter.xml', or null if there is none;
+   */
+  private static @Nullable VirtualFile findPackageRoot(@NotNull Project project,
+      @NotNull VirtualFile directory) {
+    if (!directory.isDirectory()) {
+      return null;
+    }
+    VirtualFile packageRoot;
+    if (directory.findChild(JCR_ROOT_DIRECTORY_NAME) != null) {
+      packageRoot = directory;
+    } else {
+      VirtualFile contentRoot = ContentRootService.getInstance(project).getContentRoot(directory);
+      packageRoot = contentRoot == null ? null : contentRoot.getParent();
+    }
+    return packageRoot != null && packageRoot.findFileByRelativePath(FILTER_ENTRY) != null
+        ? packageRoot : null;
+  }
+
+  /**
+   * @param packageRoot directory with 'jcr_root' and 'META-INF/vault';
+   * @return name and version from 'properties.xml', or name of package root directory;
+   */
+  private static String getPackageFileName(Path packageRoot) {
+    Path propertiesFile = packageRoot.resolve(PROPERTIES_ENTRY);
+    String fileName = packageRoot.getFileName().toString();
+    if (Files.isRegularFile(propertiesFile)) {
+      Properties properties = new Properties();
+      try (InputStream input = Files.newInputStream(propertiesFile)) {
+        properties.loadFromXML(input);
+        String name = properties.getProperty(NAME_PROPERTY, fileName);
+        String version = properties.getProperty(VERSION_PROPERTY);
+        fileName = version == null ? name : name + VERSION_SEPARATOR + version;
+      } catch (IOException | IllegalArgumentException e) {
+        return fileName + PACKAGE_EXTENSION;
+      }
+    }
+    return fileName.replaceAll("[^\\w.-]", "_") + PACKAGE_EXTENSION;
+  }
+
+  /**
+   * @param project current project;
+   * @param title title of notification;
+   * @param content content of notification;
+   * @param type type of notification;
+   */
+  private static void notify(Project project, String title, String content,
+      NotificationType type) {
+    NotificationGroupManager.getInstance().getNotificationGroup(NOTIFICATION_GROUP_ID)
+        .createNotification(title, content, type)
+        .notify(project);
+  }
+}
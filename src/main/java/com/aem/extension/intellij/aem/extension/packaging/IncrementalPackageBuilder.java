@@ -0,0 +1,191 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.FILTER_ENTRY;
+import static com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder.PROPERTIES_ENTRY;
+
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import com.aem.extension.intellij.aem.extension.sync.ContentPackageBuilder;
+import com.intellij.openapi.progress.ProgressIndicator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Incremental Package Builder.
+ * <p>
+ * Builds installable FileVault content package from 'jcr_root' and 'META-INF/vault' directories of
+ * package root, e.g. 'ui.apps/src/main/content'. Entries are resolved by {@link PackageEntryCache}
+ * in parallel on all cores, so only new content is compressed, and then cached blobs are streamed
+ * into archive by {@link RawZipWriter} in stable order. Archive is written next to target and
+ * moved over it when complete. Package without 'properties.xml' gets one with name of package
+ * root directory. Cancellation is checked for every entry, both when it's resolved and when it's
+ * written. Builds, which share cache directory, shouldn't run concurrently.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class IncrementalPackageBuilder {
+
+  private static final String META_INF_DIRECTORY_NAME = "META-INF";
+  private static final String GENERATED_DIRECTORY_NAME = "generated";
+  private static final String GENERATED_GROUP = "aem-extension";
+  private static final String GENERATED_VERSION = "1.0.0-SNAPSHOT";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final String NO_FILTER_MESSAGE = "Package root [%s] has no %s";
+  private static final char HIDDEN_FILE_PREFIX = '.';
+  private static final char SEPARATOR = '/';
+
+  private final Path cacheDirectory;
+
+  /**
+   * @param cacheDirectory directory of compressed entries, one per package root;
+   */
+  public IncrementalPackageBuilder(Path cacheDirectory) {
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * @param packageRoot directory with 'jcr_root' and 'META-INF/vault';
+   * @param target package file to write;
+   * @param indicator progress of build;
+   * @return result of build;
+   * @throws IllegalArgumentException if package root has no 'filter.xml' or package is too large;
+   * @throws UncheckedIOException if package can't be built;
+   */
+  public PackageBuildResult build(Path packageRoot, Path target, ProgressIndicator indicator) {
+    long startNanos = System.nanoTime();
+    long start = AemMetrics.PACKAGE_BUILD.start();
+    try {
+      if (!Files.isRegularFile(packageRoot.resolve(FILTER_ENTRY))) {
+        throw new IllegalArgumentException(
+            String.format(NO_FILTER_MESSAGE, packageRoot, FILTER_ENTRY));
+      }
+      TreeMap<String, Path> files = collectFiles(packageRoot);
+      if (!files.containsKey(PROPERTIES_ENTRY)) {
+        files.put(PROPERTIES_ENTRY, writeGeneratedProperties(packageRoot));
+      }
+      PackageEntryCache cache = PackageEntryCache.open(cacheDirectory);
+      List<PackageEntry> entries = resolveEntries(cache, files, indicator);
+      Path tempTarget = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+      try (RawZipWriter writer = new RawZipWriter(tempTarget)) {
+        indicator.setIndeterminate(false);
+        for (int i = 0; i < entries.size(); i++) {
+          indicator.checkCanceled();
+          indicator.setFraction((double) i / entries.size());
+          writer.write(entries.get(i), cache.getBlob(entries.get(i)));
+        }
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(tempTarget);
+        throw e;
+      }
+      Files.move(tempTarget, target, StandardCopyOption.REPLACE_EXISTING);
+      cache.save();
+      return new PackageBuildResult(target, entries.size(), cache.getCompressedCount(),
+          Files.size(target), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when building package [%s]", target), e);
+    } finally {
+      AemMetrics.PACKAGE_BUILD.stop(start);
+    }
+  }
+
+  /**
+   * @param packageRoot directory with 'jcr_root' and 'META-INF/vault';
+   * @return files of package by their entry names, sorted by names;
+   * @throws IOException if directories can't be listed;
+   */
+  private static TreeMap<String, Path> collectFiles(Path packageRoot) throws IOException {
+    TreeMap<String, Path> files = new TreeMap<>();
+    for (String directoryName : List.of(META_INF_DIRECTORY_NAME, JCR_ROOT_DIRECTORY_NAME)) {
+      Path directory = packageRoot.resolve(directoryName);
+      if (!Files.isDirectory(directory)) {
+        continue;
+      }
+      try (Stream<Path> tree = Files.walk(directory)) {
+        for (Path file : tree.filter(Files::isRegularFile).collect(Collectors.toList())) {
+          String name = packageRoot.relativize(file).toString().replace('\\', SEPARATOR);
+          if (!isHidden(name)) {
+            files.put(name, file);
+          }
+        }
+      }
+    }
+    return files;
+  }
+
+  /**
+   * Properties are rewritten only when they change, so their cached entry is reused;
+   * @param packageRoot directory with 'jcr_root' and 'META-INF/vault';
+   * @return generated 'properties.xml' file;
+   * @throws IOException if file can't be written;
+   */
+  private Path writeGeneratedProperties(Path packageRoot) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ContentPackageBuilder.writeProperties(output, GENERATED_GROUP,
+        packageRoot.getFileName().toString(), GENERATED_VERSION);
+    Path file = cacheDirectory.resolve(GENERATED_DIRECTORY_NAME).resolve(PROPERTIES_ENTRY);
+    byte[] content = output.toByteArray();
+    if (!Files.isRegularFile(file) || !Arrays.equals(Files.readAllBytes(file), content)) {
+      Files.createDirectories(file.getParent());
+      Files.write(file, content);
+    }
+    return file;
+  }
+
+  /**
+   * @param cache cache of compressed entries;
+   * @param files files of package by their entry names;
+   * @param indicator progress of build;
+   * @return entries in order of names;
+   */
+  private static List<PackageEntry> resolveEntries(PackageEntryCache cache,
+      TreeMap<String, Path> files, ProgressIndicator indicator) {
+    List<String> names = new ArrayList<>(files.keySet());
+    ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    try {
+      return pool.submit(() -> names.parallelStream()
+          .map(name -> {
+            indicator.checkCanceled();
+            return cache.resolve(files.get(name), name);
+          })
+          .collect(Collectors.toList())).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * @param name name of entry;
+   * @return true if any part of name is hidden, e.g. '.vlt' or '.DS_Store', but not '.content.xml';
+   */
+  private static boolean isHidden(String name) {
+    for (String part : name.split(String.valueOf(SEPARATOR))) {
+      if (part.charAt(0) == HIDDEN_FILE_PREFIX && !CONTENT_XML_FILE_NAME.equals(part)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,68 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import java.nio.file.Path;
+
+/**
+ * Result of content package build.
+ *
+ * @author Yury Raichonak
+ */
+public final class PackageBuildResult {
+
+  private final Path file;
+  private final int entryCount;
+  private final int compressedCount;
+  private final long size;
+  private final long durationMs;
+
+  /**
+   * @param file built package;
+   * @param entryCount number of entries in package;
+   * @param compressedCount number of entries, which were compressed, not reused;
+   * @param size size of package in bytes;
+   * @param durationMs duration of build in milliseconds;
+   */
+  public PackageBuildResult(Path file, int entryCount, int compressedCount, long size,
+      long durationMs) {
+    this.file = file;
+    this.entryCount = entryCount;
+    this.compressedCount = compressedCount;
+    this.size = size;
+    this.durationMs = durationMs;
+  }
+
+  /**
+   * @return built package;
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * @return number of entries in package;
+   */
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * @return number of entries, which were compressed, not reused;
+   */
+  public int getCompressedCount() {
+    return compressedCount;
+  }
+
+  /**
+   * @return size of package in bytes;
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return duration of build in milliseconds;
+   */
+  public long getDurationMs() {
+    return durationMs;
+  }
+}
@@ -0,0 +1,108 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+/**
+ * Compressed entry of content package.
+ * <p>
+ * Keeps modification stamp and content hash of source file together with zip data of its
+ * compressed blob, so unchanged files are packaged without reading them again.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class PackageEntry {
+
+  public static final int STORED = 0;
+  public static final int DEFLATED = 8;
+
+  private final String name;
+  private final long lastModified;
+  private final long size;
+  private final String hash;
+  private final int method;
+  private final long crc;
+  private final long compressedSize;
+
+  /**
+   * @param name name of entry in package;
+   * @param lastModified modification time of source file in milliseconds;
+   * @param size size of source file;
+   * @param hash SHA-256 hash of source file;
+   * @param method zip compression method, {@link #STORED} or {@link #DEFLATED};
+   * @param crc CRC-32 of source file;
+   * @param compressedSize size of compressed blob;
+   */
+  public PackageEntry(String name, long lastModified, long size, String hash, int method,
+      long crc, long compressedSize) {
+    this.name = name;
+    this.lastModified = lastModified;
+    this.size = size;
+    this.hash = hash;
+    this.method = method;
+    this.crc = crc;
+    this.compressedSize = compressedSize;
+  }
+
+  /**
+   * @param name name of entry in package;
+   * @param lastModified modification time of source file in milliseconds;
+   * @return entry with the same compressed blob for other file;
+   */
+  public PackageEntry withSource(String name, long lastModified) {
+    return new PackageEntry(name, lastModified, size, hash, method, crc, compressedSize);
+  }
+
+  /**
+   * @return name of entry in package;
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return modification time of source file in milliseconds;
+   */
+  public long getLastModified() {
+    return lastModified;
+  }
+
+  /**
+   * @return size of source file;
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return SHA-256 hash of source file;
+   */
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   * @return zip compression method;
+   */
+  public int getMethod() {
+    return method;
+  }
+
+  /**
+   * @return CRC-32 of source file;
+   */
+  public long getCrc() {
+    return crc;
+  }
+
+  /**
+   * @return size of compressed blob;
+   */
+  public long getCompressedSize() {
+    return compressedSize;
+  }
+
+  /**
+   * @return name of compressed blob in cache;
+   */
+  public String getBlobName() {
+    return hash + '.' + method;
+  }
+}
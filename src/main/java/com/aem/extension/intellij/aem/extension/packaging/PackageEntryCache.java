@@ -0,0 +1,320 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Cache of compressed package entries.
+ * <p>
+ * Compressed blobs are stored on disk by content hash and compression method, and are described by
+ * an index of entries from previous build. File with the same modification stamp and size reuses
+ * its entry without reading; file with new stamp is hashed and reuses any blob with the same
+ * content, e.g. after branch switch; only new content is compressed. Methods are thread-safe, so
+ * entries can be resolved in parallel.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class PackageEntryCache {
+
+  private static final String INDEX_FILE_NAME = "index.bin";
+  private static final String BLOBS_DIRECTORY_NAME = "blobs";
+  private static final String TEMP_BLOB_PREFIX = "blob";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int INDEX_VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("gif", "gz", "jar", "jpeg",
+      "jpg", "mp4", "png", "webp", "woff", "woff2", "zip");
+
+  private final Path indexFile;
+  private final Path blobsDirectory;
+  private final Map<String, PackageEntry> previousEntriesByName;
+  private final Map<String, PackageEntry> entriesByHash = new ConcurrentHashMap<>();
+  private final Map<String, PackageEntry> entriesByName = new ConcurrentHashMap<>();
+  private final LongAdder compressedCount = new LongAdder();
+
+  private PackageEntryCache(Path cacheDirectory, Map<String, PackageEntry> previousEntriesByName) {
+    this.indexFile = cacheDirectory.resolve(INDEX_FILE_NAME);
+    this.blobsDirectory = cacheDirectory.resolve(BLOBS_DIRECTORY_NAME);
+    this.previousEntriesByName = previousEntriesByName;
+    for (PackageEntry entry : previousEntriesByName.values()) {
+      if (Files.exists(getBlob(entry))) {
+        entriesByHash.put(entry.getHash(), entry);
+      }
+    }
+  }
+
+  /**
+   * Reads index of previous build, broken or missing index makes empty cache;
+   * @param cacheDirectory directory of cache;
+   * @return cache;
+   * @throws UncheckedIOException if cache directory can't be created;
+   */
+  public static PackageEntryCache open(Path cacheDirectory) {
+    try {
+      Files.createDirectories(cacheDirectory.resolve(BLOBS_DIRECTORY_NAME));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when creating cache [%s]", cacheDirectory), e);
+    }
+    return new PackageEntryCache(cacheDirectory,
+        readIndex(cacheDirectory.resolve(INDEX_FILE_NAME)));
+  }
+
+  /**
+   * @param entry resolved entry;
+   * @return compressed blob of entry;
+   */
+  public Path getBlob(PackageEntry entry) {
+    return blobsDirectory.resolve(entry.getBlobName());
+  }
+
+  /**
+   * @param file source file;
+   * @param name name of entry in package;
+   * @return entry with compressed blob in cache;
+   * @throws UncheckedIOException if file can't be read or compressed;
+   */
+  public PackageEntry resolve(Path file, String name) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      long lastModified = attributes.lastModifiedTime().toMillis();
+      PackageEntry previous = previousEntriesByName.get(name);
+      PackageEntry entry;
+      if (previous != null && previous.getLastModified() == lastModified
+          && previous.getSize() == attributes.size() && Files.exists(getBlob(previous))) {
+        entry = previous;
+      } else {
+        entry = resolveByContent(file, name, lastModified);
+      }
+      entriesByName.put(name, entry);
+      return entry;
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when compressing file [%s]", file), e);
+    }
+  }
+
+  /**
+   * @return number of entries, which were compressed, because their content wasn't cached;
+   */
+  public int getCompressedCount() {
+    return compressedCount.intValue();
+  }
+
+  /**
+   * Writes index of resolved entries and deletes blobs, which aren't used by them;
+   * @throws UncheckedIOException if index can't be written;
+   */
+  public void save() {
+    Collection<PackageEntry> entries = entriesByName.values();
+    Set<String> usedBlobs = new HashSet<>();
+    entries.forEach(entry -> usedBlobs.add(entry.getBlobName()));
+    try {
+      writeIndex(entries);
+      try (Stream<Path> blobs = Files.list(blobsDirectory)) {
+        for (Path blob : blobs.collect(Collectors.toList())) {
+          if (!usedBlobs.contains(blob.getFileName().toString())) {
+            Files.deleteIfExists(blob);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when saving cache [%s]", indexFile), e);
+    }
+  }
+
+  /**
+   * Blob of the same content is valid zip data regardless of its compression method;
+   * @param file source file;
+   * @param name name of entry in package;
+   * @param lastModified modification time of source file;
+   * @return entry with blob of the same content, or with newly compressed blob;
+   * @throws IOException if file can't be read or compressed;
+   */
+  private PackageEntry resolveByContent(Path file, String name, long lastModified)
+      throws IOException {
+    String hash = hash(file);
+    PackageEntry cached = entriesByHash.get(hash);
+    if (cached != null) {
+      return cached.withSource(name, lastModified);
+    }
+    PackageEntry entry = compress(file, name, lastModified, hash);
+    entriesByHash.putIfAbsent(hash, entry);
+    compressedCount.increment();
+    return entry;
+  }
+
+  /**
+   * Compresses file into temporary blob, then moves it to its name, so readers never see partly
+   * written blobs; blobs, which turn out larger than file, are replaced by stored copy of file;
+   * @param file source file;
+   * @param name name of entry in package;
+   * @param lastModified modification time of source file;
+   * @param hash SHA-256 hash of source file;
+   * @return entry with newly compressed blob;
+   * @throws IOException if file can't be read or compressed;
+   */
+  private PackageEntry compress(Path file, String name, long lastModified, String hash)
+      throws IOException {
+    Path tempBlob = Files.createTempFile(blobsDirectory, TEMP_BLOB_PREFIX, null);
+    try {
+      CRC32 crc = new CRC32();
+      int method = getMethod(name);
+      long size = write(file, tempBlob, crc, method);
+      if (method == PackageEntry.DEFLATED && Files.size(tempBlob) >= size) {
+        method = PackageEntry.STORED;
+        write(file, tempBlob, new CRC32(), method);
+      }
+      PackageEntry entry = new PackageEntry(name, lastModified, size, hash, method,
+          crc.getValue(), Files.size(tempBlob));
+      Files.move(tempBlob, getBlob(entry), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      return entry;
+    } finally {
+      Files.deleteIfExists(tempBlob);
+    }
+  }
+
+  /**
+   * @param file source file;
+   * @param blob blob to write;
+   * @param crc checksum to update;
+   * @param method zip compression method;
+   * @return size of source file;
+   * @throws IOException if file can't be read or blob can't be written;
+   */
+  private static long write(Path file, Path blob, CRC32 crc, int method) throws IOException {
+    Deflater deflater = method == PackageEntry.DEFLATED
+        ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+    long size = 0;
+    try (InputStream input = Files.newInputStream(file);
+        OutputStream blobOutput = new BufferedOutputStream(Files.newOutputStream(blob),
+            BUFFER_SIZE);
+        OutputStream output = deflater == null ? blobOutput
+            : new DeflaterOutputStream(blobOutput, deflater, BUFFER_SIZE)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) >= 0) {
+        crc.update(buffer, 0, read);
+        output.write(buffer, 0, read);
+        size += read;
+      }
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @param file source file;
+   * @return SHA-256 hash of file as hex string;
+   * @throws IOException if file can't be read;
+   */
+  private static String hash(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) >= 0) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    StringBuilder hash = new StringBuilder();
+    for (byte value : digest.digest()) {
+      hash.append(Character.forDigit((value >> 4) & 0xF, 16))
+          .append(Character.forDigit(value & 0xF, 16));
+    }
+    return hash.toString();
+  }
+
+  /**
+   * Already compressed formats are stored, to save time on compression;
+   * @param name name of entry;
+   * @return zip compression method for entry;
+   */
+  private static int getMethod(String name) {
+    String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    return COMPRESSED_EXTENSIONS.contains(extension) ? PackageEntry.STORED
+        : PackageEntry.DEFLATED;
+  }
+
+  /**
+   * @param indexFile index of previous build;
+   * @return entries of previous build by their names, or empty map if index can't be read;
+   */
+  private static Map<String, PackageEntry> readIndex(Path indexFile) {
+    Map<String, PackageEntry> entries = new ConcurrentHashMap<>();
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (input.readInt() != INDEX_VERSION) {
+        return entries;
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        PackageEntry entry = new PackageEntry(input.readUTF(), input.readLong(),
+            input.readLong(), input.readUTF(), input.readInt(), input.readLong(),
+            input.readLong());
+        entries.put(entry.getName(), entry);
+      }
+      return entries;
+    } catch (NoSuchFileException e) {
+      return entries;
+    } catch (IOException e) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * @param entries resolved entries;
+   * @throws IOException if index can't be written;
+   */
+  private void writeIndex(Collection<PackageEntry> entries) throws IOException {
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+      output.writeInt(INDEX_VERSION);
+      output.writeInt(entries.size());
+      for (PackageEntry entry : entries) {
+        output.writeUTF(entry.getName());
+        output.writeLong(entry.getLastModified());
+        output.writeLong(entry.getSize());
+        output.writeUTF(entry.getHash());
+        output.writeInt(entry.getMethod());
+        output.writeLong(entry.getCrc());
+        output.writeLong(entry.getCompressedSize());
+      }
+    }
+  }
+}
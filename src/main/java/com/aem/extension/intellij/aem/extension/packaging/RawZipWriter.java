@@ -0,0 +1,166 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Zip writer of already compressed entries.
+ * <p>
+ * {@link java.util.zip.ZipOutputStream} always compresses data itself, so cached blobs are written
+ * by this writer as they are: local header, raw blob copied by file channel transfer, and central
+ * directory at the end. Only central directory records are kept in memory. Archives, which need
+ * ZIP64 extensions, aren't supported.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class RawZipWriter implements AutoCloseable {
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_SIGNATURE = 0x06054b50;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int CENTRAL_HEADER_SIZE = 46;
+  private static final int END_SIZE = 22;
+  private static final short VERSION = 20;
+  private static final short UTF8_FLAG = 0x0800;
+  private static final long MAX_SIZE = 0xFFFFFFFFL;
+  private static final int MAX_ENTRIES = 0xFFFF;
+  private static final int DOS_MIN_YEAR = 1980;
+  private static final String TOO_LARGE_MESSAGE = "Package [%s] is too large for zip without ZIP64";
+
+  private final Path target;
+  private final FileChannel channel;
+  private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+
+  private int entryCount;
+
+  /**
+   * @param target archive to write, replaced if exists;
+   * @throws IOException if archive can't be created;
+   */
+  public RawZipWriter(Path target) throws IOException {
+    this.target = target;
+    this.channel = FileChannel.open(target, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+  }
+
+  /**
+   * @param entry entry of package;
+   * @param blob compressed data of entry;
+   * @throws IOException if entry can't be written;
+   * @throws IllegalArgumentException if archive becomes too large;
+   */
+  public void write(PackageEntry entry, Path blob) throws IOException {
+    long offset = channel.position();
+    if (entryCount == MAX_ENTRIES || offset > MAX_SIZE || entry.getSize() > MAX_SIZE
+        || entry.getCompressedSize() > MAX_SIZE) {
+      throw new IllegalArgumentException(String.format(TOO_LARGE_MESSAGE, target));
+    }
+    byte[] name = entry.getName().getBytes(StandardCharsets.UTF_8);
+    int dosTime = toDosTime(entry.getLastModified());
+    ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + name.length)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(LOCAL_HEADER_SIGNATURE)
+        .putShort(VERSION)
+        .putShort(UTF8_FLAG)
+        .putShort((short) entry.getMethod())
+        .putInt(dosTime)
+        .putInt((int) entry.getCrc())
+        .putInt((int) entry.getCompressedSize())
+        .putInt((int) entry.getSize())
+        .putShort((short) name.length)
+        .putShort((short) 0)
+        .put(name);
+    writeFully(header.flip());
+    try (FileChannel blobChannel = FileChannel.open(blob, StandardOpenOption.READ)) {
+      long position = 0;
+      long size = blobChannel.size();
+      while (position < size) {
+        position += blobChannel.transferTo(position, size - position, channel);
+      }
+    }
+    ByteBuffer record = ByteBuffer.allocate(CENTRAL_HEADER_SIZE + name.length)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(CENTRAL_HEADER_SIGNATURE)
+        .putShort(VERSION)
+        .putShort(VERSION)
+        .putShort(UTF8_FLAG)
+        .putShort((short) entry.getMethod())
+        .putInt(dosTime)
+        .putInt((int) entry.getCrc())
+        .putInt((int) entry.getCompressedSize())
+        .putInt((int) entry.getSize())
+        .putShort((short) name.length)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putInt(0)
+        .putInt((int) offset)
+        .put(name);
+    centralDirectory.write(record.array());
+    entryCount++;
+  }
+
+  /**
+   * Writes central directory and closes archive;
+   * @throws IOException if archive can't be written;
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      long offset = channel.position();
+      if (offset > MAX_SIZE || offset + centralDirectory.size() > MAX_SIZE) {
+        throw new IllegalArgumentException(String.format(TOO_LARGE_MESSAGE, target));
+      }
+      writeFully(ByteBuffer.wrap(centralDirectory.toByteArray()));
+      ByteBuffer end = ByteBuffer.allocate(END_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .putInt(END_SIGNATURE)
+          .putShort((short) 0)
+          .putShort((short) 0)
+          .putShort((short) entryCount)
+          .putShort((short) entryCount)
+          .putInt(centralDirectory.size())
+          .putInt((int) offset)
+          .putShort((short) 0);
+      writeFully(end.flip());
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * @param buffer buffer to write;
+   * @throws IOException if buffer can't be written;
+   */
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * @param millis time in milliseconds;
+   * @return time in MS-DOS format, date in high half and time in low half;
+   */
+  private static int toDosTime(long millis) {
+    LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
+        ZoneId.systemDefault());
+    if (time.getYear() < DOS_MIN_YEAR) {
+      return (1 << 21) | (1 << 16);
+    }
+    return (time.getYear() - DOS_MIN_YEAR) << 25 | time.getMonthValue() << 21
+        | time.getDayOfMonth() << 16 | time.getHour() << 11 | time.getMinute() << 5
+        | time.getSecond() >> 1;
+  }
+}
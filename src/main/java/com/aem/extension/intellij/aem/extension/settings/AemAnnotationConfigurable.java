@@ -0,0 +1,145 @@
+package com.aem.extension.intellij.aem.extension.settings;
+
+import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.LEFT_AND_RIGHT_MARGIN;
+import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.TOP_AND_BOTTOM_MARGIN;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.JBUI.Borders;
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JTextArea;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * AEM Annotation Configurable.
+ * <p>
+ * This class is responsible for rendering the settings page with extra annotations, one qualified
+ * name per line.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemAnnotationConfigurable implements Configurable {
+
+  private static final String DISPLAY_NAME = "AEM Annotations";
+  private static final String CLASS_ANNOTATIONS = "Class annotations, which mark classes as used";
+  private static final String FIELD_ANNOTATIONS = "Field annotations, which mark fields as injected";
+  private static final String METHOD_ANNOTATIONS = "Method annotations, which mark methods as used";
+
+  private static final int TEXT_AREA_ROWS = 5;
+
+  private final Project project;
+
+  private JTextArea classAnnotations;
+  private JTextArea fieldAnnotations;
+  private JTextArea methodAnnotations;
+
+  public AemAnnotationConfigurable(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @return constant display name;
+   */
+  @Override
+  public @Nls(capitalization = Nls.Capitalization.Title) String getDisplayName() {
+    return DISPLAY_NAME;
+  }
+
+  /**
+   * @return Swing panel with text areas;
+   */
+  @Override
+  public @Nullable JComponent createComponent() {
+    JPanel panel = new JPanel(new GridBagLayout());
+    GridBagConstraints constraints = new GridBagConstraints();
+    constraints.insets = JBUI.insets(5, 0);
+    constraints.gridx = 0;
+    constraints.weightx = 1;
+    constraints.fill = GridBagConstraints.HORIZONTAL;
+    constraints.anchor = GridBagConstraints.NORTHWEST;
+
+    classAnnotations = new JTextArea(TEXT_AREA_ROWS, 0);
+    fieldAnnotations = new JTextArea(TEXT_AREA_ROWS, 0);
+    methodAnnotations = new JTextArea(TEXT_AREA_ROWS, 0);
+
+    constraints.gridy = 0;
+    panel.add(createLabel(CLASS_ANNOTATIONS), constraints);
+    constraints.gridy = 1;
+    panel.add(new JBScrollPane(classAnnotations), constraints);
+    constraints.gridy = 2;
+    panel.add(createLabel(FIELD_ANNOTATIONS), constraints);
+    constraints.gridy = 3;
+    panel.add(new JBScrollPane(fieldAnnotations), constraints);
+    constraints.gridy = 4;
+    panel.add(createLabel(METHOD_ANNOTATIONS), constraints);
+    constraints.gridy = 5;
+    constraints.weighty = 1;
+    panel.add(new JBScrollPane(methodAnnotations), constraints);
+
+    reset();
+    return panel;
+  }
+
+  /**
+   * @return true if any text area differs from stored settings;
+   */
+  @Override
+  public boolean isModified() {
+    AemAnnotationSettings.State state = AemAnnotationSettings.getInstance(project).getState();
+    return !state.classAnnotations.equals(toList(classAnnotations))
+        || !state.fieldAnnotations.equals(toList(fieldAnnotations))
+        || !state.methodAnnotations.equals(toList(methodAnnotations));
+  }
+
+  /**
+   * Stores annotations from text areas into settings;
+   */
+  @Override
+  public void apply() {
+    AemAnnotationSettings.getInstance(project).update(toList(classAnnotations),
+        toList(fieldAnnotations), toList(methodAnnotations));
+  }
+
+  /**
+   * Fills text areas from stored settings;
+   */
+  @Override
+  public void reset() {
+    AemAnnotationSettings.State state = AemAnnotationSettings.getInstance(project).getState();
+    classAnnotations.setText(String.join("\n", state.classAnnotations));
+    fieldAnnotations.setText(String.join("\n", state.fieldAnnotations));
+    methodAnnotations.setText(String.join("\n", state.methodAnnotations));
+  }
+
+  /**
+   * @param text on label
+   * @return Swing label component with applied styles;
+   */
+  private JComponent createLabel(String text) {
+    var label = new JBLabel(text);
+    label.setBorder(Borders.empty(TOP_AND_BOTTOM_MARGIN, LEFT_AND_RIGHT_MARGIN));
+    return label;
+  }
+
+  /**
+   * @param textArea text area with one annotation per line;
+   * @return non-blank trimmed lines of text area;
+   */
+  private static @NotNull List<String> toList(JTextArea textArea) {
+    return StringUtil.split(textArea.getText(), "\n").stream()
+        .map(String::trim)
+        .filter(line -> !line.isEmpty())
+        .collect(Collectors.toList());
+  }
+}
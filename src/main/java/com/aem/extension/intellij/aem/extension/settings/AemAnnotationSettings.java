@@ -0,0 +1,134 @@
+package com.aem.extension.intellij.aem.extension.settings;
+
+import com.aem.extension.intellij.aem.extension.usage.AemAnnotationMatcher;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.project.Project;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Annotation Settings.
+ * <p>
+ * Project service, which stores extra class, field and method annotations, that make elements
+ * implicitly used. Annotations are compiled into matchers only when settings change.
+ * </p>
+ * @author Yury Raichonak
+ */
+@State(name = "AemAnnotationSettings", storages = @Storage("aemExtension.xml"))
+public class AemAnnotationSettings implements PersistentStateComponent<AemAnnotationSettings.State> {
+
+  private final Project project;
+
+  private State state = new State();
+  private volatile Matchers matchers = Matchers.EMPTY;
+
+  public AemAnnotationSettings(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of settings;
+   */
+  public static AemAnnotationSettings getInstance(@NotNull Project project) {
+    return project.getService(AemAnnotationSettings.class);
+  }
+
+  /**
+   * @return current state;
+   */
+  @Override
+  public @NotNull State getState() {
+    return state;
+  }
+
+  /**
+   * @param state loaded state;
+   */
+  @Override
+  public void loadState(@NotNull State state) {
+    this.state = state;
+    compile();
+  }
+
+  /**
+   * Replaces annotations, recompiles matchers and restarts highlighting;
+   * @param classAnnotations qualified names of extra class annotations;
+   * @param fieldAnnotations qualified names of extra field annotations;
+   * @param methodAnnotations qualified names of extra method annotations;
+   */
+  public void update(@NotNull List<String> classAnnotations, @NotNull List<String> fieldAnnotations,
+      @NotNull List<String> methodAnnotations) {
+    State newState = new State();
+    newState.classAnnotations = new ArrayList<>(classAnnotations);
+    newState.fieldAnnotations = new ArrayList<>(fieldAnnotations);
+    newState.methodAnnotations = new ArrayList<>(methodAnnotations);
+    state = newState;
+    compile();
+    DaemonCodeAnalyzer.getInstance(project).restart();
+  }
+
+  /**
+   * @return matcher of extra class annotations;
+   */
+  public AemAnnotationMatcher getClassMatcher() {
+    return matchers.classMatcher;
+  }
+
+  /**
+   * @return matcher of extra field annotations;
+   */
+  public AemAnnotationMatcher getFieldMatcher() {
+    return matchers.fieldMatcher;
+  }
+
+  /**
+   * @return matcher of extra method annotations;
+   */
+  public AemAnnotationMatcher getMethodMatcher() {
+    return matchers.methodMatcher;
+  }
+
+  /**
+   * Compiles annotations of current state into matchers;
+   */
+  private void compile() {
+    matchers = new Matchers(new AemAnnotationMatcher(state.classAnnotations),
+        new AemAnnotationMatcher(state.fieldAnnotations),
+        new AemAnnotationMatcher(state.methodAnnotations));
+  }
+
+  /**
+   * Persisted state of settings.
+   */
+  public static class State {
+
+    public List<String> classAnnotations = new ArrayList<>();
+    public List<String> fieldAnnotations = new ArrayList<>();
+    public List<String> methodAnnotations = new ArrayList<>();
+  }
+
+  /**
+   * Compiled matchers, replaced at once on settings change.
+   */
+  private static final class Matchers {
+
+    private static final Matchers EMPTY = new Matchers(AemAnnotationMatcher.EMPTY,
+        AemAnnotationMatcher.EMPTY, AemAnnotationMatcher.EMPTY);
+
+    private final AemAnnotationMatcher classMatcher;
+    private final AemAnnotationMatcher fieldMatcher;
+    private final AemAnnotationMatcher methodMatcher;
+
+    private Matchers(AemAnnotationMatcher classMatcher, AemAnnotationMatcher fieldMatcher,
+        AemAnnotationMatcher methodMatcher) {
+      this.classMatcher = classMatcher;
+      this.fieldMatcher = fieldMatcher;
+      this.methodMatcher = methodMatcher;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.aem.extension.intellij.aem.extension.settings;
+
+import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.LEFT_AND_RIGHT_MARGIN;
+import static com.aem.extension.intellij.aem.extension.component.AemComponentDialogWrapper.TOP_AND_BOTTOM_MARGIN;
+
+import com.aem.extension.intellij.aem.extension.sync.ContentSyncService;
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.options.ConfigurationException;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBPasswordField;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.JBUI.Borders;
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.net.URI;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Content Sync Configurable.
+ * <p>
+ * This class is responsible for rendering the settings page of content sync. Stored password
+ * isn't shown, empty password field keeps it unchanged.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ContentSyncConfigurable implements Configurable {
+
+  private static final String DISPLAY_NAME = "AEM Content Sync";
+  private static final String ENABLED = "Sync changes under 'jcr_root' to local instance";
+  private static final String INSTANCE_URL = "Instance URL";
+  private static final String USER = "User";
+  private static final String PASSWORD = "Password (leave empty to keep stored one)";
+  private static final String QUIET_PERIOD = "Quiet period before upload, ms";
+  private static final String INVALID_URL_MESSAGE = "Instance URL should be an absolute HTTP URL";
+
+  private static final int MIN_QUIET_PERIOD_MS = 50;
+  private static final int MAX_QUIET_PERIOD_MS = 10_000;
+  private static final int QUIET_PERIOD_STEP_MS = 50;
+
+  private final Project project;
+
+  private JBCheckBox enabled;
+  private JBTextField instanceUrl;
+  private JBTextField user;
+  private JBPasswordField password;
+  private JSpinner quietPeriod;
+
+  public ContentSyncConfigurable(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @return constant display name;
+   */
+  @Override
+  public @Nls(capitalization = Nls.Capitalization.Title) String getDisplayName() {
+    return DISPLAY_NAME;
+  }
+
+  /**
+   * @return Swing panel with fields;
+   */
+  @Override
+  public @Nullable JComponent createComponent() {
+    JPanel panel = new JPanel(new GridBagLayout());
+    GridBagConstraints constraints = new GridBagConstraints();
+    constraints.insets = JBUI.insets(5, 0);
+    constraints.gridx = 0;
+    constraints.weightx = 1;
+    constraints.fill = GridBagConstraints.HORIZONTAL;
+    constraints.anchor = GridBagConstraints.NORTHWEST;
+
+    enabled = new JBCheckBox(ENABLED);
+    instanceUrl = new JBTextField();
+    user = new JBTextField();
+    password = new JBPasswordField();
+    quietPeriod = new JSpinner(new SpinnerNumberModel(MIN_QUIET_PERIOD_MS, MIN_QUIET_PERIOD_MS,
+        MAX_QUIET_PERIOD_MS, QUIET_PERIOD_STEP_MS));
+
+    constraints.gridy = 0;
+    panel.add(enabled, constraints);
+    constraints.gridy = 1;
+    panel.add(createLabel(INSTANCE_URL), constraints);
+    constraints.gridy = 2;
+    panel.add(instanceUrl, constraints);
+    constraints.gridy = 3;
+    panel.add(createLabel(USER), constraints);
+    constraints.gridy = 4;
+    panel.add(user, constraints);
+    constraints.gridy = 5;
+    panel.add(createLabel(PASSWORD), constraints);
+    constraints.gridy = 6;
+    panel.add(password, constraints);
+    constraints.gridy = 7;
+    panel.add(createLabel(QUIET_PERIOD), constraints);
+    constraints.gridy = 8;
+    constraints.weighty = 1;
+    panel.add(quietPeriod, constraints);
+
+    reset();
+    return panel;
+  }
+
+  /**
+   * @return true if any field differs from stored settings, or new password is entered;
+   */
+  @Override
+  public boolean isModified() {
+    ContentSyncSettings.State state = ContentSyncSettings.getInstance(project).getState();
+    return state.enabled != enabled.isSelected()
+        || !state.instanceUrl.equals(instanceUrl.getText().trim())
+        || !state.user.equals(user.getText().trim())
+        || state.quietPeriodMs != (Integer) quietPeriod.getValue()
+        || password.getPassword().length > 0;
+  }
+
+  /**
+   * Stores fields into settings and restarts content sync;
+   * @throws ConfigurationException if instance URL isn't valid;
+   */
+  @Override
+  public void apply() throws ConfigurationException {
+    ContentSyncSettings.State state = new ContentSyncSettings.State();
+    state.enabled = enabled.isSelected();
+    state.instanceUrl = instanceUrl.getText().trim();
+    state.user = user.getText().trim();
+    state.quietPeriodMs = (Integer) quietPeriod.getValue();
+    if (!isHttpUrl(state.instanceUrl)) {
+      throw new ConfigurationException(INVALID_URL_MESSAGE);
+    }
+    char[] newPassword = password.getPassword();
+    ContentSyncSettings.getInstance(project)
+        .update(state, newPassword.length == 0 ? null : new String(newPassword));
+    password.setText("");
+    ContentSyncService.getInstance(project).restart();
+  }
+
+  /**
+   * Fills fields from stored settings;
+   */
+  @Override
+  public void reset() {
+    ContentSyncSettings.State state = ContentSyncSettings.getInstance(project).getState();
+    enabled.setSelected(state.enabled);
+    instanceUrl.setText(state.instanceUrl);
+    user.setText(state.user);
+    password.setText("");
+    quietPeriod.setValue(Math.max(MIN_QUIET_PERIOD_MS,
+        Math.min(MAX_QUIET_PERIOD_MS, state.quietPeriodMs)));
+  }
+
+  /**
+   * @param text on label
+   * @return Swing label component with applied styles;
+   */
+  private JComponent createLabel(String text) {
+    var label = new JBLabel(text);
+    label.setBorder(Borders.empty(TOP_AND_BOTTOM_MARGIN, LEFT_AND_RIGHT_MARGIN));
+    return label;
+  }
+
+  /**
+   * @param url URL of instance;
+   * @return true if URL is absolute HTTP or HTTPS URL;
+   */
+  private static boolean isHttpUrl(String url) {
+    try {
+      URI uri = URI.create(url);
+      return uri.getHost() != null
+          && ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.aem.extension.intellij.aem.extension.settings;
+
+import com.intellij.credentialStore.CredentialAttributes;
+import com.intellij.credentialStore.CredentialAttributesKt;
+import com.intellij.credentialStore.Credentials;
+import com.intellij.ide.passwordSafe.PasswordSafe;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Content Sync Settings.
+ * <p>
+ * Project service, which stores local instance for content sync. Password of user is kept in
+ * password safe, not in project files.
+ * </p>
+ * @author Yury Raichonak
+ */
+@State(name = "ContentSyncSettings", storages = @Storage("aemExtension.xml"))
+public class ContentSyncSettings implements PersistentStateComponent<ContentSyncSettings.State> {
+
+  private static final CredentialAttributes CREDENTIAL_ATTRIBUTES = new CredentialAttributes(
+      CredentialAttributesKt.generateServiceName("AEM Extension", "Content Sync"));
+
+  private volatile State state = new State();
+
+  /**
+   * @param project current project;
+   * @return project instance of settings;
+   */
+  public static ContentSyncSettings getInstance(@NotNull Project project) {
+    return project.getService(ContentSyncSettings.class);
+  }
+
+  /**
+   * @return current state;
+   */
+  @Override
+  public @NotNull State getState() {
+    return state;
+  }
+
+  /**
+   * @param state loaded state;
+   */
+  @Override
+  public void loadState(@NotNull State state) {
+    this.state = state;
+  }
+
+  /**
+   * @return true if changed content is synced to instance;
+   */
+  public boolean isEnabled() {
+    return state.enabled;
+  }
+
+  /**
+   * Password safe may block, so it should be called in background;
+   * @return password of user, or empty string if it isn't stored;
+   */
+  public @NotNull String getPassword() {
+    String password = PasswordSafe.getInstance().getPassword(CREDENTIAL_ATTRIBUTES);
+    return password == null ? "" : password;
+  }
+
+  /**
+   * @param state new state;
+   * @param password new password of user, or null to keep stored one;
+   */
+  public void update(@NotNull State state, @Nullable String password) {
+    this.state = state;
+    if (password != null) {
+      PasswordSafe.getInstance().set(CREDENTIAL_ATTRIBUTES,
+          new Credentials(state.user, password));
+    }
+  }
+
+  /**
+   * Persisted state of settings.
+   */
+  public static class State {
+
+    public boolean enabled;
+    public String instanceUrl = "http://localhost:4502";
+    public String user = "admin";
+    public int quietPeriodMs = 300;
+  }
+}
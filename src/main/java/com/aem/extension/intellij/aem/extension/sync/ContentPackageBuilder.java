@@ -0,0 +1,261 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.JCR_ROOT_DIRECTORY_NAME;
+
+import com.aem.extension.intellij.aem.extension.index.DocViewNode;
+import com.aem.extension.intellij.aem.extension.index.DocViewReader;
+import com.aem.extension.intellij.aem.extension.template.XmlEscaper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Content Package Builder.
+ * <p>
+ * Builds minimal FileVault package with changed files of one content root. Each changed path
+ * becomes a filter root, so nodes of deleted files and directories are removed on install, and
+ * other nodes of the repository stay untouched. Changed '.content.xml' file makes filter root of
+ * its directory node in 'update' mode, which never removes nodes, because children of the node are
+ * stored in other files. Deleted '.content.xml' file makes filter root of its whole directory
+ * node, so properties of the node are removed and its children are imported again. Docview files
+ * of full coverage nodes, like '_cq_editConfig.xml', make filter roots of their nodes, e.g.
+ * 'cq:editConfig', as FileVault serializes them. Files are streamed into package from disk.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ContentPackageBuilder {
+
+  public static final String PACKAGE_GROUP = "aem-extension";
+  public static final String PACKAGE_NAME = "aem-extension-sync";
+
+  public static final String PROPERTIES_ENTRY = "META-INF/vault/properties.xml";
+  public static final String FILTER_ENTRY = "META-INF/vault/filter.xml";
+  public static final String NAME_PROPERTY = "name";
+  public static final String VERSION_PROPERTY = "version";
+
+  private static final String GROUP_PROPERTY = "group";
+  private static final String PACKAGE_VERSION = "1.0.0";
+  private static final String FILTER_START =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<workspaceFilter version=\"1.0\">\n";
+  private static final String FILTER_END = "</workspaceFilter>\n";
+  private static final String FILTER_ROOT_START = "    <filter root=\"";
+  private static final String FILTER_MODE = "\" mode=\"";
+  private static final String FILTER_ROOT_END = "\"/>\n";
+  private static final String REPLACE_MODE = "replace";
+  private static final String UPDATE_MODE = "update";
+  private static final String NAMESPACE_PREFIX = "_";
+  private static final String XML_EXTENSION = ".xml";
+  private static final String DOCVIEW_ROOT_NAME = "jcr:root";
+  private static final char NAMESPACE_SEPARATOR = ':';
+  private static final char SEPARATOR = '/';
+
+  private ContentPackageBuilder() {
+  }
+
+  /**
+   * @param contentRoot 'jcr_root' directory;
+   * @param changedPaths changed, created and deleted paths relative to content root;
+   * @param target package file to write;
+   * @return number of filter roots in package, 0 if there is nothing to sync and package isn't
+   * written;
+   * @throws UncheckedIOException if package can't be written;
+   */
+  public static int build(Path contentRoot, Collection<String> changedPaths, Path target) {
+    TreeMap<String, String> modesByFilterRoot = new TreeMap<>();
+    Set<String> files = new HashSet<>();
+    List<String> entries = new ArrayList<>();
+    for (String changedPath : changedPaths) {
+      addChange(contentRoot, changedPath, modesByFilterRoot, files, entries);
+    }
+    if (modesByFilterRoot.isEmpty()) {
+      return 0;
+    }
+    try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(target))) {
+      output.putNextEntry(new ZipEntry(PROPERTIES_ENTRY));
+      writeProperties(output, PACKAGE_GROUP, PACKAGE_NAME, PACKAGE_VERSION);
+      output.closeEntry();
+      output.putNextEntry(new ZipEntry(FILTER_ENTRY));
+      output.write(createFilter(modesByFilterRoot).getBytes(StandardCharsets.UTF_8));
+      output.closeEntry();
+      for (String entry : entries) {
+        output.putNextEntry(new ZipEntry(JCR_ROOT_DIRECTORY_NAME + SEPARATOR + entry));
+        Files.copy(contentRoot.resolve(entry), output);
+        output.closeEntry();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when writing content package [%s]", target), e);
+    }
+    return modesByFilterRoot.size();
+  }
+
+  /**
+   * @param name name of file or directory in content root;
+   * @return name of repository node, e.g. 'cq:dialog' for '_cq_dialog';
+   */
+  public static String getNodeName(String name) {
+    String nodeName = name.indexOf('%') >= 0
+        ? URLDecoder.decode(name.replace("+", "%2B"), StandardCharsets.UTF_8) : name;
+    if (nodeName.startsWith(NAMESPACE_PREFIX + NAMESPACE_PREFIX)) {
+      return nodeName.substring(NAMESPACE_PREFIX.length());
+    }
+    int separatorIndex = nodeName.indexOf(NAMESPACE_PREFIX, NAMESPACE_PREFIX.length());
+    if (nodeName.startsWith(NAMESPACE_PREFIX) && separatorIndex > NAMESPACE_PREFIX.length()) {
+      return nodeName.substring(NAMESPACE_PREFIX.length(), separatorIndex) + NAMESPACE_SEPARATOR
+          + nodeName.substring(separatorIndex + NAMESPACE_PREFIX.length());
+    }
+    return nodeName;
+  }
+
+  /**
+   * @param relativePath path relative to content root;
+   * @return repository path of node;
+   */
+  public static String getRepositoryPath(String relativePath) {
+    StringBuilder repositoryPath = new StringBuilder();
+    for (String name : relativePath.split(String.valueOf(SEPARATOR))) {
+      if (!name.isEmpty()) {
+        repositoryPath.append(SEPARATOR).append(getNodeName(name));
+      }
+    }
+    return repositoryPath.length() == 0 ? String.valueOf(SEPARATOR) : repositoryPath.toString();
+  }
+
+  /**
+   * @param contentRoot 'jcr_root' directory;
+   * @param changedPath changed path relative to content root;
+   * @param modesByFilterRoot import modes by filter roots to fill;
+   * @param files relative paths of packaged files;
+   * @param entries relative paths of packaged files in order of adding;
+   */
+  private static void addChange(Path contentRoot, String changedPath,
+      TreeMap<String, String> modesByFilterRoot, Set<String> files, List<String> entries) {
+    Path file = contentRoot.resolve(changedPath);
+    int nameIndex = changedPath.lastIndexOf(SEPARATOR) + 1;
+    String name = changedPath.substring(nameIndex);
+    if (CONTENT_XML_FILE_NAME.equals(name)) {
+      if (nameIndex == 0) {
+        return;
+      }
+      if (Files.isRegularFile(file)) {
+        modesByFilterRoot.putIfAbsent(getRepositoryPath(changedPath.substring(0, nameIndex)),
+            UPDATE_MODE);
+        addFile(changedPath, files, entries);
+      } else {
+        addChange(contentRoot, changedPath.substring(0, nameIndex - 1), modesByFilterRoot, files,
+            entries);
+      }
+      return;
+    }
+    if (changedPath.isEmpty()) {
+      return;
+    }
+    String repositoryPath = getRepositoryPath(changedPath);
+    if (isDocViewFile(file, name)) {
+      repositoryPath =
+          repositoryPath.substring(0, repositoryPath.length() - XML_EXTENSION.length());
+    }
+    modesByFilterRoot.put(repositoryPath, REPLACE_MODE);
+    if (Files.isRegularFile(file)) {
+      addFile(changedPath, files, entries);
+    } else if (Files.isDirectory(file)) {
+      try (Stream<Path> tree = Files.walk(file)) {
+        for (Path child : tree.filter(Files::isRegularFile).collect(Collectors.toList())) {
+          addFile(contentRoot.relativize(child).toString().replace('\\', SEPARATOR), files,
+              entries);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(
+            String.format("IOException when listing directory [%s]", file), e);
+      }
+    }
+  }
+
+  /**
+   * Existing '.xml' file is docview file if its root element is 'jcr:root'. Content of deleted
+   * file is unknown, so deleted '.xml' file is treated as docview file if its node name has
+   * namespace, like '_cq_template.xml';
+   * @param file changed file;
+   * @param name name of file;
+   * @return true if file is docview file of full coverage node;
+   */
+  private static boolean isDocViewFile(Path file, String name) {
+    if (!name.endsWith(XML_EXTENSION) || name.length() == XML_EXTENSION.length()) {
+      return false;
+    }
+    if (!Files.isRegularFile(file)) {
+      return !Files.exists(file) && getNodeName(name).indexOf(NAMESPACE_SEPARATOR) > 0;
+    }
+    try (InputStream input = Files.newInputStream(file)) {
+      DocViewNode root = DocViewReader.readRoot(input, Set.of());
+      return root != null && DOCVIEW_ROOT_NAME.equals(root.getName());
+    } catch (IllegalArgumentException e) {
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException(String.format("IOException when reading file [%s]", file),
+          e);
+    }
+  }
+
+  /**
+   * @param relativePath path of file relative to content root;
+   * @param files relative paths of packaged files;
+   * @param entries relative paths of packaged files in order of adding;
+   */
+  private static void addFile(String relativePath, Set<String> files, List<String> entries) {
+    if (files.add(relativePath)) {
+      entries.add(relativePath);
+    }
+  }
+
+  /**
+   * Writes 'META-INF/vault/properties.xml' of package;
+   * @param output stream of package entry;
+   * @param group group of package;
+   * @param name name of package;
+   * @param version version of package;
+   * @throws IOException if properties can't be written;
+   */
+  public static void writeProperties(OutputStream output, String group, String name,
+      String version) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(GROUP_PROPERTY, group);
+    properties.setProperty(NAME_PROPERTY, name);
+    properties.setProperty(VERSION_PROPERTY, version);
+    properties.storeToXML(output, null, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param modesByFilterRoot import modes by filter roots;
+   * @return content of 'filter.xml';
+   */
+  private static String createFilter(TreeMap<String, String> modesByFilterRoot) {
+    StringBuilder filter = new StringBuilder(FILTER_START);
+    modesByFilterRoot.forEach((filterRoot, mode) -> {
+      filter.append(FILTER_ROOT_START);
+      XmlEscaper.escapeAttribute(filterRoot, filter);
+      if (!REPLACE_MODE.equals(mode)) {
+        filter.append(FILTER_MODE).append(mode);
+      }
+      filter.append(FILTER_ROOT_END);
+    });
+    return filter.append(FILTER_END).toString();
+  }
+}
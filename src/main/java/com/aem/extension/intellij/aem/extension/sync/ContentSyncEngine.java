@@ -0,0 +1,162 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content Sync Engine.
+ * <p>
+ * Collects changed paths of content roots and syncs them to local instance in batches: bursts of
+ * changes are coalesced until no change comes for quiet period, then each content root is sent as
+ * one package, built by {@link ContentPackageBuilder} and uploaded by {@link PackageUploader}.
+ * Batches are built and uploaded one by one on a single daemon thread, so changes reach instance
+ * in order. Engine depends on JDK only, so it can be driven by a stub HTTP server.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class ContentSyncEngine implements AutoCloseable {
+
+  private static final String PACKAGE_PREFIX = ContentPackageBuilder.PACKAGE_NAME + "-";
+  private static final String PACKAGE_SUFFIX = ".zip";
+  private static final String THREAD_NAME = "AEM content sync";
+
+  private final PackageUploader uploader;
+  private final Path workDirectory;
+  private final long quietPeriodMs;
+  private final Listener listener;
+  private final ScheduledExecutorService executor;
+  private final Object lock = new Object();
+
+  private Map<Path, Set<String>> pendingPaths = new LinkedHashMap<>();
+  private ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * @param uploader uploader of packages;
+   * @param workDirectory directory for temporary packages;
+   * @param quietPeriodMs time without changes, after which batch is sent;
+   * @param listener listener of sent batches;
+   */
+  public ContentSyncEngine(PackageUploader uploader, Path workDirectory, long quietPeriodMs,
+      Listener listener) {
+    this.uploader = uploader;
+    this.workDirectory = workDirectory;
+    this.quietPeriodMs = quietPeriodMs;
+    this.listener = listener;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Adds changed path to pending batch and restarts quiet period;
+   * @param contentRoot 'jcr_root' directory;
+   * @param relativePath changed, created or deleted path relative to content root;
+   */
+  public void submit(Path contentRoot, String relativePath) {
+    synchronized (lock) {
+      pendingPaths.computeIfAbsent(contentRoot, key -> new LinkedHashSet<>()).add(relativePath);
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel(false);
+      }
+      scheduledFlush = executor.schedule(this::flush, quietPeriodMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Drops pending changes and stops engine;
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Sends pending changes of each content root as one package;
+   */
+  private void flush() {
+    Map<Path, Set<String>> batch;
+    synchronized (lock) {
+      batch = pendingPaths;
+      pendingPaths = new LinkedHashMap<>();
+      scheduledFlush = null;
+    }
+    batch.forEach(this::sync);
+  }
+
+  /**
+   * @param contentRoot 'jcr_root' directory;
+   * @param relativePaths changed paths relative to content root;
+   */
+  private void sync(Path contentRoot, Set<String> relativePaths) {
+    long startNanos = System.nanoTime();
+    Path packageFile = null;
+    try {
+      Files.createDirectories(workDirectory);
+      packageFile = Files.createTempFile(workDirectory, PACKAGE_PREFIX, PACKAGE_SUFFIX);
+      long start = AemMetrics.SYNC_PACKAGE.start();
+      int filterRootCount = ContentPackageBuilder.build(contentRoot, relativePaths, packageFile);
+      AemMetrics.SYNC_PACKAGE.stop(start);
+      if (filterRootCount == 0) {
+        return;
+      }
+      start = AemMetrics.SYNC_UPLOAD.start();
+      uploader.upload(packageFile);
+      AemMetrics.SYNC_UPLOAD.stop(start);
+      listener.onSynced(contentRoot, filterRootCount,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    } catch (IOException e) {
+      listener.onFailed(contentRoot, new UncheckedIOException(
+          String.format("IOException when creating package in [%s]", workDirectory), e));
+    } catch (RuntimeException e) {
+      listener.onFailed(contentRoot, e);
+    } finally {
+      deleteQuietly(packageFile);
+    }
+  }
+
+  /**
+   * @param packageFile temporary package, or null if it wasn't created;
+   */
+  private void deleteQuietly(Path packageFile) {
+    if (packageFile == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(packageFile);
+    } catch (IOException e) {
+      listener.onFailed(packageFile, new UncheckedIOException(e));
+    }
+  }
+
+  /**
+   * Listener of sent batches, called on thread of engine.
+   */
+  public interface Listener {
+
+    /**
+     * @param contentRoot 'jcr_root' directory;
+     * @param filterRootCount number of synced filter roots;
+     * @param durationMs time from start of packaging until installation;
+     */
+    void onSynced(Path contentRoot, int filterRootCount, long durationMs);
+
+    /**
+     * @param path 'jcr_root' directory or temporary package;
+     * @param error cause of failure;
+     */
+    void onFailed(Path path, RuntimeException error);
+  }
+}
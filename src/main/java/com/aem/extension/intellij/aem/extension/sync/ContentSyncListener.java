@@ -0,0 +1,64 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import com.aem.extension.intellij.aem.extension.settings.ContentSyncSettings;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Content Sync Listener.
+ * <p>
+ * Reports paths of changed, created, deleted, moved and renamed files to
+ * {@link ContentSyncService}, while content sync is enabled. Moves and renames are reported by
+ * both paths, so old nodes are removed from instance.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ContentSyncListener implements BulkFileListener {
+
+  private final Project project;
+
+  public ContentSyncListener(Project project) {
+    this.project = project;
+  }
+
+  /**
+   * @param events applied file events;
+   */
+  @Override
+  public void after(@NotNull List<? extends VFileEvent> events) {
+    if (project.isDisposed() || !ContentSyncSettings.getInstance(project).isEnabled()) {
+      return;
+    }
+    Set<String> changedPaths = new LinkedHashSet<>();
+    for (VFileEvent event : events) {
+      if (event instanceof VFileContentChangeEvent || event instanceof VFileCreateEvent
+          || event instanceof VFileDeleteEvent) {
+        changedPaths.add(event.getPath());
+      } else if (event instanceof VFileCopyEvent) {
+        VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+        changedPaths.add(copyEvent.getNewParent().getPath() + '/' + copyEvent.getNewChildName());
+      } else if (event instanceof VFileMoveEvent) {
+        changedPaths.add(((VFileMoveEvent) event).getOldPath());
+        changedPaths.add(((VFileMoveEvent) event).getNewPath());
+      } else if (event instanceof VFilePropertyChangeEvent
+          && ((VFilePropertyChangeEvent) event).isRename()) {
+        changedPaths.add(((VFilePropertyChangeEvent) event).getOldPath());
+        changedPaths.add(((VFilePropertyChangeEvent) event).getNewPath());
+      }
+    }
+    if (!changedPaths.isEmpty()) {
+      ContentSyncService.getInstance(project).onFilesChanged(changedPaths);
+    }
+  }
+}
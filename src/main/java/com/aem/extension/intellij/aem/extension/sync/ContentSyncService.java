@@ -0,0 +1,173 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import static com.aem.extension.intellij.aem.extension.clientlib.ClientLibBundleAction.NOTIFICATION_GROUP_ID;
+import static com.aem.extension.intellij.aem.extension.index.JcrNames.CONTENT_XML_FILE_NAME;
+
+import com.aem.extension.intellij.aem.extension.content.ContentRootService;
+import com.aem.extension.intellij.aem.extension.settings.ContentSyncSettings;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.StatusBar;
+import java.nio.file.Path;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Content Sync Service.
+ * <p>
+ * Project service, which keeps {@link ContentSyncEngine} for instance from
+ * {@link ContentSyncSettings} and submits changed files under content roots to it. Content roots
+ * are resolved by {@link ContentRootService}, so changes outside filter roots of a package are
+ * never synced. Engine is recreated in background, because password safe may block.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class ContentSyncService implements Disposable {
+
+  private static final Logger LOGGER = Logger.getInstance(ContentSyncService.class);
+
+  private static final String PACKAGES_DIRECTORY_NAME = "aem-extension-sync";
+  private static final String SYNCED_MESSAGE = "AEM content synced: %d paths in %d ms";
+  private static final String ERROR_TITLE = "Cannot sync AEM content";
+  private static final char SEPARATOR = '/';
+  private static final char HIDDEN_FILE_PREFIX = '.';
+
+  private final Project project;
+  private final Object lock = new Object();
+
+  private volatile ContentSyncEngine engine;
+
+  public ContentSyncService(Project project) {
+    this.project = project;
+    restart();
+  }
+
+  /**
+   * @param project current project;
+   * @return project instance of service;
+   */
+  public static ContentSyncService getInstance(@NotNull Project project) {
+    return project.getService(ContentSyncService.class);
+  }
+
+  /**
+   * Recreates engine from current settings in background, pending changes are dropped;
+   */
+  public void restart() {
+    ApplicationManager.getApplication().executeOnPooledThread(() -> {
+      ContentSyncSettings settings = ContentSyncSettings.getInstance(project);
+      ContentSyncEngine newEngine = null;
+      if (settings.isEnabled()) {
+        ContentSyncSettings.State state = settings.getState();
+        try {
+          PackageUploader uploader =
+              new PackageUploader(state.instanceUrl, state.user, settings.getPassword());
+          newEngine = new ContentSyncEngine(uploader, Path.of(PathManager.getSystemPath(),
+              PACKAGES_DIRECTORY_NAME, project.getLocationHash()), state.quietPeriodMs,
+              new EngineListener());
+        } catch (IllegalArgumentException e) {
+          notifyError(e);
+        }
+      }
+      replaceEngine(newEngine);
+    });
+  }
+
+  /**
+   * Should be called after file system changes, takes O(depth) time per path;
+   * @param paths paths of changed, created and deleted files and directories;
+   */
+  public void onFilesChanged(@NotNull Collection<String> paths) {
+    ContentSyncEngine currentEngine = engine;
+    if (currentEngine == null) {
+      return;
+    }
+    LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+    ContentRootService contentRootService = ContentRootService.getInstance(project);
+    for (String path : paths) {
+      int nameIndex = path.lastIndexOf(SEPARATOR) + 1;
+      if (nameIndex == 0 || isHidden(path.substring(nameIndex))) {
+        continue;
+      }
+      VirtualFile directory = fileSystem.findFileByPath(path.substring(0, nameIndex - 1));
+      VirtualFile contentRoot =
+          directory == null ? null : contentRootService.getContentRoot(directory);
+      if (contentRoot != null && path.length() > contentRoot.getPath().length()) {
+        currentEngine.submit(contentRoot.toNioPath(),
+            path.substring(contentRoot.getPath().length() + 1));
+      }
+    }
+  }
+
+  /**
+   * Stops engine;
+   */
+  @Override
+  public void dispose() {
+    replaceEngine(null);
+  }
+
+  /**
+   * @param newEngine new engine, or null if sync is disabled;
+   */
+  private void replaceEngine(ContentSyncEngine newEngine) {
+    ContentSyncEngine oldEngine;
+    boolean accepted;
+    synchronized (lock) {
+      oldEngine = engine;
+      accepted = !project.isDisposed();
+      engine = accepted ? newEngine : null;
+    }
+    if (oldEngine != null) {
+      oldEngine.close();
+    }
+    if (newEngine != null && !accepted) {
+      newEngine.close();
+    }
+  }
+
+  /**
+   * @param name name of file or directory;
+   * @return true if file is hidden, e.g. '.vlt' or '.DS_Store', but not '.content.xml';
+   */
+  private static boolean isHidden(String name) {
+    return name.charAt(0) == HIDDEN_FILE_PREFIX && !CONTENT_XML_FILE_NAME.equals(name);
+  }
+
+  /**
+   * @param error cause of failure;
+   */
+  private void notifyError(RuntimeException error) {
+    LOGGER.warn(error);
+    NotificationGroupManager.getInstance().getNotificationGroup(NOTIFICATION_GROUP_ID)
+        .createNotification(ERROR_TITLE, String.valueOf(error.getMessage()),
+            NotificationType.ERROR)
+        .notify(project);
+  }
+
+  /**
+   * Reports results of engine in status bar and notifications.
+   */
+  private final class EngineListener implements ContentSyncEngine.Listener {
+
+    @Override
+    public void onSynced(Path contentRoot, int filterRootCount, long durationMs) {
+      String message = String.format(SYNCED_MESSAGE, filterRootCount, durationMs);
+      LOGGER.info(message);
+      ApplicationManager.getApplication().invokeLater(
+          () -> StatusBar.Info.set(message, project), project.getDisposed());
+    }
+
+    @Override
+    public void onFailed(Path path, RuntimeException error) {
+      notifyError(error);
+    }
+  }
+}
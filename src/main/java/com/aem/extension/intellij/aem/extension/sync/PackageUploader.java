@@ -0,0 +1,117 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Package Uploader.
+ * <p>
+ * Uploads content packages to package manager of local Sling or AEM instance and installs them in
+ * one multipart request. Package file is streamed from disk, nothing but multipart boundaries is
+ * kept in memory. One HTTP client with kept-alive connections is shared by all uploads.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class PackageUploader {
+
+  private static final String SERVICE_PATH = "/crx/packmgr/service.jsp";
+  private static final String SUCCESS_STATUS = "code=\"200\"";
+  private static final String CRLF = "\r\n";
+  private static final String BOUNDARY_PREFIX = "--";
+  private static final String FIELD_FORMAT =
+      "--%s\r\nContent-Disposition: form-data; name=\"%s\"\r\n\r\n%s\r\n";
+  private static final String FILE_FORMAT = "--%s\r\nContent-Disposition: form-data; "
+      + "name=\"file\"; filename=\"%s\"\r\nContent-Type: application/zip\r\n\r\n";
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+  private static final int HTTP_OK = 200;
+
+  private final URI serviceUri;
+  private final String authorization;
+  private final HttpClient client;
+
+  /**
+   * @param instanceUrl URL of instance, e.g. 'http://localhost:4502';
+   * @param user name of user;
+   * @param password password of user;
+   * @throws IllegalArgumentException if URL isn't valid;
+   */
+  public PackageUploader(String instanceUrl, String user, String password) {
+    String url = instanceUrl.trim();
+    this.serviceUri = URI.create((url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+        + SERVICE_PATH);
+    this.authorization = "Basic " + Base64.getEncoder()
+        .encodeToString((user + ':' + password).getBytes(StandardCharsets.UTF_8));
+    this.client = HttpClient.newBuilder()
+        .connectTimeout(CONNECT_TIMEOUT)
+        .build();
+  }
+
+  /**
+   * Uploads package, replacing package with the same name, and installs it;
+   * @param packageFile package file;
+   * @throws UncheckedIOException if package can't be uploaded or isn't installed;
+   */
+  public void upload(Path packageFile) {
+    String boundary = UUID.randomUUID().toString();
+    String fileName = packageFile.getFileName().toString();
+    byte[] head = (String.format(FIELD_FORMAT, boundary, "force", "true")
+        + String.format(FIELD_FORMAT, boundary, "install", "true")
+        + String.format(FILE_FORMAT, boundary, fileName)).getBytes(StandardCharsets.UTF_8);
+    byte[] tail = (CRLF + BOUNDARY_PREFIX + boundary + BOUNDARY_PREFIX + CRLF)
+        .getBytes(StandardCharsets.UTF_8);
+    HttpRequest request = HttpRequest.newBuilder(serviceUri)
+        .timeout(REQUEST_TIMEOUT)
+        .header("Authorization", authorization)
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> openBody(head, packageFile, tail)))
+        .build();
+    HttpResponse<String> response;
+    try {
+      response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when uploading package to [%s]", serviceUri), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(String.format("Upload to [%s] interrupted", serviceUri),
+          new IOException(e));
+    }
+    if (response.statusCode() != HTTP_OK || !response.body().contains(SUCCESS_STATUS)) {
+      throw new UncheckedIOException(new IOException(String.format(
+          "Package isn't installed by [%s], status [%d]", serviceUri, response.statusCode())));
+    }
+  }
+
+  /**
+   * @param head multipart fields and header of file part;
+   * @param packageFile package file;
+   * @param tail closing boundary;
+   * @return stream of request body;
+   */
+  private static InputStream openBody(byte[] head, Path packageFile, byte[] tail) {
+    try {
+      List<InputStream> parts = List.of(new ByteArrayInputStream(head),
+          Files.newInputStream(packageFile), new ByteArrayInputStream(tail));
+      return new SequenceInputStream(Collections.enumeration(parts));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when reading package [%s]", packageFile), e);
+    }
+  }
+}
@@ -0,0 +1,299 @@
+package com.aem.extension.intellij.aem.extension.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Template.
+ * <p>
+ * Template text, compiled once into literal, placeholder and section nodes. Supported tags:
+ * <ul>
+ *   <li>{@code {{name}}} - value, escaped as docview value and XML attribute;</li>
+ *   <li>{@code {{*name}}} - list of values, escaped as items of docview multi-value and XML
+ *   attribute and joined by commas, e.g. inside {@code categories="[{{*categories}}]"};</li>
+ *   <li>{@code {{&name}}} - value, rendered as is;</li>
+ *   <li>{@code {{#name}}...{{/name}}} - section, rendered if flag is true;</li>
+ *   <li>{@code {{^name}}...{{/name}}} - section, rendered if flag is false.</li>
+ * </ul>
+ * Section tags, which are alone on their line, are removed together with the line. Rendering
+ * appends directly into a builder, which is presized to the exact output length.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class Template {
+
+  private static final String OPEN_TAG = "{{";
+  private static final String CLOSE_TAG = "}}";
+  private static final char RAW_VALUE = '&';
+  private static final char MULTI_VALUE = '*';
+  private static final char MULTI_VALUE_SEPARATOR = ',';
+  private static final char SECTION = '#';
+  private static final char INVERTED_SECTION = '^';
+  private static final char SECTION_END = '/';
+
+  private final List<Node> nodes;
+
+  private Template(List<Node> nodes) {
+    this.nodes = nodes;
+  }
+
+  /**
+   * @param text template text;
+   * @return compiled template;
+   * @throws IllegalArgumentException if template is malformed;
+   */
+  public static Template compile(String text) {
+    Deque<SectionNode> sections = new ArrayDeque<>();
+    List<Node> rootNodes = new ArrayList<>();
+    List<Node> currentNodes = rootNodes;
+    int position = 0;
+    while (position < text.length()) {
+      int tagStart = text.indexOf(OPEN_TAG, position);
+      if (tagStart < 0) {
+        currentNodes.add(new LiteralNode(text.substring(position)));
+        break;
+      }
+      int tagEnd = text.indexOf(CLOSE_TAG, tagStart + OPEN_TAG.length());
+      if (tagEnd < 0) {
+        throw new IllegalArgumentException(
+            String.format("Unclosed template tag at position %d.", tagStart));
+      }
+      String tag = text.substring(tagStart + OPEN_TAG.length(), tagEnd).trim();
+      if (tag.isEmpty()) {
+        throw new IllegalArgumentException(
+            String.format("Empty template tag at position %d.", tagStart));
+      }
+      char type = tag.charAt(0);
+      String name = tag.substring(1).trim();
+      int literalEnd = tagStart;
+      int nextPosition = tagEnd + CLOSE_TAG.length();
+      boolean sectionTag = type == SECTION || type == INVERTED_SECTION || type == SECTION_END;
+      if (sectionTag) {
+        int lineStart = text.lastIndexOf('\n', tagStart - 1) + 1;
+        int lineEnd = text.indexOf('\n', nextPosition);
+        lineEnd = lineEnd < 0 ? text.length() : lineEnd;
+        if (isBlank(text, lineStart, tagStart) && isBlank(text, nextPosition, lineEnd)) {
+          literalEnd = Math.max(lineStart, position);
+          nextPosition = Math.min(lineEnd + 1, text.length());
+        }
+      }
+      if (literalEnd > position) {
+        currentNodes.add(new LiteralNode(text.substring(position, literalEnd)));
+      }
+      if (type == SECTION || type == INVERTED_SECTION) {
+        SectionNode section = new SectionNode(name, type == INVERTED_SECTION);
+        currentNodes.add(section);
+        sections.push(section);
+        currentNodes = section.children;
+      } else if (type == SECTION_END) {
+        if (sections.isEmpty() || !sections.peek().name.equals(name)) {
+          throw new IllegalArgumentException(
+              String.format("Unexpected end of section [%s] at position %d.", name, tagStart));
+        }
+        sections.pop();
+        currentNodes = sections.isEmpty() ? rootNodes : sections.peek().children;
+      } else if (type == RAW_VALUE) {
+        currentNodes.add(new ValueNode(name, false));
+      } else if (type == MULTI_VALUE) {
+        currentNodes.add(new MultiValueNode(name));
+      } else {
+        currentNodes.add(new ValueNode(tag, true));
+      }
+      position = nextPosition;
+    }
+    if (!sections.isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format("Section [%s] isn't closed.", sections.peek().name));
+    }
+    return new Template(rootNodes);
+  }
+
+  /**
+   * @param context values and flags of placeholders;
+   * @return rendered template;
+   * @throws IllegalArgumentException if placeholder has no value or flag in context;
+   */
+  public String render(TemplateContext context) {
+    int length = 0;
+    for (Node node : nodes) {
+      length += node.length(context);
+    }
+    StringBuilder builder = new StringBuilder(length);
+    renderTo(context, builder);
+    return builder.toString();
+  }
+
+  /**
+   * @param context values and flags of placeholders;
+   * @param builder builder to append rendered template to;
+   * @throws IllegalArgumentException if placeholder has no value or flag in context;
+   */
+  public void renderTo(TemplateContext context, StringBuilder builder) {
+    for (Node node : nodes) {
+      node.render(context, builder);
+    }
+  }
+
+  /**
+   * @param text template text;
+   * @param start start index, inclusive;
+   * @param end end index, exclusive;
+   * @return true if text between indexes contains whitespaces only;
+   */
+  private static boolean isBlank(String text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compiled part of template.
+   */
+  private interface Node {
+
+    /**
+     * @param context values and flags of placeholders;
+     * @return length of rendered node;
+     */
+    int length(TemplateContext context);
+
+    /**
+     * @param context values and flags of placeholders;
+     * @param builder builder to append rendered node to;
+     */
+    void render(TemplateContext context, StringBuilder builder);
+  }
+
+  /**
+   * Literal text.
+   */
+  private static final class LiteralNode implements Node {
+
+    private final String text;
+
+    private LiteralNode(String text) {
+      this.text = text;
+    }
+
+    @Override
+    public int length(TemplateContext context) {
+      return text.length();
+    }
+
+    @Override
+    public void render(TemplateContext context, StringBuilder builder) {
+      builder.append(text);
+    }
+  }
+
+  /**
+   * Value placeholder.
+   */
+  private static final class ValueNode implements Node {
+
+    private final String name;
+    private final boolean escaped;
+
+    private ValueNode(String name, boolean escaped) {
+      this.name = name;
+      this.escaped = escaped;
+    }
+
+    @Override
+    public int length(TemplateContext context) {
+      String value = context.getValue(name);
+      return escaped ? XmlEscaper.docViewEscapedLength(value, false) : value.length();
+    }
+
+    @Override
+    public void render(TemplateContext context, StringBuilder builder) {
+      if (escaped) {
+        XmlEscaper.escapeDocViewValue(context.getValue(name), false, builder);
+      } else {
+        builder.append(context.getValue(name));
+      }
+    }
+  }
+
+  /**
+   * Multi-value placeholder.
+   */
+  private static final class MultiValueNode implements Node {
+
+    private final String name;
+
+    private MultiValueNode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public int length(TemplateContext context) {
+      List<String> values = context.getValues(name);
+      int length = Math.max(values.size() - 1, 0);
+      for (String value : values) {
+        length += XmlEscaper.docViewEscapedLength(value, true);
+      }
+      return length;
+    }
+
+    @Override
+    public void render(TemplateContext context, StringBuilder builder) {
+      List<String> values = context.getValues(name);
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          builder.append(MULTI_VALUE_SEPARATOR);
+        }
+        XmlEscaper.escapeDocViewValue(values.get(i), true, builder);
+      }
+    }
+  }
+
+  /**
+   * Conditional section.
+   */
+  private static final class SectionNode implements Node {
+
+    private final String name;
+    private final boolean inverted;
+    private final List<Node> children = new ArrayList<>();
+
+    private SectionNode(String name, boolean inverted) {
+      this.name = name;
+      this.inverted = inverted;
+    }
+
+    @Override
+    public int length(TemplateContext context) {
+      if (!isRendered(context)) {
+        return 0;
+      }
+      int length = 0;
+      for (Node child : children) {
+        length += child.length(context);
+      }
+      return length;
+    }
+
+    @Override
+    public void render(TemplateContext context, StringBuilder builder) {
+      if (isRendered(context)) {
+        for (Node child : children) {
+          child.render(context, builder);
+        }
+      }
+    }
+
+    /**
+     * @param context values and flags of placeholders;
+     * @return true if section content should be rendered;
+     */
+    private boolean isRendered(TemplateContext context) {
+      return context.getFlag(name) != inverted;
+    }
+  }
+}
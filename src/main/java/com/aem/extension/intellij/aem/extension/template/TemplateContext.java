@@ -0,0 +1,90 @@
+package com.aem.extension.intellij.aem.extension.template;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template Context.
+ * <p>
+ * Typed placeholder values of a template: string values for {@code {{name}}} placeholders, lists
+ * of string values for {@code {{*name}}} placeholders and boolean flags for {@code {{#name}}...{{/name}}} sections. Rendering fails if a placeholder has
+ * no value of the required type.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class TemplateContext {
+
+  private final Map<String, String> values = new HashMap<>();
+  private final Map<String, List<String>> multiValues = new HashMap<>();
+  private final Map<String, Boolean> flags = new HashMap<>();
+
+  /**
+   * @param name name of value placeholder;
+   * @param value value of placeholder;
+   * @return this context;
+   */
+  public TemplateContext value(String name, String value) {
+    values.put(name, value);
+    return this;
+  }
+
+  /**
+   * @param name name of multi-value placeholder;
+   * @param values values of placeholder;
+   * @return this context;
+   */
+  public TemplateContext values(String name, List<String> values) {
+    multiValues.put(name, List.copyOf(values));
+    return this;
+  }
+
+  /**
+   * @param name name of section;
+   * @param flag true if section should be rendered;
+   * @return this context;
+   */
+  public TemplateContext flag(String name, boolean flag) {
+    flags.put(name, flag);
+    return this;
+  }
+
+  /**
+   * @param name name of value placeholder;
+   * @return value of placeholder;
+   * @throws IllegalArgumentException if placeholder has no value;
+   */
+  String getValue(String name) {
+    String value = values.get(name);
+    if (value == null) {
+      throw new IllegalArgumentException(String.format("Template value [%s] wasn't set.", name));
+    }
+    return value;
+  }
+
+  /**
+   * @param name name of multi-value placeholder;
+   * @return values of placeholder;
+   * @throws IllegalArgumentException if placeholder has no values;
+   */
+  List<String> getValues(String name) {
+    List<String> values = multiValues.get(name);
+    if (values == null) {
+      throw new IllegalArgumentException(String.format("Template values [%s] weren't set.", name));
+    }
+    return values;
+  }
+
+  /**
+   * @param name name of section;
+   * @return flag of section;
+   * @throws IllegalArgumentException if section has no flag;
+   */
+  boolean getFlag(String name) {
+    Boolean flag = flags.get(name);
+    if (flag == null) {
+      throw new IllegalArgumentException(String.format("Template flag [%s] wasn't set.", name));
+    }
+    return flag;
+  }
+}
@@ -0,0 +1,58 @@
+package com.aem.extension.intellij.aem.extension.template;
+
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for loading compiled templates from resources.
+ * <p>
+ * Each template is read, stripped of carriage returns and compiled only once.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class Templates {
+
+  private static final String CARRIAGE_RETURN = "\r";
+
+  private static final Map<String, Template> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
+  private Templates() {
+  }
+
+  /**
+   * @param templatePath relative path to file template under 'resources' folder;
+   * @return compiled template;
+   * @throws IllegalArgumentException if template wasn't found or is malformed;
+   * @throws UncheckedIOException if template can't be read;
+   */
+  public static Template get(String templatePath) {
+    return COMPILED_TEMPLATES.computeIfAbsent(templatePath, Templates::load);
+  }
+
+  /**
+   * @param templatePath relative path to file template under 'resources' folder;
+   * @return compiled template;
+   */
+  private static Template load(String templatePath) {
+    long start = AemMetrics.TEMPLATE_LOAD.start();
+    try (InputStream resourceAsStream = Templates.class.getClassLoader()
+        .getResourceAsStream(templatePath)) {
+      if (resourceAsStream == null) {
+        throw new IllegalArgumentException(
+            String.format("Resource by template path [%s] wasn't found.", templatePath));
+      }
+      String text = new String(resourceAsStream.readAllBytes(), StandardCharsets.UTF_8);
+      return Template.compile(text.replace(CARRIAGE_RETURN, ""));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when reading the template [%s]", templatePath), e);
+    } finally {
+      AemMetrics.TEMPLATE_LOAD.stop(start);
+    }
+  }
+}
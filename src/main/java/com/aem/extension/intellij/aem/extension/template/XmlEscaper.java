@@ -0,0 +1,132 @@
+package com.aem.extension.intellij.aem.extension.template;
+
+/**
+ * Utility class for escaping values of XML attributes.
+ * <p>
+ * Values of FileVault docview attributes are escaped in two steps: first as docview values, so
+ * leading '{' isn't read as type hint, leading '[' isn't read as multi-value, backslashes stay
+ * literal and commas don't split items of multi-value, then as XML attributes.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class XmlEscaper {
+
+  private static final char DOCVIEW_ESCAPE = '\\';
+  private static final char MULTI_VALUE_SEPARATOR = ',';
+  private static final char MULTI_VALUE_START = '[';
+  private static final char TYPE_HINT_START = '{';
+
+  private XmlEscaper() {
+  }
+
+  /**
+   * @param value value of XML attribute;
+   * @return length of value after escaping;
+   */
+  public static int escapedLength(CharSequence value) {
+    int length = value.length();
+    for (int i = 0; i < value.length(); i++) {
+      String replacement = getReplacement(value.charAt(i));
+      if (replacement != null) {
+        length += replacement.length() - 1;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Appends escaped value directly into builder, without intermediate strings;
+   * @param value value of XML attribute;
+   * @param builder builder to append escaped value to;
+   */
+  public static void escapeAttribute(CharSequence value, StringBuilder builder) {
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      String replacement = getReplacement(value.charAt(i));
+      if (replacement != null) {
+        builder.append(value, start, i).append(replacement);
+        start = i + 1;
+      }
+    }
+    builder.append(value, start, value.length());
+  }
+
+  /**
+   * @param value single value or item of multi-value of docview attribute;
+   * @param multiValue true if value is item of multi-value;
+   * @return length of value after escaping;
+   */
+  public static int docViewEscapedLength(CharSequence value, boolean multiValue) {
+    int length = escapedLength(value);
+    for (int i = 0; i < value.length(); i++) {
+      if (needsDocViewEscape(value.charAt(i), i, multiValue)) {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Appends value, escaped as docview value and then as XML attribute, into builder;
+   * @param value single value or item of multi-value of docview attribute;
+   * @param multiValue true if value is item of multi-value;
+   * @param builder builder to append escaped value to;
+   */
+  public static void escapeDocViewValue(CharSequence value, boolean multiValue,
+      StringBuilder builder) {
+    for (int i = 0; i < value.length(); i++) {
+      char character = value.charAt(i);
+      if (needsDocViewEscape(character, i, multiValue)) {
+        builder.append(DOCVIEW_ESCAPE);
+      }
+      String replacement = getReplacement(character);
+      if (replacement != null) {
+        builder.append(replacement);
+      } else {
+        builder.append(character);
+      }
+    }
+  }
+
+  /**
+   * @param character character of value;
+   * @param index index of character in value;
+   * @param multiValue true if value is item of multi-value;
+   * @return true if character should be prefixed with backslash;
+   */
+  private static boolean needsDocViewEscape(char character, int index, boolean multiValue) {
+    if (character == DOCVIEW_ESCAPE) {
+      return true;
+    }
+    if (multiValue && character == MULTI_VALUE_SEPARATOR) {
+      return true;
+    }
+    return index == 0
+        && (character == TYPE_HINT_START || !multiValue && character == MULTI_VALUE_START);
+  }
+
+  /**
+   * @param character character of attribute value;
+   * @return XML entity for character, or null if character doesn't need escaping;
+   */
+  private static String getReplacement(char character) {
+    switch (character) {
+      case '&':
+        return "&amp;";
+      case '<':
+        return "&lt;";
+      case '>':
+        return "&gt;";
+      case '"':
+        return "&quot;";
+      case '\'':
+        return "&apos;";
+      case '\n':
+        return "&#10;";
+      case '\t':
+        return "&#9;";
+      default:
+        return null;
+    }
+  }
+}
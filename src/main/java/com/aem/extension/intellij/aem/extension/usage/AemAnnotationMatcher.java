@@ -0,0 +1,79 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * AEM Annotation Matcher.
+ * <p>
+ * Immutable matcher of a set of annotations, compiled into hash sets of their qualified and short
+ * names. An annotation is resolved only if its short name is one of matched short names.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AemAnnotationMatcher {
+
+  public static final AemAnnotationMatcher EMPTY = new AemAnnotationMatcher(Set.of());
+
+  private final Set<String> qualifiedNames;
+  private final AnnotationShortNameFilter shortNameFilter;
+
+  /**
+   * @param qualifiedNames qualified names of annotations, blank names are ignored;
+   */
+  public AemAnnotationMatcher(@NotNull Collection<String> qualifiedNames) {
+    this.qualifiedNames = qualifiedNames.stream()
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+    this.shortNameFilter = new AnnotationShortNameFilter(this.qualifiedNames);
+  }
+
+  /**
+   * @return true if matcher has no annotations;
+   */
+  public boolean isEmpty() {
+    return qualifiedNames.isEmpty();
+  }
+
+  /**
+   * @param owner annotated element;
+   * @param syntaxOnly if true, annotations are matched by short names and imports only;
+   * @return true if element has one of matched annotations, otherwise returns false;
+   */
+  public boolean matches(@NotNull PsiModifierListOwner owner, boolean syntaxOnly) {
+    if (isEmpty() || !shortNameFilter.hasCandidate(owner)) {
+      return false;
+    }
+    PsiFile file = owner.getContainingFile();
+    if (syntaxOnly) {
+      return file instanceof PsiJavaFile
+          && shortNameFilter.isAnnotated(owner, FileImports.of((PsiJavaFile) file));
+    }
+    if (!(owner instanceof PsiCompiledElement) && file instanceof PsiJavaFile
+        && !shortNameFilter.isAnnotated(owner, FileImports.of((PsiJavaFile) file))) {
+      return false;
+    }
+    PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) {
+      return false;
+    }
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      if (shortNameFilter.isCandidate(annotation)) {
+        String qualifiedName = annotation.getQualifiedName();
+        if (qualifiedName != null && qualifiedNames.contains(qualifiedName)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,83 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+
+/**
+ * Qualified names of AEM annotations, which make classes and fields implicitly used.
+ *
+ * @author Yury Raichonak
+ */
+public final class AemAnnotations {
+
+  public static final String CHILD_RESOURCE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ChildResource";
+  public static final String COMPONENT_ANNOTATION = "org.osgi.service.component.annotations.Component";
+  public static final String INJECT_ANNOTATION = "javax.inject.Inject";
+  public static final String MODEL_ANNOTATION = "org.apache.sling.models.annotations.Model";
+  public static final String OSGI_SERVICE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.OSGiService";
+  public static final String REFERENCE_ANNOTATION = "org.osgi.service.component.annotations.Reference";
+  public static final String REQUEST_ATTRIBUTE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.RequestAttribute";
+  public static final String RESOURCE_PATH_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ResourcePath";
+  public static final String SELF_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.Self";
+  public static final String SLING_OBJECT_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.SlingObject";
+  public static final String VALUE_MAP_VALUE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ValueMapValue";
+
+  public static final List<String> MODEL_FIELD_ANNOTATIONS = List.copyOf(asList(
+      CHILD_RESOURCE_ANNOTATION,
+      INJECT_ANNOTATION,
+      OSGI_SERVICE_ANNOTATION,
+      REFERENCE_ANNOTATION,
+      REQUEST_ATTRIBUTE_ANNOTATION,
+      RESOURCE_PATH_ANNOTATION,
+      SELF_ANNOTATION,
+      SLING_OBJECT_ANNOTATION,
+      VALUE_MAP_VALUE_ANNOTATION
+  ));
+  public static final List<String> COMPONENT_FIELD_ANNOTATIONS = List.of(REFERENCE_ANNOTATION);
+
+  public static final AnnotationShortNameFilter MODEL_FILTER =
+      new AnnotationShortNameFilter(List.of(MODEL_ANNOTATION));
+  public static final AnnotationShortNameFilter COMPONENT_FILTER =
+      new AnnotationShortNameFilter(List.of(COMPONENT_ANNOTATION));
+  public static final AnnotationShortNameFilter MODEL_FIELD_FILTER =
+      new AnnotationShortNameFilter(MODEL_FIELD_ANNOTATIONS);
+  public static final AnnotationShortNameFilter COMPONENT_FIELD_FILTER =
+      new AnnotationShortNameFilter(COMPONENT_FIELD_ANNOTATIONS);
+  public static final AnnotationShortNameFilter VALUE_MAP_VALUE_FILTER =
+      new AnnotationShortNameFilter(List.of(VALUE_MAP_VALUE_ANNOTATION));
+
+  private AemAnnotations() {
+  }
+
+  /**
+   * @param role AEM role of class;
+   * @return annotations, which mark fields of class with such role as injected;
+   */
+  public static List<String> getFieldAnnotations(AemRole role) {
+    switch (role) {
+      case SLING_MODEL:
+        return MODEL_FIELD_ANNOTATIONS;
+      case OSGI_COMPONENT:
+        return COMPONENT_FIELD_ANNOTATIONS;
+      default:
+        return List.of();
+    }
+  }
+
+  /**
+   * @param role AEM role of class;
+   * @return short name filter of annotations, which mark fields of class with such role as
+   * injected, or null if role is NONE;
+   */
+  public static AnnotationShortNameFilter getFieldAnnotationFilter(AemRole role) {
+    switch (role) {
+      case SLING_MODEL:
+        return MODEL_FIELD_FILTER;
+      case OSGI_COMPONENT:
+        return COMPONENT_FIELD_FILTER;
+      default:
+        return null;
+    }
+  }
+}
@@ -1,65 +1,71 @@
 package com.aem.extension.intellij.aem.extension.usage;
 
-import static java.util.Arrays.asList;
+import static com.aem.extension.intellij.aem.extension.usage.AemAnnotations.COMPONENT_ANNOTATION;
+import static com.aem.extension.intellij.aem.extension.usage.AemAnnotations.MODEL_ANNOTATION;
 
+import com.aem.extension.intellij.aem.extension.htl.HtlUses;
+import com.aem.extension.intellij.aem.extension.index.AemClassIndex;
+import com.aem.extension.intellij.aem.extension.index.AemClassInfo;
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import com.aem.extension.intellij.aem.extension.settings.AemAnnotationSettings;
 import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInsight.daemon.ImplicitUsageProvider;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * AEM Class Usage Provider.
  * <p>
  * This class marks classes and fields as implicitly used.
+ * Classes declared by HTL 'data-sly-use' attributes and their getters, read by HTL files, are
+ * looked up in {@link HtlUses}.
+ * Extra class, field and method annotations can be configured in {@link AemAnnotationSettings}.
+ * Classes from Java sources are looked up in {@link AemClassIndex}, other classes are checked by
+ * annotations, which are resolved only after {@link AnnotationShortNameFilter} matches them.
+ * Verdicts for classes from library jars are persisted by {@link AemLibraryVerdictCache}.
+ * While indexes are being built, verdicts are given by annotation short names and imports only.
+ * They are dropped when smart mode returns, together with the daemon restart the platform makes
+ * on leaving dumb mode, so the provider never restarts the daemon itself.
  * </p>
  * @author Yury Raichonak
  */
-public class AemClassUsageProvider implements ImplicitUsageProvider {
-
-  private static final String CHILD_RESOURCE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ChildResource";
-  private static final String COMPONENT_ANNOTATION = "org.osgi.service.component.annotations.Component";
-  private static final String INJECT_ANNOTATION = "javax.inject.Inject";
-  private static final String MODEL_ANNOTATION = "org.apache.sling.models.annotations.Model";
-  private static final String OSGI_SERVICE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.OSGiService";
-  private static final String REFERENCE_ANNOTATION = "org.osgi.service.component.annotations.Reference";
-  private static final String REQUEST_ATTRIBUTE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.RequestAttribute";
-  private static final String RESOURCE_PATH_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ResourcePath";
-  private static final String SELF_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.Self";
-  private static final String SLING_OBJECT_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.SlingObject";
-  private static final String VALUE_MAP_VALUE_ANNOTATION = "org.apache.sling.models.annotations.injectorspecific.ValueMapValue";
+public class AemClassUsageProvider implements ImplicitUsageProvider, DumbAware {
 
   private static final int FLAGS = 0;
 
-  private static final List<String> CLASS_ANNOTATIONS = asList(
-      COMPONENT_ANNOTATION,
-      MODEL_ANNOTATION
-  );
-  private static final List<String> MODEL_FIELD_ANNOTATIONS = asList(
-      CHILD_RESOURCE_ANNOTATION,
-      INJECT_ANNOTATION,
-      OSGI_SERVICE_ANNOTATION,
-      REFERENCE_ANNOTATION,
-      REQUEST_ATTRIBUTE_ANNOTATION,
-      RESOURCE_PATH_ANNOTATION,
-      SELF_ANNOTATION,
-      SLING_OBJECT_ANNOTATION,
-      VALUE_MAP_VALUE_ANNOTATION
-  );
-
   /**
    * @param element used Psi element;
    * @return true if element is used implicitly, otherwise return false;
    */
   @Override
   public boolean isImplicitUsage(@NotNull PsiElement element) {
-    if (element instanceof PsiClass) {
-      return AnnotationUtil.isAnnotated((PsiClass) element, CLASS_ANNOTATIONS, FLAGS);
+    long start = AemMetrics.IMPLICIT_USAGE.start();
+    try {
+      return isImplicitlyUsed(element);
+    } finally {
+      AemMetrics.IMPLICIT_USAGE.stop(start);
     }
-    return false;
   }
 
   /**
@@ -77,16 +83,205 @@ public class AemClassUsageProvider implements ImplicitUsageProvider {
    */
   @Override
   public boolean isImplicitWrite(@NotNull PsiElement element) {
+    long start = AemMetrics.IMPLICIT_WRITE.start();
+    try {
+      return isImplicitlyWritten(element);
+    } finally {
+      AemMetrics.IMPLICIT_WRITE.stop(start);
+    }
+  }
+
+  /**
+   * @param element used Psi element;
+   * @return true if element is used implicitly, otherwise return false;
+   */
+  private static boolean isImplicitlyUsed(@NotNull PsiElement element) {
+    if (element instanceof PsiClass) {
+      return getClassInfo((PsiClass) element).getRole() != AemRole.NONE
+          || matchesExtraAnnotation((PsiClass) element, getSettings(element).getClassMatcher())
+          || HtlUses.getUsedProperties((PsiClass) element) != null;
+    }
+    if (element instanceof PsiMethod) {
+      return matchesExtraAnnotation((PsiMethod) element, getSettings(element).getMethodMatcher())
+          || HtlUses.isUsedGetter((PsiMethod) element);
+    }
+    return false;
+  }
+
+  /**
+   * @param element used Psi element;
+   * @return true if element is written implicitly, otherwise return false;
+   */
+  private static boolean isImplicitlyWritten(@NotNull PsiElement element) {
     if (element instanceof PsiField
         && ((PsiField) element).hasModifierProperty(PsiModifier.PRIVATE)
         && !((PsiField) element).hasModifierProperty(PsiModifier.STATIC)) {
-      if (AnnotationUtil.isAnnotated((PsiClass) element.getParent(), MODEL_ANNOTATION, FLAGS)) {
-        return AnnotationUtil.isAnnotated((PsiField) element, MODEL_FIELD_ANNOTATIONS, FLAGS);
-      }
-      if (AnnotationUtil.isAnnotated((PsiClass) element.getParent(), COMPONENT_ANNOTATION, FLAGS)) {
-        return AnnotationUtil.isAnnotated((PsiField) element, REFERENCE_ANNOTATION, FLAGS);
+      PsiClass containingClass = ((PsiField) element).getContainingClass();
+      if (containingClass != null
+          && getClassInfo(containingClass).isInjected(((PsiField) element).getName())) {
+        return true;
       }
+      return matchesExtraAnnotation((PsiField) element, getSettings(element).getFieldMatcher());
     }
     return false;
   }
+
+  /**
+   * @param element used Psi element;
+   * @return project settings of extra annotations;
+   */
+  private static AemAnnotationSettings getSettings(@NotNull PsiElement element) {
+    return AemAnnotationSettings.getInstance(element.getProject());
+  }
+
+  /**
+   * @param owner annotated element;
+   * @param matcher matcher of extra annotations from settings;
+   * @return true if element has one of extra annotations, otherwise returns false;
+   */
+  private static boolean matchesExtraAnnotation(@NotNull PsiModifierListOwner owner,
+      @NotNull AemAnnotationMatcher matcher) {
+    return !matcher.isEmpty()
+        && matcher.matches(owner, DumbService.isDumb(owner.getProject()));
+  }
+
+  /**
+   * Info is computed once per class and shared by all its fields until the next PSI modification,
+   * or until the IDE enters or leaves dumb mode;
+   * @param psiClass class to check;
+   * @return cached AEM info of class;
+   */
+  private static AemClassInfo getClassInfo(@NotNull PsiClass psiClass) {
+    DumbService dumbService = DumbService.getInstance(psiClass.getProject());
+    AemMetrics.CLASS_INFO_CACHE.lookup();
+    return CachedValuesManager.getCachedValue(psiClass, () -> {
+      AemMetrics.CLASS_INFO_CACHE.miss();
+      return Result.create(
+          dumbService.isDumb() ? computeSyntacticClassInfo(psiClass) : computeClassInfo(psiClass),
+          PsiModificationTracker.MODIFICATION_COUNT, dumbService.getModificationTracker());
+    });
+  }
+
+  /**
+   * Cheap verdict for dumb mode, based on annotation short names and imports only;
+   * @param psiClass class to check;
+   * @return info of class;
+   */
+  private static AemClassInfo computeSyntacticClassInfo(@NotNull PsiClass psiClass) {
+    PsiFile file = psiClass.getContainingFile();
+    if (!(file instanceof PsiJavaFile)) {
+      return AemClassInfo.NO_ROLE;
+    }
+    AemClassInfo classInfo = AemClassIndex.computeSyntacticInfo(psiClass,
+        FileImports.of((PsiJavaFile) file));
+    return classInfo == null ? AemClassInfo.NO_ROLE : classInfo;
+  }
+
+  /**
+   * Falls back to the dumb mode verdict, if indexes become unavailable during computation;
+   * @param psiClass class to check;
+   * @return info of class;
+   */
+  private static AemClassInfo computeClassInfo(@NotNull PsiClass psiClass) {
+    try {
+      return computeExactClassInfo(psiClass);
+    } catch (IndexNotReadyException e) {
+      return computeSyntacticClassInfo(psiClass);
+    }
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return info from index for source classes, from library cache for compiled classes, or info
+   * resolved from annotations otherwise;
+   */
+  private static AemClassInfo computeExactClassInfo(@NotNull PsiClass psiClass) {
+    if (isIndexed(psiClass)) {
+      AemClassInfo classInfo = findIndexedClassInfo(psiClass);
+      return classInfo == null ? AemClassInfo.NO_ROLE : classInfo;
+    }
+    if (psiClass instanceof PsiCompiledElement) {
+      return AemLibraryVerdictCache.getInstance()
+          .getClassInfo(psiClass, () -> computeResolvedClassInfo(psiClass));
+    }
+    return computeResolvedClassInfo(psiClass);
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return info resolved from annotations of class and its fields;
+   */
+  private static AemClassInfo computeResolvedClassInfo(@NotNull PsiClass psiClass) {
+    AemRole role = computeAemRole(psiClass);
+    if (role == AemRole.NONE) {
+      return AemClassInfo.NO_ROLE;
+    }
+    List<String> fieldAnnotations = AemAnnotations.getFieldAnnotations(role);
+    AnnotationShortNameFilter fieldFilter = AemAnnotations.getFieldAnnotationFilter(role);
+    Set<String> injectedFields = new HashSet<>();
+    for (PsiField field : psiClass.getFields()) {
+      if (isAnnotated(field, fieldFilter, fieldAnnotations)) {
+        injectedFields.add(field.getName());
+      }
+    }
+    return new AemClassInfo(role, injectedFields);
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return true if class is declared in Java source file covered by index;
+   */
+  private static boolean isIndexed(@NotNull PsiClass psiClass) {
+    if (psiClass instanceof PsiCompiledElement || psiClass.getQualifiedName() == null) {
+      return false;
+    }
+    PsiFile file = psiClass.getContainingFile();
+    return file instanceof PsiJavaFile && file.getVirtualFile() != null;
+  }
+
+  /**
+   * @param psiClass source class;
+   * @return indexed info of class, or null if class has no AEM role;
+   */
+  private static @Nullable AemClassInfo findIndexedClassInfo(@NotNull PsiClass psiClass) {
+    VirtualFile file = psiClass.getContainingFile().getVirtualFile();
+    Map<String, AemClassInfo> fileData = FileBasedIndex.getInstance()
+        .getFileData(AemClassIndex.NAME, file, psiClass.getProject());
+    return fileData.get(psiClass.getQualifiedName());
+  }
+
+  /**
+   * @param psiClass class to check;
+   * @return SLING_MODEL if class is annotated with Model, OSGI_COMPONENT if class is annotated with
+   * Component, otherwise NONE;
+   */
+  private static AemRole computeAemRole(@NotNull PsiClass psiClass) {
+    if (isAnnotated(psiClass, AemAnnotations.MODEL_FILTER, List.of(MODEL_ANNOTATION))) {
+      return AemRole.SLING_MODEL;
+    }
+    if (isAnnotated(psiClass, AemAnnotations.COMPONENT_FILTER, List.of(COMPONENT_ANNOTATION))) {
+      return AemRole.OSGI_COMPONENT;
+    }
+    return AemRole.NONE;
+  }
+
+  /**
+   * Resolves annotations only if short name and imports of file match one of them;
+   * @param owner annotated element;
+   * @param filter short name filter of annotations;
+   * @param annotations qualified names of annotations;
+   * @return true if element is annotated with one of annotations, otherwise returns false;
+   */
+  private static boolean isAnnotated(@NotNull PsiModifierListOwner owner,
+      @NotNull AnnotationShortNameFilter filter, @NotNull List<String> annotations) {
+    if (!filter.hasCandidate(owner)) {
+      return false;
+    }
+    PsiFile file = owner.getContainingFile();
+    if (!(owner instanceof PsiCompiledElement) && file instanceof PsiJavaFile
+        && !filter.isAnnotated(owner, FileImports.of((PsiJavaFile) file))) {
+      return false;
+    }
+    return AnnotationUtil.isAnnotated(owner, annotations, FLAGS);
+  }
 }
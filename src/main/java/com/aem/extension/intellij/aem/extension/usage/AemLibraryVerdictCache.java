@@ -0,0 +1,185 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+import com.aem.extension.intellij.aem.extension.index.AemClassInfo;
+import com.aem.extension.intellij.aem.extension.index.AemClassInfoExternalizer;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.FileAttribute;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.Alarm;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.ui.update.MergingUpdateQueue;
+import com.intellij.util.ui.update.Update;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * AEM Library Verdict Cache.
+ * <p>
+ * Application service, which persists verdicts for classes from library jars between IDE sessions.
+ * Verdicts of each jar are kept in a VFS attribute of the jar file together with its length and
+ * time stamp, and are loaded lazily on first access to a class from this jar. Jar content is never
+ * read by the cache. New verdicts are saved in background a few seconds after they are computed,
+ * so they survive IDE crash, and the rest of them are saved on shutdown.
+ * </p>
+ * @author Yury Raichonak
+ */
+public class AemLibraryVerdictCache implements Disposable {
+
+  private static final Logger LOGGER = Logger.getInstance(AemLibraryVerdictCache.class);
+
+  private static final int VERSION = 2;
+  private static final int SAVE_DELAY_MS = 5000;
+  private static final String QUEUE_NAME = "AEM Library Verdicts";
+  private static final FileAttribute VERDICTS_ATTRIBUTE =
+      new FileAttribute("aem.extension.library.verdicts", VERSION, false);
+
+  private final Map<VirtualFile, JarVerdicts> verdictsByJar = new ConcurrentHashMap<>();
+  private final MergingUpdateQueue saveQueue;
+
+  public AemLibraryVerdictCache() {
+    this.saveQueue = new MergingUpdateQueue(QUEUE_NAME, SAVE_DELAY_MS, true, null, this, null,
+        Alarm.ThreadToUse.POOLED_THREAD);
+  }
+
+  /**
+   * @return application instance of cache;
+   */
+  public static AemLibraryVerdictCache getInstance() {
+    return ApplicationManager.getApplication().getService(AemLibraryVerdictCache.class);
+  }
+
+  /**
+   * @param psiClass compiled class;
+   * @param computation computes verdict, if class isn't cached yet;
+   * @return cached or computed info of class;
+   */
+  public AemClassInfo getClassInfo(@NotNull PsiClass psiClass,
+      @NotNull Supplier<AemClassInfo> computation) {
+    String qualifiedName = psiClass.getQualifiedName();
+    VirtualFile jar = findJar(psiClass);
+    if (qualifiedName == null || jar == null) {
+      return computation.get();
+    }
+    JarVerdicts jarVerdicts = verdictsByJar.computeIfAbsent(jar, JarVerdicts::load);
+    AemClassInfo classInfo = jarVerdicts.verdicts.get(qualifiedName);
+    if (classInfo == null) {
+      classInfo = computation.get();
+      jarVerdicts.verdicts.put(qualifiedName, classInfo);
+      jarVerdicts.dirty = true;
+      saveQueue.queue(Update.create(QUEUE_NAME, this::saveDirty));
+    }
+    return classInfo;
+  }
+
+  /**
+   * Saves the rest of new verdicts on IDE shutdown;
+   */
+  @Override
+  public void dispose() {
+    saveDirty();
+  }
+
+  /**
+   * Saves verdicts of jars, which got new verdicts since last save;
+   */
+  private void saveDirty() {
+    verdictsByJar.values().stream()
+        .filter(jarVerdicts -> jarVerdicts.dirty)
+        .forEach(JarVerdicts::save);
+  }
+
+  /**
+   * @param psiClass compiled class;
+   * @return local jar file, which contains class, or null if class isn't located in jar;
+   */
+  private static @Nullable VirtualFile findJar(@NotNull PsiClass psiClass) {
+    PsiFile file = psiClass.getContainingFile();
+    VirtualFile virtualFile = file == null ? null : file.getVirtualFile();
+    if (virtualFile == null || !(virtualFile.getFileSystem() instanceof JarFileSystem)) {
+      return null;
+    }
+    return JarFileSystem.getInstance().getVirtualFileForJar(virtualFile);
+  }
+
+  /**
+   * Verdicts for classes of single jar.
+   */
+  private static final class JarVerdicts {
+
+    private final VirtualFile jar;
+    private final long length;
+    private final long timeStamp;
+    private final Map<String, AemClassInfo> verdicts = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private JarVerdicts(VirtualFile jar) {
+      this.jar = jar;
+      this.length = jar.getLength();
+      this.timeStamp = jar.getTimeStamp();
+    }
+
+    /**
+     * Stored verdicts are reused only if jar length and time stamp, known to VFS, are unchanged;
+     * @param jar local jar file;
+     * @return verdicts, stored for jar, or empty verdicts if jar was changed;
+     */
+    private static JarVerdicts load(VirtualFile jar) {
+      JarVerdicts jarVerdicts = new JarVerdicts(jar);
+      try (DataInputStream in = VERDICTS_ATTRIBUTE.readAttribute(jar)) {
+        if (in == null) {
+          return jarVerdicts;
+        }
+        long storedLength = DataInputOutputUtil.readLONG(in);
+        long storedTimeStamp = DataInputOutputUtil.readLONG(in);
+        if (storedLength != jarVerdicts.length || storedTimeStamp != jarVerdicts.timeStamp) {
+          return jarVerdicts;
+        }
+        int size = DataInputOutputUtil.readINT(in);
+        for (int i = 0; i < size; i++) {
+          String qualifiedName = IOUtil.readUTF(in);
+          jarVerdicts.verdicts.put(qualifiedName, AemClassInfoExternalizer.INSTANCE.read(in));
+        }
+      } catch (IOException e) {
+        LOGGER.warn(String.format("Can't read verdicts of jar [%s]: %s", jar.getPath(), e.getMessage()));
+        jarVerdicts.verdicts.clear();
+      }
+      return jarVerdicts;
+    }
+
+    /**
+     * Writes verdicts into VFS attribute of jar, verdicts, added during writing, are saved next
+     * time;
+     */
+    private synchronized void save() {
+      if (!jar.isValid()) {
+        return;
+      }
+      dirty = false;
+      Map<String, AemClassInfo> snapshot = Map.copyOf(verdicts);
+      try (DataOutputStream out = VERDICTS_ATTRIBUTE.writeAttribute(jar)) {
+        DataInputOutputUtil.writeLONG(out, length);
+        DataInputOutputUtil.writeLONG(out, timeStamp);
+        DataInputOutputUtil.writeINT(out, snapshot.size());
+        for (Map.Entry<String, AemClassInfo> entry : snapshot.entrySet()) {
+          IOUtil.writeUTF(out, entry.getKey());
+          AemClassInfoExternalizer.INSTANCE.save(out, entry.getValue());
+        }
+      } catch (IOException e) {
+        dirty = true;
+        LOGGER.warn(String.format("Can't save verdicts of jar [%s]: %s", jar.getPath(), e.getMessage()));
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+/**
+ * AEM Role Enum.
+ * <p>
+ * Describes the AEM role of a class, which defines how its fields are injected.
+ * </p>
+ * @author Yury Raichonak
+ */
+public enum AemRole {
+
+  /**
+   * Class annotated with Sling {@code @Model}.
+   */
+  SLING_MODEL,
+
+  /**
+   * Class annotated with OSGi {@code @Component}.
+   */
+  OSGI_COMPONENT,
+
+  /**
+   * Class without AEM role.
+   */
+  NONE
+}
@@ -0,0 +1,118 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Annotation Short Name Filter.
+ * <p>
+ * Matches annotations by their short names from a precomputed hash set and by imports of the file,
+ * without resolving references. Only annotations, which pass this filter, are worth resolving.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class AnnotationShortNameFilter {
+
+  private final Map<String, Set<String>> qualifiedNamesByShortName = new HashMap<>();
+
+  /**
+   * @param qualifiedNames qualified names of annotations to match;
+   */
+  public AnnotationShortNameFilter(@NotNull Collection<String> qualifiedNames) {
+    for (String qualifiedName : qualifiedNames) {
+      qualifiedNamesByShortName
+          .computeIfAbsent(StringUtil.getShortName(qualifiedName), key -> new HashSet<>())
+          .add(qualifiedName);
+    }
+  }
+
+  /**
+   * @param owner annotated element;
+   * @return true if element has annotation with one of filtered short names;
+   */
+  public boolean hasCandidate(@NotNull PsiModifierListOwner owner) {
+    PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) {
+      return false;
+    }
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      if (isCandidate(annotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param annotation annotation to check;
+   * @return true if short name of annotation is one of filtered short names;
+   */
+  public boolean isCandidate(@NotNull PsiAnnotation annotation) {
+    PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+    return reference != null
+        && qualifiedNamesByShortName.containsKey(reference.getReferenceName());
+  }
+
+  /**
+   * @param owner annotated element;
+   * @param imports imports of file, where element is declared;
+   * @return true if element has annotation, which matches filtered annotation by short name and
+   * imports;
+   */
+  public boolean isAnnotated(@NotNull PsiModifierListOwner owner, @NotNull FileImports imports) {
+    return findAnnotation(owner, imports) != null;
+  }
+
+  /**
+   * @param owner annotated element;
+   * @param imports imports of file, where element is declared;
+   * @return first annotation of element, which matches filtered annotation by short name and
+   * imports, or null;
+   */
+  public @Nullable PsiAnnotation findAnnotation(@NotNull PsiModifierListOwner owner,
+      @NotNull FileImports imports) {
+    PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) {
+      return null;
+    }
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      if (findQualifiedName(annotation, imports) != null) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param annotation annotation to check;
+   * @param imports imports of file, where annotation is declared;
+   * @return qualified name of filtered annotation, which is referenced by annotation text, or null;
+   */
+  public @Nullable String findQualifiedName(@NotNull PsiAnnotation annotation,
+      @NotNull FileImports imports) {
+    PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+    if (reference == null) {
+      return null;
+    }
+    Set<String> candidates = qualifiedNamesByShortName.get(reference.getReferenceName());
+    if (candidates == null) {
+      return null;
+    }
+    for (String qualifiedName : candidates) {
+      if (imports.refersTo(reference, qualifiedName)) {
+        return qualifiedName;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,71 @@
+package com.aem.extension.intellij.aem.extension.usage;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import java.util.HashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * File Imports.
+ * <p>
+ * Import statements of a Java file, read by text without resolving references.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class FileImports {
+
+  private final Set<String> singleClassImports = new HashSet<>();
+  private final Set<String> onDemandImports = new HashSet<>();
+  private final String packageName;
+
+  /**
+   * @param file Java file;
+   */
+  private FileImports(@NotNull PsiJavaFile file) {
+    packageName = file.getPackageName();
+    PsiImportList importList = file.getImportList();
+    if (importList == null) {
+      return;
+    }
+    for (PsiImportStatement statement : importList.getImportStatements()) {
+      String qualifiedName = statement.getQualifiedName();
+      if (qualifiedName != null) {
+        (statement.isOnDemand() ? onDemandImports : singleClassImports).add(qualifiedName);
+      }
+    }
+  }
+
+  /**
+   * @param file Java file;
+   * @return imports of file, cached until file is modified;
+   */
+  public static FileImports of(@NotNull PsiJavaFile file) {
+    return CachedValuesManager.getCachedValue(file,
+        () -> Result.create(new FileImports(file), file));
+  }
+
+  /**
+   * @param reference class name reference;
+   * @param qualifiedName qualified name of class;
+   * @return true if reference text points to class with such qualified name;
+   */
+  public boolean refersTo(@NotNull PsiJavaCodeReferenceElement reference,
+      @NotNull String qualifiedName) {
+    if (!StringUtil.getShortName(qualifiedName).equals(reference.getReferenceName())) {
+      return false;
+    }
+    if (reference.isQualified()) {
+      return qualifiedName.equals(reference.getText().replaceAll("\\s+", ""));
+    }
+    String classPackage = StringUtil.getPackageName(qualifiedName);
+    return singleClassImports.contains(qualifiedName)
+        || onDemandImports.contains(classPackage)
+        || classPackage.equals(packageName);
+  }
+}
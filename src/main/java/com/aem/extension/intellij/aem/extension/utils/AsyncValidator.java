@@ -0,0 +1,147 @@
+package com.aem.extension.intellij.aem.extension.utils;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ValidationInfo;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import java.util.Objects;
+import java.util.function.Function;
+import org.jetbrains.concurrency.CancellablePromise;
+
+/**
+ * Asynchronous validator for dialog input.
+ * <p>
+ * Should be called from {@code DialogWrapper.doValidate} on the UI thread. When input changes,
+ * check is scheduled after a quiet period and runs as a cancellable non-blocking read action in
+ * smart mode in background, so checks, which use indexes, are postponed until indexing ends and
+ * their results are never computed from incomplete indexes. Result is stored on the UI thread and
+ * returned by following calls with the same input, so the dialog's validation loop shows it. Stale
+ * runs are cancelled as soon as input changes again. While check is pending, no validation info is
+ * returned, so the dialog should close only through {@link #runWhenValid(Object, Runnable)}.
+ * </p>
+ * @param <T> type of immutable input snapshot;
+ * @author Yury Raichonak
+ */
+public final class AsyncValidator<T> {
+
+  private static final int DEBOUNCE_DELAY_MS = 300;
+
+  private final Project project;
+  private final Disposable parent;
+  private final Function<T, ValidationInfo> check;
+  private final Alarm alarm;
+
+  private boolean requested;
+  private T requestedInput;
+  private boolean validated;
+  private T validatedInput;
+  private ValidationInfo result;
+  private CancellablePromise<ValidationInfo> promise;
+  private Runnable pendingAction;
+
+  /**
+   * @param project current project;
+   * @param parent disposable of dialog, which cancels all pending checks;
+   * @param check check, which is run inside read action in smart mode and returns validation info,
+   * or null if input is valid;
+   */
+  public AsyncValidator(Project project, Disposable parent, Function<T, ValidationInfo> check) {
+    this.project = project;
+    this.parent = parent;
+    this.check = check;
+    this.alarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, parent);
+  }
+
+  /**
+   * @param input current input snapshot;
+   * @return validation info for this input, or null if input is valid or check is still pending;
+   */
+  public ValidationInfo validate(T input) {
+    if (isValidated(input)) {
+      return result;
+    }
+    if (!requested || !Objects.equals(requestedInput, input)) {
+      schedule(input, DEBOUNCE_DELAY_MS);
+    }
+    return null;
+  }
+
+  /**
+   * Runs action at once if input is already checked, otherwise checks input without quiet period
+   * and runs action when check completes; action isn't run if input is invalid, then validation
+   * loop of the dialog shows the error;
+   * @param input current input snapshot;
+   * @param action action, e.g. closing of dialog;
+   */
+  public void runWhenValid(T input, Runnable action) {
+    if (isValidated(input)) {
+      if (isOkAllowed(result)) {
+        action.run();
+      }
+      return;
+    }
+    if (!requested || !Objects.equals(requestedInput, input)) {
+      schedule(input, 0);
+    }
+    pendingAction = action;
+  }
+
+  /**
+   * @param input input snapshot;
+   * @return true if check of this input is completed;
+   */
+  private boolean isValidated(T input) {
+    return validated && Objects.equals(validatedInput, input);
+  }
+
+  /**
+   * Cancels current check and schedules new one, action, requested for previous input, is dropped;
+   * @param input current input snapshot;
+   * @param delayMs delay before check;
+   */
+  private void schedule(T input, int delayMs) {
+    requested = true;
+    requestedInput = input;
+    pendingAction = null;
+    if (promise != null) {
+      promise.cancel();
+      promise = null;
+    }
+    alarm.cancelAllRequests();
+    ModalityState modalityState = ModalityState.current();
+    alarm.addRequest(() -> run(input, modalityState), delayMs, modalityState);
+  }
+
+  /**
+   * @param input input snapshot;
+   * @param modalityState modality state of dialog;
+   */
+  private void run(T input, ModalityState modalityState) {
+    promise = ReadAction.nonBlocking(() -> check.apply(input))
+        .inSmartMode(project)
+        .coalesceBy(this)
+        .expireWith(parent)
+        .finishOnUiThread(modalityState, info -> {
+          validated = true;
+          validatedInput = input;
+          result = info;
+          Runnable action = pendingAction;
+          pendingAction = null;
+          if (action != null && isOkAllowed(info)) {
+            action.run();
+          }
+        })
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  /**
+   * @param info validation info;
+   * @return true if there is no error, or only warning, which allows OK;
+   */
+  private static boolean isOkAllowed(ValidationInfo info) {
+    return info == null || info.okEnabled;
+  }
+}
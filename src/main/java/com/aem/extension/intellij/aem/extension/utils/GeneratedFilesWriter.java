@@ -0,0 +1,80 @@
+package com.aem.extension.intellij.aem.extension.utils;
+
+import com.aem.extension.intellij.aem.extension.generation.AemScaffolder;
+import com.aem.extension.intellij.aem.extension.generation.GeneratedFile;
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for writing generated files into project directory.
+ * <p>
+ * No PSI is built for generated files. Files are created and filled through the virtual file
+ * system, so the whole generation is undone as the write command, which calls this writer, and
+ * open documents stay in sync. Paths are checked by the same rules as in {@link AemScaffolder},
+ * and nothing is written if some of files already exists.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class GeneratedFilesWriter {
+
+  private static final String REQUESTOR = GeneratedFilesWriter.class.getName();
+  private static final String FILE_EXISTS_MESSAGE = "File [%s] already exists";
+
+  private GeneratedFilesWriter() {
+  }
+
+  /**
+   * Creates missing directories and files, should be called inside write command;
+   * @param baseDirectory directory, which paths of files are relative to;
+   * @param files generated files;
+   * @throws IllegalArgumentException if some path is invalid or some file already exists;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static void write(PsiDirectory baseDirectory, List<GeneratedFile> files) {
+    write(baseDirectory.getVirtualFile(), files);
+  }
+
+  /**
+   * Creates missing directories and files, should be called inside write command;
+   * @param baseDirectory directory, which paths of files are relative to;
+   * @param files generated files;
+   * @throws IllegalArgumentException if some path is invalid or some file already exists;
+   * @throws UncheckedIOException if some file can't be written;
+   */
+  public static void write(VirtualFile baseDirectory, List<GeneratedFile> files) {
+    long start = AemMetrics.GENERATION_WRITE.start();
+    try {
+      AemScaffolder.checkPaths(files);
+      for (GeneratedFile file : files) {
+        if (baseDirectory.findFileByRelativePath(file.getPath()) != null) {
+          throw new IllegalArgumentException(String.format(FILE_EXISTS_MESSAGE,
+              baseDirectory.getPath() + '/' + file.getPath()));
+        }
+      }
+      Map<String, VirtualFile> directories = new HashMap<>();
+      for (GeneratedFile file : files) {
+        VirtualFile directory = directories.get(file.getParentPath());
+        if (directory == null) {
+          directory = file.getParentPath().isEmpty() ? baseDirectory
+              : VfsUtil.createDirectoryIfMissing(baseDirectory, file.getParentPath());
+          directories.put(file.getParentPath(), directory);
+        }
+        directory.createChildData(REQUESTOR, file.getName())
+            .setBinaryContent(file.getContent().getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("IOException when writing generated files: %s", e.getMessage()), e);
+    } finally {
+      AemMetrics.GENERATION_WRITE.stop(start);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.aem.extension.intellij.aem.extension.utils;
+
+import com.aem.extension.intellij.aem.extension.generation.GeneratedFile;
+import com.aem.extension.intellij.aem.extension.metrics.AemMetrics;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utility class for running generation in two stages.
+ * <p>
+ * Paths and contents of all files are computed in background, with validation inside a
+ * non-blocking read action. Then files are created by one short undoable write command on the UI
+ * thread, which fails without changes if some of files appeared in the meantime.
+ * </p>
+ * @author Yury Raichonak
+ */
+public final class GenerationRunner {
+
+  private static final String INVALID_DIRECTORY_MESSAGE = "Target directory no longer exists";
+
+  private GenerationRunner() {
+  }
+
+  /**
+   * @param project current project;
+   * @param directory directory, which paths of generated files are relative to;
+   * @param commandName name of undoable write command;
+   * @param errorTitle title of error dialog;
+   * @param validator returns validation error message for directory, or null if it is valid;
+   * @param planner computes generated files;
+   */
+  public static void run(Project project, PsiDirectory directory, String commandName,
+      String errorTitle, Function<PsiDirectory, String> validator,
+      Supplier<List<GeneratedFile>> planner) {
+    ReadAction.nonBlocking(() -> prepare(directory, validator, planner))
+        .expireWith(project)
+        .finishOnUiThread(ModalityState.defaultModalityState(), preparation -> {
+          if (preparation.errorMessage != null) {
+            Messages.showErrorDialog(project, preparation.errorMessage, errorTitle);
+            return;
+          }
+          try {
+            WriteCommandAction.writeCommandAction(project)
+                .withName(commandName)
+                .run(() -> GeneratedFilesWriter.write(directory, preparation.files));
+          } catch (IllegalArgumentException | UncheckedIOException e) {
+            Messages.showErrorDialog(project, e.getMessage(), errorTitle);
+          }
+        })
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  /**
+   * @param directory directory, which paths of generated files are relative to;
+   * @param validator returns validation error message for directory, or null if it is valid;
+   * @param planner computes generated files;
+   * @return prepared files, or validation error;
+   */
+  private static Preparation prepare(PsiDirectory directory,
+      Function<PsiDirectory, String> validator, Supplier<List<GeneratedFile>> planner) {
+    if (!directory.isValid()) {
+      return new Preparation(null, INVALID_DIRECTORY_MESSAGE);
+    }
+    long start = AemMetrics.GENERATION_VALIDATE.start();
+    String errorMessage;
+    try {
+      errorMessage = validator.apply(directory);
+    } finally {
+      AemMetrics.GENERATION_VALIDATE.stop(start);
+    }
+    if (errorMessage != null) {
+      return new Preparation(null, errorMessage);
+    }
+    return new Preparation(planner.get(), null);
+  }
+
+  /**
+   * Result of background stage.
+   */
+  private static final class Preparation {
+
+    private final List<GeneratedFile> files;
+    private final String errorMessage;
+
+    private Preparation(List<GeneratedFile> files, String errorMessage) {
+      this.files = files;
+      this.errorMessage = errorMessage;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.aem.extension.intellij.aem.extension.index.ClientLibInfo;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ClientLibGraph} category index, reverse edges and cycles.
+ *
+ * @author Yury Raichonak
+ */
+class ClientLibGraphTest {
+
+  private static final String BASE = "/apps/site/clientlibs/base/.content.xml";
+  private static final String TEASER = "/apps/site/components/teaser/clientlibs/.content.xml";
+  private static final String SITE = "/apps/site/clientlibs/site/.content.xml";
+
+  @Test
+  void indexesCategoriesByPrefixAndPath() {
+    ClientLibGraph graph = new ClientLibGraph();
+    graph.update(BASE, info(List.of("site.base", "site.vendor"), List.of(), List.of()));
+    graph.update(TEASER, info(List.of("site.teaser"), List.of(), List.of()));
+    graph.update(SITE, info(List.of("other", "site.base"), List.of(), List.of()));
+
+    assertEquals(List.of("site.base", "site.teaser", "site.vendor"), graph.getCategories("site."));
+    assertEquals(List.of(), graph.getCategories("x"));
+    assertEquals(Set.of(BASE, SITE), graph.getDefiningPaths("site.base"));
+    assertTrue(graph.getDefiningPaths("missing").isEmpty());
+
+    graph.update(SITE, null);
+
+    assertEquals(Set.of(BASE), graph.getDefiningPaths("site.base"));
+    assertEquals(List.of(), graph.getCategories("other"));
+    assertNull(graph.getInfo(SITE));
+  }
+
+  @Test
+  void keepsReverseEdgesOfEmbedAndDependencies() {
+    ClientLibGraph graph = new ClientLibGraph();
+    graph.update(BASE, info(List.of("site.base"), List.of(), List.of()));
+    graph.update(TEASER, info(List.of("site.teaser"), List.of("site.base"), List.of()));
+    graph.update(SITE, info(List.of("site"), List.of(), List.of("site.base", "site.teaser")));
+
+    assertEquals(Set.of(TEASER), graph.getDependentPaths("site.base"));
+    assertEquals(Set.of(SITE), graph.getEmbeddingPaths("site.base"));
+    assertEquals(Set.of(SITE), graph.getEmbeddingPaths("site.teaser"));
+    assertEquals(Set.of("site.base", "site.teaser"), graph.getSuccessors("site"));
+
+    graph.update(SITE, info(List.of("site"), List.of(), List.of("site.teaser")));
+
+    assertTrue(graph.getEmbeddingPaths("site.base").isEmpty());
+    assertEquals(Set.of(SITE), graph.getEmbeddingPaths("site.teaser"));
+  }
+
+  @Test
+  void findsShortestCycleThroughCategory() {
+    ClientLibGraph graph = new ClientLibGraph();
+    graph.update(BASE, info(List.of("a"), List.of("b"), List.of()));
+    graph.update(TEASER, info(List.of("b"), List.of(), List.of("c", "a")));
+    graph.update(SITE, info(List.of("c"), List.of("a"), List.of()));
+
+    assertEquals(List.of("a", "b", "a"), graph.findCycle("a"));
+    assertEquals(List.of("c", "a", "b", "c"), graph.findCycle("c"));
+
+    graph.update(TEASER, info(List.of("b"), List.of(), List.of()));
+
+    assertEquals(List.of(), graph.findCycle("a"));
+    graph.update(SITE, info(List.of("c"), List.of("c"), List.of()));
+    assertEquals(List.of("c", "c"), graph.findCycle("c"));
+  }
+
+  /**
+   * @param categories categories of client library;
+   * @param dependencies dependencies of client library;
+   * @param embed embedded categories of client library;
+   * @return info of client library;
+   */
+  private static ClientLibInfo info(List<String> categories, List<String> dependencies,
+      List<String> embed) {
+    return new ClientLibInfo(categories, dependencies, embed);
+  }
+}
@@ -0,0 +1,106 @@
+package com.aem.extension.intellij.aem.extension.clientlib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ClientLibManifest} parsing, editing and rendering of 'css.txt' and 'js.txt'.
+ *
+ * @author Yury Raichonak
+ */
+class ClientLibManifestTest {
+
+  @Test
+  void parsesEntriesRelativeToBases() {
+    ClientLibManifest manifest = ClientLibManifest.parse("# styles\r\n"
+        + "#base=css\r\n"
+        + "a.css\r\n"
+        + "  nested/./b.css  \r\n"
+        + "// comment\r\n"
+        + "\r\n"
+        + "#base=.\r\n"
+        + "c.css\r\n"
+        + "#base=less\r\n"
+        + "../vendor/d.css\r\n");
+
+    assertEquals(List.of("css/a.css", "css/nested/b.css", "c.css", "vendor/d.css"),
+        manifest.getEntries());
+    assertTrue(manifest.contains("./css/a.css"));
+    assertFalse(manifest.contains("a.css"));
+  }
+
+  @Test
+  void rendersUnchangedContentAsIs() {
+    String content = "#base=js\n\nscript.js\n// end";
+
+    assertEquals(content, ClientLibManifest.parse(content).render());
+    assertEquals("", ClientLibManifest.parse("").render());
+  }
+
+  @Test
+  void addsEntriesRelativeToLastBase() {
+    ClientLibManifest manifest = ClientLibManifest.parse("#base=js\na.js\n");
+    manifest.add("js/b.js");
+    manifest.add("vendor/c.js");
+
+    assertEquals("#base=js\na.js\nb.js\n#base=vendor\nc.js\n", manifest.render());
+
+    ClientLibManifest emptyManifest = ClientLibManifest.parse("");
+    emptyManifest.add("js/a.js");
+
+    assertEquals("js/a.js", emptyManifest.render());
+  }
+
+  @Test
+  void wrapsEntryIntoOwnBaseAndRestoresPreviousOne() {
+    ClientLibManifest manifest = ClientLibManifest.parse("#base=js\na.js\nb.js\n");
+    manifest.rename("js/a.js", "vendor/a.js");
+
+    assertEquals("#base=js\n#base=vendor\na.js\n#base=js\nb.js\n", manifest.render());
+    assertEquals(List.of("vendor/a.js", "js/b.js"), manifest.getEntries());
+  }
+
+  @Test
+  void removesFilesAndDirectories() {
+    ClientLibManifest manifest = ClientLibManifest.parse("#base=js\na.js\nlib/b.js\nlib/c.js\n");
+
+    assertTrue(manifest.remove("js/lib"));
+    assertFalse(manifest.remove("js/lib/b.js"));
+    assertTrue(manifest.remove("js/a.js"));
+    assertEquals("#base=js\n", manifest.render());
+  }
+
+  @Test
+  void renamesFilesInPlace() {
+    ClientLibManifest manifest = ClientLibManifest.parse("#base=less\na.less\nb.less\n");
+
+    assertTrue(manifest.rename("less/a.less", "less/first.less"));
+    assertFalse(manifest.rename("less/missing.less", "less/other.less"));
+    assertEquals("#base=less\nfirst.less\nb.less\n", manifest.render());
+  }
+
+  @Test
+  void rewritesBaseOfRenamedDirectoryOnce() {
+    ClientLibManifest manifest =
+        ClientLibManifest.parse("#base=less\na.less\nb.less\nc.less\n#base=less/mixins\nd.less\n");
+
+    assertTrue(manifest.rename("less", "styles"));
+    assertEquals("#base=styles\na.less\nb.less\nc.less\n#base=styles/mixins\nd.less\n",
+        manifest.render());
+  }
+
+  @Test
+  void renamesDirectoryUnderBase() {
+    ClientLibManifest manifest =
+        ClientLibManifest.parse("#base=less\nmixins/a.less\nb.less\n/css/c.less\n");
+
+    assertTrue(manifest.rename("less/mixins", "less/helpers"));
+    assertTrue(manifest.rename("/css", "/styles"));
+    assertEquals("#base=less\nhelpers/a.less\nb.less\n#base=/styles\nc.less\n",
+        manifest.render());
+  }
+}
@@ -0,0 +1,124 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link AemScaffolderCli} exit codes and generation on file system.
+ *
+ * @author Yury Raichonak
+ */
+class AemScaffolderCliTest {
+
+  @TempDir
+  Path directory;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+  @Test
+  void createsComponentWithSelectedFiles() {
+    assertEquals(0, run("component", directory.toString(), "hero", "Content", "--cq-dialog"));
+
+    assertTrue(Files.isRegularFile(directory.resolve("hero/hero.html")));
+    assertTrue(Files.isRegularFile(directory.resolve("hero/.content.xml")));
+    assertTrue(Files.isRegularFile(directory.resolve("hero/_cq_dialog/.content.xml")));
+    assertFalse(Files.exists(directory.resolve("hero/dialog")));
+  }
+
+  @Test
+  void createsClientLibInComponent() throws IOException {
+    assertEquals(0, run("component", directory.toString(), "hero", "Content"));
+    assertEquals(0, run("clientlib", directory.resolve("hero").toString(), "site.hero",
+        "--less", "--js"));
+
+    Path clientLib = directory.resolve("hero/clientLibrary");
+    assertEquals("css/style.less", Files.readString(clientLib.resolve("css.txt")));
+    assertEquals("js/script.js", Files.readString(clientLib.resolve("js.txt")));
+    assertTrue(Files.readString(clientLib.resolve(".content.xml")).contains("site.hero"));
+  }
+
+  @Test
+  void returnsErrorCodeForExistingComponentAndKeepsItsFiles() throws IOException {
+    assertEquals(0, run("component", directory.toString(), "hero", "Content"));
+    Path html = directory.resolve("hero/hero.html");
+    Files.writeString(html, "<div></div>");
+
+    assertEquals(1, run("component", directory.toString(), "hero", "Content"));
+    assertEquals("<div></div>", Files.readString(html));
+    assertEquals(0, run("clientlib", directory.resolve("hero").toString(), "site.hero"));
+    assertEquals(1, run("clientlib", directory.resolve("hero").toString(), "site.hero"));
+  }
+
+  @Test
+  void returnsUsageCodeForWrongArguments() {
+    assertEquals(2, run());
+    assertEquals(2, run("unknown", directory.toString()));
+    assertEquals(2, run("component", directory.toString(), "hero"));
+    assertEquals(2, run("component", directory.toString(), "hero", "Content", "--css"));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage:"));
+    assertFalse(Files.exists(directory.resolve("hero")));
+  }
+
+  @Test
+  void rejectsTitleOutsideOfDirectory() {
+    assertEquals(1, run("component", directory.resolve("apps").toString(), "../hero", "Content"));
+
+    assertFalse(Files.exists(directory.resolve("hero")));
+  }
+
+  @Test
+  void generatesComponentsFromManifestAndSkipsExistingOnes() throws IOException {
+    Path manifest = directory.resolve("components.csv");
+    Files.writeString(manifest, "title,group,cqDialog,clientLibCategories,css\n"
+        + "teaser,Content,yes,site.teaser,yes\n"
+        + "hero,Content,no,,\n");
+    Path apps = directory.resolve("apps");
+    assertEquals(0, run("component", apps.toString(), "hero", "Content"));
+
+    assertEquals(0, run("manifest", apps.toString(), manifest.toString()));
+
+    assertTrue(Files.isRegularFile(apps.resolve("teaser/_cq_dialog/.content.xml")));
+    assertTrue(Files.isRegularFile(apps.resolve("teaser/clientLibrary/css/style.css")));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("hero"));
+    assertTrue(out.toString(StandardCharsets.UTF_8).contains("1 components"));
+  }
+
+  @Test
+  void writesNothingIfManifestIsInvalid() throws IOException {
+    Path manifest = directory.resolve("components.json");
+    Files.writeString(manifest, "[{\"title\": \"teaser\", \"group\": \"Content\"},"
+        + " {\"title\": \"../escape\", \"group\": \"Content\"}]");
+    Path apps = directory.resolve("apps");
+
+    assertEquals(1, run("manifest", apps.toString(), manifest.toString()));
+
+    assertFalse(Files.exists(apps.resolve("teaser")));
+    assertFalse(Files.exists(directory.resolve("escape")));
+  }
+
+  @Test
+  void returnsErrorCodeForMissingManifest() {
+    assertEquals(1, run("manifest", directory.toString(),
+        directory.resolve("missing.csv").toString()));
+  }
+
+  /**
+   * @param args command and its arguments;
+   * @return exit code;
+   */
+  private int run(String... args) {
+    return AemScaffolderCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,67 @@
+package com.aem.extension.intellij.aem.extension.generation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ComponentManifestParser} formats and validation of component titles.
+ *
+ * @author Yury Raichonak
+ */
+class ComponentManifestParserTest {
+
+  @Test
+  void readsJsonManifest() {
+    List<ComponentSpec> specs = ComponentManifestParser.parse("components.json", "[\n"
+        + "  {\"title\": \"teaser\", \"group\": \"Content\", \"cq_dialog\": true,\n"
+        + "   \"clientLibCategories\": \"site.teaser\", \"css\": \"yes\", \"js\": null},\n"
+        + "  {\"title\": \"hero\", \"group\": \"Content\", \"cqDialog\": 0}\n"
+        + "]");
+
+    assertEquals(2, specs.size());
+    assertEquals("teaser", specs.get(0).getTitle());
+    assertTrue(specs.get(0).getGenerateCqDialogXmlFile());
+    assertEquals("site.teaser", specs.get(0).getClientLib().getCategories());
+    assertFalse(specs.get(1).getGenerateCqDialogXmlFile());
+    assertNull(specs.get(1).getClientLib());
+  }
+
+  @Test
+  void readsCsvManifestWithQuotedValues() {
+    List<ComponentSpec> specs = ComponentManifestParser.parse("components.CSV",
+        "Title,Group,cq-dialog\r\n\"hero\",\"Content, Site\",x\r\n\r\n");
+
+    assertEquals(1, specs.size());
+    assertEquals("Content, Site", specs.get(0).getGroupName());
+    assertTrue(specs.get(0).getGenerateCqDialogXmlFile());
+  }
+
+  @Test
+  void rejectsTitlesWhichAreNotNodeNames() {
+    for (String title : List.of("..", ".", "a/b", "ns:hero", "hero[1]", "a|b", "a*")) {
+      assertThrows(IllegalArgumentException.class, () -> ComponentManifestParser.parse(
+          "components.csv", "title,group\n\"" + title + "\",Content\n"));
+    }
+    assertTrue(ComponentManifestParser.isValidNodeName("hero-banner.v2"));
+  }
+
+  @Test
+  void rejectsMalformedManifests() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ComponentManifestParser.parse("components.json", "[{\"title\": \"hero\""));
+    assertThrows(IllegalArgumentException.class,
+        () -> ComponentManifestParser.parse("components.json", "{\"title\": \"hero\"}"));
+    assertThrows(IllegalArgumentException.class, () -> ComponentManifestParser.parse(
+        "components.json", "[{\"title\": \"hero\", \"group\": [\"Content\"]}]"));
+    assertThrows(IllegalArgumentException.class, () -> ComponentManifestParser.parse(
+        "components.csv", "title,group\nhero,Content\nhero,Content\n"));
+    assertThrows(IllegalArgumentException.class,
+        () -> ComponentManifestParser.parse("components.txt", ""));
+  }
+}
@@ -0,0 +1,102 @@
+package com.aem.extension.intellij.aem.extension.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link DocViewReader} names, paths, early stop and rejection of DTDs.
+ *
+ * @author Yury Raichonak
+ */
+class DocViewReaderTest {
+
+  private static final String NAMESPACES = " xmlns:jcr=\"http://www.jcp.org/jcr/1.0\""
+      + " xmlns:cq=\"http://www.day.com/jcr/cq/1.0\"";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void decodesEscapedNamesAndBuildsPaths() {
+    List<String> paths = new ArrayList<>();
+    DocViewReader.read(input("<jcr:root" + NAMESPACES + ">"
+        + "<_x0031_column><_cq_x003a_item/></_x0031_column>"
+        + "<a_xZZZZ_b/><a_x0020__x0021_/>"
+        + "</jcr:root>"), Set.of(), node -> paths.add(node.getDepth() + node.getPath()));
+
+    assertEquals(List.of("0", "11column", "21column/_cq:item", "1a_xZZZZ_b", "1a !"), paths);
+  }
+
+  @Test
+  void readsRequestedPropertiesOnly() {
+    DocViewNode root = DocViewReader.readRoot(input("<jcr:root" + NAMESPACES
+        + " jcr:primaryType=\"cq:Component\" jcr:title=\"Hero\" componentGroup=\"Content\"/>"),
+        Set.of(JcrNames.JCR_PRIMARY_TYPE, JcrNames.JCR_TITLE));
+
+    assertEquals("jcr:root", root.getName());
+    assertEquals("cq:Component", root.getString(JcrNames.JCR_PRIMARY_TYPE));
+    assertEquals("Hero", root.getString(JcrNames.JCR_TITLE));
+    assertFalse(root.hasProperty(JcrNames.COMPONENT_GROUP));
+  }
+
+  @Test
+  void readRootStopsAfterRootNode() {
+    DocViewNode root = DocViewReader.readRoot(input("<jcr:root" + NAMESPACES
+        + " jcr:primaryType=\"cq:ClientLibraryFolder\"><child></broken>"),
+        Set.of(JcrNames.JCR_PRIMARY_TYPE));
+
+    assertEquals("cq:ClientLibraryFolder", root.getString(JcrNames.JCR_PRIMARY_TYPE));
+    assertThrows(IllegalArgumentException.class,
+        () -> DocViewReader.read(input("<jcr:root" + NAMESPACES + "><child></broken>"),
+            Set.of(), node -> true));
+  }
+
+  @Test
+  void rejectsDtdsAndExternalEntities() throws Exception {
+    Path secret = Files.writeString(directory.resolve("secret.txt"), "secret");
+    String externalEntity = "<!DOCTYPE jcr:root [<!ENTITY secret SYSTEM \""
+        + secret.toUri() + "\">]>";
+    String internalEntity = "<!DOCTYPE jcr:root [<!ENTITY title \"Hero\">]>";
+
+    assertThrows(IllegalArgumentException.class, () -> DocViewReader.readRoot(
+        input(externalEntity + "<jcr:root" + NAMESPACES + " jcr:title=\"&secret;\"/>"),
+        Set.of(JcrNames.JCR_TITLE)));
+    assertThrows(IllegalArgumentException.class, () -> DocViewReader.readRoot(
+        input(internalEntity + "<jcr:root" + NAMESPACES + " jcr:title=\"&title;\"/>"),
+        Set.of(JcrNames.JCR_TITLE)));
+    assertThrows(IllegalArgumentException.class, () -> DocViewReader.readRoot(
+        input(internalEntity + "<jcr:root" + NAMESPACES + "/>"), Set.of()));
+  }
+
+  @Test
+  void findsAsciiTextInContentBytes() {
+    byte[] content = "<jcr:root jcr:primaryType=\"cq:Component\"/>"
+        .getBytes(StandardCharsets.UTF_8);
+
+    assertTrue(DocViewReader.contains(content, "cq:Component".getBytes(StandardCharsets.UTF_8)));
+    assertFalse(DocViewReader.contains(content,
+        "cq:ClientLibraryFolder".getBytes(StandardCharsets.UTF_8)));
+    assertFalse(DocViewReader.contains(new byte[0], "cq".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * @param content content of docview file;
+   * @return stream of UTF-8 content;
+   */
+  private static InputStream input(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,121 @@
+package com.aem.extension.intellij.aem.extension.packaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link RawZipWriter} archives with blobs of {@link PackageEntryCache}, read back by
+ * {@link ZipFile}.
+ *
+ * @author Yury Raichonak
+ */
+class RawZipWriterTest {
+
+  private static final LocalDateTime MODIFIED = LocalDateTime.of(2021, 10, 15, 13, 45, 31);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void writesEntriesReadableByZipFile() throws IOException {
+    byte[] xml = "<jcr:root jcr:primaryType=\"nt:unstructured\"/>\n".repeat(100)
+        .getBytes(StandardCharsets.UTF_8);
+    byte[] image = {(byte) 0x89, 'P', 'N', 'G', 0, 1, 2, 3};
+    PackageEntryCache cache = PackageEntryCache.open(directory.resolve("cache"));
+    List<PackageEntry> entries = List.of(
+        cache.resolve(writeSource("jcr_root/apps/site/.content.xml", xml, MODIFIED),
+            "jcr_root/apps/site/.content.xml"),
+        cache.resolve(writeSource("jcr_root/apps/site/icon.png", image, MODIFIED),
+            "jcr_root/apps/site/icon.png"));
+    Path archive = directory.resolve("package.zip");
+
+    try (RawZipWriter writer = new RawZipWriter(archive)) {
+      for (PackageEntry entry : entries) {
+        writer.write(entry, cache.getBlob(entry));
+      }
+    }
+
+    try (ZipFile zip = new ZipFile(archive.toFile(), StandardCharsets.UTF_8)) {
+      assertEquals(2, zip.size());
+      ZipEntry deflated = zip.getEntry("jcr_root/apps/site/.content.xml");
+      assertEquals(ZipEntry.DEFLATED, deflated.getMethod());
+      assertEntry(zip, deflated, xml, Files.size(cache.getBlob(entries.get(0))));
+      ZipEntry stored = zip.getEntry("jcr_root/apps/site/icon.png");
+      assertEquals(ZipEntry.STORED, stored.getMethod());
+      assertEntry(zip, stored, image, image.length);
+      assertEquals(MODIFIED.withSecond(30), deflated.getTimeLocal());
+      assertEquals(MODIFIED.withSecond(30), stored.getTimeLocal());
+    }
+  }
+
+  @Test
+  void writesTimeBeforeDosEpochAsItsStart() throws IOException {
+    byte[] content = "a".getBytes(StandardCharsets.UTF_8);
+    PackageEntryCache cache = PackageEntryCache.open(directory.resolve("cache"));
+    PackageEntry entry = cache.resolve(
+        writeSource("jcr_root/a.txt", content, LocalDateTime.of(1970, 1, 2, 0, 0)),
+        "jcr_root/a.txt");
+    Path archive = directory.resolve("package.zip");
+
+    try (RawZipWriter writer = new RawZipWriter(archive)) {
+      writer.write(entry, cache.getBlob(entry));
+    }
+
+    try (ZipFile zip = new ZipFile(archive.toFile(), StandardCharsets.UTF_8)) {
+      ZipEntry zipEntry = zip.getEntry("jcr_root/a.txt");
+      assertEntry(zip, zipEntry, content, zipEntry.getCompressedSize());
+      assertEquals(LocalDateTime.of(1980, 1, 1, 0, 0), zipEntry.getTimeLocal());
+    }
+  }
+
+  /**
+   * @param zip archive;
+   * @param entry entry of archive;
+   * @param content expected content of entry;
+   * @param compressedSize expected compressed size of entry;
+   * @throws IOException if entry can't be read;
+   */
+  private static void assertEntry(ZipFile zip, ZipEntry entry, byte[] content,
+      long compressedSize) throws IOException {
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    assertEquals(crc.getValue(), entry.getCrc());
+    assertEquals(content.length, entry.getSize());
+    assertEquals(compressedSize, entry.getCompressedSize());
+    try (InputStream input = zip.getInputStream(entry)) {
+      assertArrayEquals(content, input.readAllBytes());
+    }
+  }
+
+  /**
+   * @param name path of source file relative to test directory;
+   * @param content content of file;
+   * @param modified local modification time of file;
+   * @return written file;
+   * @throws IOException if file can't be written;
+   */
+  private Path writeSource(String name, byte[] content, LocalDateTime modified)
+      throws IOException {
+    Path file = directory.resolve("source").resolve(name);
+    Files.createDirectories(file.getParent());
+    Files.write(file, content);
+    Files.setLastModifiedTime(file,
+        FileTime.from(modified.atZone(ZoneId.systemDefault()).toInstant()));
+    return file;
+  }
+}
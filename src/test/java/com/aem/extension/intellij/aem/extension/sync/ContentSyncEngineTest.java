@@ -0,0 +1,203 @@
+package com.aem.extension.intellij.aem.extension.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link ContentSyncEngine} and {@link PackageUploader} against stub package manager,
+ * which checks filter and entries of uploaded packages.
+ *
+ * @author Yury Raichonak
+ */
+class ContentSyncEngineTest {
+
+  private static final String COMPONENT = "apps/site/components/hero/";
+  private static final String DOCVIEW = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" jcr:primaryType=\"nt:unstructured\"/>";
+  private static final String SUCCESS_RESPONSE = "<crx><response><status code=\"200\">ok</status>"
+      + "</response></crx>";
+  private static final byte[] ZIP_SIGNATURE = {'P', 'K', 3, 4};
+  private static final byte[] PART_END = "\r\n--".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir
+  Path directory;
+
+  private final List<byte[]> packages = new ArrayList<>();
+
+  @Test
+  void uploadsDocViewFilesAsTheirNodes() throws Exception {
+    Path contentRoot = createContentRoot();
+    write(contentRoot.resolve(COMPONENT + "_cq_editConfig.xml"), DOCVIEW);
+    write(contentRoot.resolve(COMPONENT + "hero.html"), "<div></div>");
+    write(contentRoot.resolve(COMPONENT + "data.xml"), "<data/>");
+
+    Map<String, String> entries = sync(200, contentRoot, COMPONENT + "_cq_editConfig.xml",
+        COMPONENT + "hero.html", COMPONENT + "data.xml", COMPONENT + "_cq_template.xml");
+
+    String filter = entries.get(ContentPackageBuilder.FILTER_ENTRY);
+    assertTrue(filter.contains("<filter root=\"/apps/site/components/hero/cq:editConfig\"/>"));
+    assertTrue(filter.contains("<filter root=\"/apps/site/components/hero/cq:template\"/>"));
+    assertTrue(filter.contains("<filter root=\"/apps/site/components/hero/hero.html\"/>"));
+    assertTrue(filter.contains("<filter root=\"/apps/site/components/hero/data.xml\"/>"));
+    assertEquals(DOCVIEW, entries.get("jcr_root/" + COMPONENT + "_cq_editConfig.xml"));
+    assertEquals("<div></div>", entries.get("jcr_root/" + COMPONENT + "hero.html"));
+    assertEquals(5, entries.size());
+  }
+
+  @Test
+  void reimportsDirectoryOfDeletedContentXml() throws Exception {
+    Path contentRoot = createContentRoot();
+    write(contentRoot.resolve(COMPONENT + "hero.html"), "<div></div>");
+    write(contentRoot.resolve(COMPONENT + "_cq_dialog/.content.xml"), DOCVIEW);
+
+    Map<String, String> entries = sync(200, contentRoot, COMPONENT + ".content.xml",
+        COMPONENT + "_cq_dialog/.content.xml");
+
+    String filter = entries.get(ContentPackageBuilder.FILTER_ENTRY);
+    assertTrue(filter.contains("<filter root=\"/apps/site/components/hero\"/>"));
+    assertTrue(filter.contains(
+        "<filter root=\"/apps/site/components/hero/cq:dialog\" mode=\"update\"/>"));
+    assertEquals("<div></div>", entries.get("jcr_root/" + COMPONENT + "hero.html"));
+    assertEquals(DOCVIEW, entries.get("jcr_root/" + COMPONENT + "_cq_dialog/.content.xml"));
+    assertEquals(4, entries.size());
+  }
+
+  @Test
+  void reportsFailureIfPackageIsNotInstalled() throws Exception {
+    Path contentRoot = createContentRoot();
+    write(contentRoot.resolve(COMPONENT + "hero.html"), "<div></div>");
+
+    assertNull(sync(500, contentRoot, COMPONENT + "hero.html"));
+    assertEquals(1, packages.size());
+  }
+
+  /**
+   * @return 'jcr_root' directory;
+   * @throws IOException if directory can't be created;
+   */
+  private Path createContentRoot() throws IOException {
+    return Files.createDirectories(directory.resolve("jcr_root"));
+  }
+
+  /**
+   * @param status HTTP status of stub package manager;
+   * @param contentRoot 'jcr_root' directory;
+   * @param changedPaths changed paths relative to content root;
+   * @return entries of uploaded package by names, or null if sync failed;
+   * @throws Exception if stub server fails or sync times out;
+   */
+  private Map<String, String> sync(int status, Path contentRoot, String... changedPaths)
+      throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+        0), 0);
+    server.createContext("/crx/packmgr/service.jsp", exchange -> {
+      synchronized (packages) {
+        packages.add(exchange.getRequestBody().readAllBytes());
+      }
+      byte[] response = SUCCESS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(status, response.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(response);
+      }
+    });
+    server.start();
+    CountDownLatch done = new CountDownLatch(1);
+    boolean[] synced = new boolean[1];
+    PackageUploader uploader = new PackageUploader(
+        "http://localhost:" + server.getAddress().getPort() + "/", "admin", "admin");
+    try (ContentSyncEngine engine = new ContentSyncEngine(uploader, directory.resolve("work"), 10,
+        new ContentSyncEngine.Listener() {
+          @Override
+          public void onSynced(Path root, int filterRootCount, long durationMs) {
+            synced[0] = true;
+            done.countDown();
+          }
+
+          @Override
+          public void onFailed(Path path, RuntimeException error) {
+            done.countDown();
+          }
+        })) {
+      for (String changedPath : changedPaths) {
+        engine.submit(contentRoot, changedPath);
+      }
+      assertTrue(done.await(10, TimeUnit.SECONDS), "Sync timed out");
+    } finally {
+      server.stop(0);
+    }
+    synchronized (packages) {
+      return synced[0] ? readPackage(packages.get(packages.size() - 1)) : null;
+    }
+  }
+
+  /**
+   * @param body multipart body of upload request;
+   * @return entries of package by names;
+   * @throws IOException if package can't be read;
+   */
+  private static Map<String, String> readPackage(byte[] body) throws IOException {
+    int start = indexOf(body, ZIP_SIGNATURE, 0);
+    int end = start;
+    for (int index = start; index >= 0; index = indexOf(body, PART_END, index + 1)) {
+      end = index;
+    }
+    Map<String, String> entries = new TreeMap<>();
+    try (ZipInputStream input =
+        new ZipInputStream(new ByteArrayInputStream(body, start, end - start))) {
+      for (ZipEntry entry = input.getNextEntry(); entry != null; entry = input.getNextEntry()) {
+        entries.put(entry.getName(), new String(input.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * @param array array to search in;
+   * @param target bytes to find;
+   * @param from index to start search from;
+   * @return index of first occurrence, or -1 if there is no such bytes;
+   */
+  private static int indexOf(byte[] array, byte[] target, int from) {
+    for (int i = from; i <= array.length - target.length; i++) {
+      int j = 0;
+      while (j < target.length && array[i + j] == target[j]) {
+        j++;
+      }
+      if (j == target.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param file file to write;
+   * @param content content of file;
+   * @throws IOException if file can't be written;
+   */
+  private static void write(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
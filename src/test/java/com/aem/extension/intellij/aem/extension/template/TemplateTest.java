@@ -0,0 +1,118 @@
+package com.aem.extension.intellij.aem.extension.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Template} substitution, conditional sections and escaping of docview values.
+ *
+ * @author Yury Raichonak
+ */
+class TemplateTest {
+
+  @Test
+  void substitutesValues() {
+    Template template = Template.compile("jcr:title=\"{{title}}\" group=\"{{ group }}\"");
+
+    assertEquals("jcr:title=\"Hero\" group=\"Content\"",
+        template.render(new TemplateContext().value("title", "Hero").value("group", "Content")));
+  }
+
+  @Test
+  void rendersRawValuesAsIs() {
+    Template template = Template.compile("<p>{{&html}}</p>");
+
+    assertEquals("<p><b>a & b</b></p>",
+        template.render(new TemplateContext().value("html", "<b>a & b</b>")));
+  }
+
+  @Test
+  void rendersSectionsByFlags() {
+    Template template = Template.compile("<node\n"
+        + "{{#editConfig}}\n"
+        + "    jcr:primaryType=\"cq:EditConfig\"/>\n"
+        + "{{/editConfig}}\n"
+        + "{{^editConfig}}\n"
+        + "    jcr:primaryType=\"nt:unstructured\"/>\n"
+        + "{{/editConfig}}\n");
+
+    assertEquals("<node\n    jcr:primaryType=\"cq:EditConfig\"/>\n",
+        template.render(new TemplateContext().flag("editConfig", true)));
+    assertEquals("<node\n    jcr:primaryType=\"nt:unstructured\"/>\n",
+        template.render(new TemplateContext().flag("editConfig", false)));
+  }
+
+  @Test
+  void keepsLineOfInlineSection() {
+    Template template = Template.compile("a{{#flag}}b{{/flag}}c\n");
+
+    assertEquals("abc\n", template.render(new TemplateContext().flag("flag", true)));
+    assertEquals("ac\n", template.render(new TemplateContext().flag("flag", false)));
+  }
+
+  @Test
+  void escapesValuesAsXmlAttributes() {
+    Template template = Template.compile("jcr:title=\"{{title}}\"");
+
+    assertEquals("jcr:title=\"&lt;Tom &amp; &quot;Jerry&quot;&gt;&#10;\"",
+        template.render(new TemplateContext().value("title", "<Tom & \"Jerry\">\n")));
+  }
+
+  @Test
+  void escapesValuesAsDocViewValues() {
+    Template template = Template.compile("jcr:title=\"{{title}}\"");
+
+    assertEquals("jcr:title=\"\\{Boolean}true\"",
+        template.render(new TemplateContext().value("title", "{Boolean}true")));
+    assertEquals("jcr:title=\"\\[a,b]\"",
+        template.render(new TemplateContext().value("title", "[a,b]")));
+    assertEquals("jcr:title=\"a\\\\b, c{d}\"",
+        template.render(new TemplateContext().value("title", "a\\b, c{d}")));
+  }
+
+  @Test
+  void escapesItemsOfMultiValues() {
+    Template template = Template.compile("categories=\"[{{*categories}}]\"");
+
+    assertEquals("categories=\"[site.a,site\\,b,\\{c},[d,e\\\\f]\"",
+        template.render(new TemplateContext()
+            .values("categories", List.of("site.a", "site,b", "{c}", "[d", "e\\f"))));
+    assertEquals("categories=\"[]\"",
+        template.render(new TemplateContext().values("categories", List.of())));
+  }
+
+  @Test
+  void presizesOutputToExactLength() {
+    Template template = Template.compile("{{a}}|{{*b}}|{{&c}}");
+    TemplateContext context = new TemplateContext().value("a", "{<&>}").value("c", "&")
+        .values("b", List.of("x,y", "\\"));
+    StringBuilder builder = new StringBuilder();
+
+    template.renderTo(context, builder);
+
+    assertEquals(builder.toString(), template.render(context));
+    assertEquals("\\{&lt;&amp;&gt;}|x\\,y,\\\\|&", template.render(context));
+  }
+
+  @Test
+  void failsOnMissingValuesAndFlags() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Template.compile("{{title}}").render(new TemplateContext()));
+    assertThrows(IllegalArgumentException.class,
+        () -> Template.compile("{{*categories}}").render(new TemplateContext()));
+    assertThrows(IllegalArgumentException.class,
+        () -> Template.compile("{{#flag}}a{{/flag}}").render(new TemplateContext()));
+  }
+
+  @Test
+  void rejectsMalformedTemplates() {
+    assertThrows(IllegalArgumentException.class, () -> Template.compile("{{title"));
+    assertThrows(IllegalArgumentException.class, () -> Template.compile("{{}}"));
+    assertThrows(IllegalArgumentException.class, () -> Template.compile("{{#a}}b"));
+    assertThrows(IllegalArgumentException.class, () -> Template.compile("{{#a}}b{{/c}}"));
+    assertThrows(IllegalArgumentException.class, () -> Template.compile("b{{/a}}"));
+  }
+}